@@ -17,6 +17,7 @@ import static org.junit.Assert.*;
 
 import java.io.*;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.*;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
@@ -341,6 +342,34 @@ public class ScriptGenerationTests extends PDETestCase {
 		}
 	}
 
+	@Test
+	public void testScriptReuse() throws Exception {
+		IFolder buildFolder = newTest("ScriptReuse");
+
+		Utils.generatePluginBuildProperties(buildFolder, null);
+		Utils.generateBundleManifest(buildFolder, "bundle", "1.0.0", null);
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "plugin", "bundle");
+
+		generateScripts(buildFolder, properties);
+		File report = buildFolder.getFile("buildScripts.report").getLocation().toFile();
+		assertTrue(readReport(report).contains("bundle_1.0.0: new"));
+		long timestamp = buildFolder.getFile("build.xml").getLocation().toFile().lastModified();
+
+		generateScripts(buildFolder, properties);
+		assertTrue(readReport(report).contains("bundle_1.0.0: reused"));
+		assertEquals(timestamp, buildFolder.getFile("build.xml").getLocation().toFile().lastModified());
+
+		Properties buildProperties = new Properties();
+		buildProperties.put("javacSource", "1.8");
+		Utils.generatePluginBuildProperties(buildFolder, buildProperties);
+		generateScripts(buildFolder, properties);
+		assertTrue(readReport(report).contains("bundle_1.0.0: inputs changed"));
+	}
+
+	private static List<String> readReport(File report) throws IOException {
+		return Files.readAllLines(report.toPath());
+	}
+
 	@Test
 	public void testBug207500() throws Exception {
 		IFolder buildFolder = newTest("207500");
@@ -60,6 +60,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 	protected boolean generateJnlp = false;
 	protected boolean workspaceBinaries = false;
 	private boolean sourceReferences = false;
+	private ScriptGenerationCache scriptCache = null;
 
 	public static boolean p2Gathering = false;
 
@@ -513,6 +514,17 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 		if (binaryFeature == false || models.isEmpty())
 			return;
 
+		if (scriptCache == null && workingDirectory != null)
+			scriptCache = new ScriptGenerationCache(new File(workingDirectory));
+		try {
+			generateModels(models, scriptCache);
+		} finally {
+			if (scriptCache != null)
+				scriptCache.save();
+		}
+	}
+
+	private void generateModels(List<BundleDescription> models, ScriptGenerationCache cache) throws CoreException {
 		Set<BundleDescription> generatedScripts = new HashSet<>(models.size());
 		for (BundleDescription model : models) {
 			if (generatedScripts.contains(model))
@@ -546,6 +558,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			generator.setSignJars(signJars);
 			generator.setAssociatedEntry(correspondingEntry);
 			generator.setGenerateSourceReferences(sourceReferences);
+			generator.setScriptCache(cache);
 			generator.generate();
 		}
 
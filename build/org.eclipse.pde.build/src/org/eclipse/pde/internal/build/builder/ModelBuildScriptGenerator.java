@@ -14,6 +14,10 @@
 package org.eclipse.pde.internal.build.builder;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.jar.JarFile;
@@ -130,6 +134,7 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 
 	private boolean generateErrorPropertyAttribute = true;
 	private boolean sourceReferences = false;
+	private ScriptGenerationCache scriptCache = null;
 
 	/**
 	 * @see AbstractScriptGenerator#generate()
@@ -153,18 +158,176 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 		if (BundleHelper.getDefault().isDebugging())
 			System.out.println("Generating plugin " + model.getSymbolicName()); //$NON-NLS-1$
 
+		File scriptFile = new File(getLocation(model), buildScriptFileName);
 		String custom = (String) getBuildProperties().get(PROPERTY_CUSTOM);
 		if (custom != null && custom.equalsIgnoreCase("true")) { //$NON-NLS-1$
 			updateExistingScript();
+			if (scriptCache != null)
+				scriptCache.generated(scriptFile, null, fullName, ScriptGenerationCache.REASON_CUSTOM);
 			return;
 		}
 
+		String fingerprint = null;
+		String reason = null;
+		if (scriptCache != null) {
+			fingerprint = computeFingerprint();
+			reason = scriptCache.check(scriptFile, fingerprint);
+			if (reason == null) {
+				if (BundleHelper.getDefault().isDebugging())
+					System.out.println("Reusing script of plugin " + model.getSymbolicName()); //$NON-NLS-1$
+				scriptCache.reused(fullName);
+				return;
+			}
+		}
+
 		openScript(getLocation(model), buildScriptFileName);
 		try {
 			generateBuildScript();
 		} finally {
 			closeScript();
 		}
+		if (scriptCache != null)
+			scriptCache.generated(scriptFile, fingerprint, fullName, reason);
+	}
+
+	/**
+	 * Computes a digest of everything the build script of the model is
+	 * generated from: the manifest and build files of the bundle, its
+	 * resolved dependencies, and the settings of this generator.
+	 */
+	private String computeFingerprint() throws CoreException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			// cannot happen, every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+		StringBuilder inputs = new StringBuilder();
+		inputs.append(fullName).append('\n').append(model.getLocation()).append('\n').append(getLocation(model)).append('\n');
+		inputs.append(buildScriptFileName).append('\n').append(propertiesFileName).append('\n');
+
+		File location = new File(model.getLocation());
+		String[] files = {JarFile.MANIFEST_NAME, Constants.PLUGIN_FILENAME_DESCRIPTOR, Constants.FRAGMENT_FILENAME_DESCRIPTOR, propertiesFileName, PERMISSIONS_FILE, JDT_CORE_PREFS};
+		for (String name : files) {
+			File file = new File(location, name);
+			inputs.append(name).append('=');
+			if (file.isFile()) {
+				try {
+					digest.update(Files.readAllBytes(file.toPath()));
+					inputs.append(file.length());
+				} catch (IOException e) {
+					inputs.append(file.lastModified());
+				}
+			}
+			inputs.append('\n');
+		}
+
+		Properties bundleProperties = (Properties) model.getUserObject();
+		for (Object key : new TreeSet<>(bundleProperties.keySet())) {
+			Object value = bundleProperties.get(key);
+			// skip the feature entries, they have no stable textual form
+			if (value instanceof String || value instanceof Boolean)
+				inputs.append(key).append('=').append(value).append('\n');
+		}
+
+		appendArray(inputs, getClasspathEntries(model));
+		appendArray(inputs, sourceFileExtensions);
+		appendArray(inputs, getPluginPath());
+		if (devEntries != null)
+			appendArray(inputs, devEntries.getDevClassPath(model.getSymbolicName()));
+		for (Config config : getConfigInfos())
+			inputs.append(config).append(',');
+		inputs.append('\n').append(dotOnTheClasspath).append(generateErrorPropertyAttribute).append(isPlatformIndependentIncluded());
+		inputs.append(signJars).append(sourceReferences).append(BuildDirector.p2Gathering).append('\n');
+		inputs.append(customBuildCallbacks).append(customCallbacksBuildpath).append(customCallbacksFailOnError).append(customCallbacksInheritAll).append(warningProperties).append('\n');
+		if (associatedEntry != null)
+			inputs.append(associatedEntry.unpackSet()).append(associatedEntry.isUnpack());
+		if (workspaceOutputFolders != null)
+			inputs.append(new TreeMap<>(workspaceOutputFolders));
+		inputs.append('\n');
+
+		Set<BundleDescription> sourceProviders = featureGenerator != null ? featureGenerator.sourceToGather.getElementEntries().get(model.getSymbolicName()) : null;
+		if (sourceProviders != null) {
+			for (BundleDescription provider : sourceProviders)
+				appendBundle(inputs, provider);
+		}
+		inputs.append('\n');
+		for (BundleDescription dependency : getDependencies())
+			appendBundle(inputs, dependency);
+
+		digest.update(inputs.toString().getBytes(StandardCharsets.UTF_8));
+		byte[] hash = digest.digest();
+		StringBuilder hex = new StringBuilder(hash.length * 2);
+		for (byte b : hash)
+			hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+		return hex.toString();
+	}
+
+	/**
+	 * Returns the bundles the compile classpath of the model is computed from,
+	 * sorted by name: the host, the fragments, the suppliers of required
+	 * bundles and imported packages, and bundles re-exported by them.
+	 */
+	private Collection<BundleDescription> getDependencies() {
+		Map<String, BundleDescription> result = new TreeMap<>();
+		Deque<BundleDescription> pending = new ArrayDeque<>();
+		pending.add(model);
+		boolean direct = true;
+		while (!pending.isEmpty()) {
+			BundleDescription bundle = pending.poll();
+			List<BundleDescription> next = new ArrayList<>();
+			if (direct) {
+				HostSpecification host = bundle.getHost();
+				if (host != null && host.getSupplier() instanceof BundleDescription)
+					next.add((BundleDescription) host.getSupplier());
+				next.addAll(Arrays.asList(bundle.getFragments()));
+				for (ExportPackageDescription imported : bundle.getResolvedImports())
+					next.add(imported.getExporter());
+				next.addAll(Arrays.asList(bundle.getResolvedRequires()));
+			} else {
+				for (BundleSpecification required : bundle.getRequiredBundles()) {
+					if (required.isExported() && required.getSupplier() instanceof BundleDescription)
+						next.add((BundleDescription) required.getSupplier());
+				}
+			}
+			for (BundleDescription dependency : next) {
+				if (dependency != null && dependency != model && result.put(getNormalizedName(dependency) + '@' + dependency.getLocation(), dependency) == null)
+					pending.add(dependency);
+			}
+			direct = false;
+		}
+		return result.values();
+	}
+
+	private void appendBundle(StringBuilder inputs, BundleDescription bundle) throws CoreException {
+		inputs.append(getNormalizedName(bundle)).append('@').append(bundle.getLocation()).append(Utils.isBinary(bundle));
+		appendArray(inputs, getClasspathEntries(bundle));
+		// the exports and their x-internal and x-friends directives decide the access rules of the classpath
+		for (ExportPackageDescription export : bundle.getExportPackages()) {
+			inputs.append(export.getName()).append(';').append(export.getVersion());
+			appendMap(inputs, export.getDirectives());
+			appendMap(inputs, export.getAttributes());
+			inputs.append(',');
+		}
+		inputs.append('\n');
+	}
+
+	private static void appendMap(StringBuilder inputs, Map<String, Object> values) {
+		if (values == null)
+			return;
+		for (Entry<String, Object> entry : new TreeMap<>(values).entrySet()) {
+			Object value = entry.getValue();
+			inputs.append(';').append(entry.getKey()).append('=').append(value instanceof Object[] ? Arrays.toString((Object[]) value) : value);
+		}
+	}
+
+	private static void appendArray(StringBuilder inputs, Object[] values) {
+		if (values != null) {
+			for (Object value : values)
+				inputs.append(value).append(',');
+		}
+		inputs.append('\n');
 	}
 
 	public static String getNormalizedName(BundleDescription bundle) {
@@ -1201,6 +1364,15 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 		this.featureGenerator = featureGenerator;
 	}
 
+	/**
+	 * Sets the cache of script fingerprints. When set, an existing script is
+	 * kept if it was generated from the same inputs.
+	 * @param scriptCache the cache or <code>null</code> to always generate
+	 */
+	void setScriptCache(ScriptGenerationCache scriptCache) {
+		this.scriptCache = scriptCache;
+	}
+
 	/**
 	 * Add the "build.jars" target to the given Ant script using the specified plug-in model.
 	 * 
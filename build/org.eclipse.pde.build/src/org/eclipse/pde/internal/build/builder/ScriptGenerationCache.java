@@ -0,0 +1,125 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.builder;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Remembers the fingerprint of the inputs each plug-in build script was
+ * generated from, so that {@link ModelBuildScriptGenerator} can keep a script
+ * from a previous run instead of writing an identical one again.
+ * <p>
+ * The fingerprints are kept in the working directory of the build. Next to
+ * them a report lists, for each plug-in, whether its script was regenerated
+ * and why.
+ * </p>
+ */
+class ScriptGenerationCache {
+	static final String FINGERPRINTS_FILENAME = "buildScripts.fingerprints"; //$NON-NLS-1$
+	static final String REPORT_FILENAME = "buildScripts.report"; //$NON-NLS-1$
+
+	static final String REASON_NEW = "new"; //$NON-NLS-1$
+	static final String REASON_CHANGED = "inputs changed"; //$NON-NLS-1$
+	static final String REASON_MISSING = "script missing"; //$NON-NLS-1$
+	static final String REASON_MODIFIED = "script modified"; //$NON-NLS-1$
+	static final String REASON_CUSTOM = "custom build script"; //$NON-NLS-1$
+	static final String REUSED = "reused"; //$NON-NLS-1$
+
+	private final File directory;
+	private final Properties fingerprints = new Properties();
+	private final Map<String, String> report = new TreeMap<>();
+	private boolean dirty = false;
+
+	ScriptGenerationCache(File directory) {
+		this.directory = directory;
+		File file = new File(directory, FINGERPRINTS_FILENAME);
+		if (!file.isFile())
+			return;
+		try (InputStream input = new BufferedInputStream(new FileInputStream(file))) {
+			fingerprints.load(input);
+		} catch (IOException | IllegalArgumentException e) {
+			// unreadable, all scripts are generated again
+			fingerprints.clear();
+		}
+	}
+
+	/**
+	 * Returns <code>null</code> if the given script was generated from inputs
+	 * with the given fingerprint and has not been touched since, otherwise the
+	 * reason why it has to be generated again.
+	 */
+	String check(File script, String fingerprint) {
+		String stored = fingerprints.getProperty(script.getAbsolutePath());
+		if (stored == null)
+			return REASON_NEW;
+		if (!script.isFile())
+			return REASON_MISSING;
+		int separator = stored.lastIndexOf(':');
+		if (separator < 0 || !stored.substring(0, separator).equals(fingerprint))
+			return REASON_CHANGED;
+		if (!stored.substring(separator + 1).equals(Long.toString(script.lastModified())))
+			return REASON_MODIFIED;
+		return null;
+	}
+
+	void generated(File script, String fingerprint, String bundle, String reason) {
+		String key = script.getAbsolutePath();
+		if (fingerprint == null)
+			fingerprints.remove(key);
+		else
+			fingerprints.setProperty(key, fingerprint + ':' + script.lastModified());
+		report.put(bundle, reason);
+		dirty = true;
+	}
+
+	void reused(String bundle) {
+		report.put(bundle, REUSED);
+	}
+
+	/**
+	 * Writes the fingerprints and the report of the scripts handled so far.
+	 */
+	void save() {
+		if (report.isEmpty())
+			return;
+		if (!directory.exists() && !directory.mkdirs())
+			return;
+		try {
+			if (dirty) {
+				File tmpFile = File.createTempFile(FINGERPRINTS_FILENAME, ".tmp", directory); //$NON-NLS-1$
+				try (OutputStream output = new BufferedOutputStream(new FileOutputStream(tmpFile))) {
+					fingerprints.store(output, null);
+				}
+				Files.move(tmpFile.toPath(), new File(directory, FINGERPRINTS_FILENAME).toPath(), StandardCopyOption.REPLACE_EXISTING);
+				dirty = false;
+			}
+
+			int regenerated = 0;
+			StringBuilder lines = new StringBuilder();
+			for (Map.Entry<String, String> entry : report.entrySet()) {
+				if (!REUSED.equals(entry.getValue()))
+					regenerated++;
+				lines.append(entry.getKey()).append(": ").append(entry.getValue()).append('\n'); //$NON-NLS-1$
+			}
+			String header = "# " + regenerated + " of " + report.size() + " plug-in build scripts generated\n"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			Files.write(new File(directory, REPORT_FILENAME).toPath(), (header + lines).getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			// the cache is an optimization only
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.site;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.internal.build.BundleHelper;
+
+/**
+ * Persistent cache of the bundle manifests read by {@link PDEState}, kept in
+ * the state location of PDE Build so that later builds against the same
+ * bundles do not have to open every jar again.
+ * <p>
+ * Entries are keyed by the absolute bundle location and are only reused if the
+ * time stamp and size of the jar (or of the <code>MANIFEST.MF</code> of a
+ * folder) are unchanged. The cache holds the manifest as read from disk, before
+ * qualifiers are replaced, since qualifiers differ from one build to the next.
+ * Only the entries used by a build are written back, so entries of bundles that
+ * have gone away are dropped.
+ * </p>
+ */
+public class ManifestCache {
+	private static final String CACHE_FILENAME = "manifests.cache"; //$NON-NLS-1$
+	private static final int FORMAT_VERSION = 1;
+	/** guards against corrupt cache files, no manifest header comes close to this size */
+	private static final int MAX_STRING_LENGTH = 1 << 24;
+
+	private static class Entry {
+		final long timestamp;
+		final long size;
+		final Map<String, String> headers;
+
+		Entry(long timestamp, long size, Map<String, String> headers) {
+			this.timestamp = timestamp;
+			this.size = size;
+			this.headers = headers;
+		}
+	}
+
+	private final File cacheFile;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final Map<String, Entry> used = new ConcurrentHashMap<>();
+	private volatile boolean dirty;
+
+	/**
+	 * Returns a cache backed by the state location of PDE Build, or
+	 * <code>null</code> if there is no state location (e.g. when running
+	 * without an instance area).
+	 */
+	public static ManifestCache create() {
+		BundleHelper helper = BundleHelper.getDefault();
+		if (helper == null)
+			return null; // not running or shutting down
+		try {
+			IPath location = helper.getStateLocation();
+			ManifestCache cache = new ManifestCache(location.append(CACHE_FILENAME).toFile());
+			cache.load();
+			return cache;
+		} catch (IllegalStateException e) {
+			return null;
+		}
+	}
+
+	ManifestCache(File cacheFile) {
+		this.cacheFile = cacheFile;
+	}
+
+	/**
+	 * Returns a copy of the cached manifest of the given bundle, or <code>null</code>
+	 * if there is no up to date entry.
+	 */
+	public Dictionary<String, String> get(File bundleLocation) {
+		File source = getManifestSource(bundleLocation);
+		String key = bundleLocation.getAbsolutePath();
+		Entry entry = entries.get(key);
+		if (entry == null || entry.timestamp != source.lastModified() || entry.size != source.length())
+			return null;
+		used.put(key, entry);
+		return new Hashtable<>(entry.headers);
+	}
+
+	/**
+	 * Remembers the manifest read from the given bundle.
+	 */
+	public void put(File bundleLocation, Dictionary<String, String> manifest) {
+		File source = getManifestSource(bundleLocation);
+		long timestamp = source.lastModified();
+		if (timestamp == 0)
+			return;
+		Map<String, String> headers = new HashMap<>(manifest.size());
+		for (Enumeration<String> keys = manifest.keys(); keys.hasMoreElements();) {
+			String header = keys.nextElement();
+			headers.put(header, manifest.get(header));
+		}
+		Entry entry = new Entry(timestamp, source.length(), headers);
+		String key = bundleLocation.getAbsolutePath();
+		entries.put(key, entry);
+		used.put(key, entry);
+		dirty = true;
+	}
+
+	private static File getManifestSource(File bundleLocation) {
+		if (bundleLocation.isFile())
+			return bundleLocation;
+		return new File(bundleLocation, JarFile.MANIFEST_NAME);
+	}
+
+	private void load() {
+		if (!cacheFile.isFile())
+			return;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+			if (in.readInt() != FORMAT_VERSION)
+				return;
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String key = readString(in);
+				long timestamp = in.readLong();
+				long size = in.readLong();
+				int headerCount = in.readInt();
+				Map<String, String> headers = new HashMap<>(headerCount * 4 / 3 + 1);
+				for (int j = 0; j < headerCount; j++) {
+					headers.put(readString(in), readString(in));
+				}
+				entries.put(key, new Entry(timestamp, size, headers));
+			}
+		} catch (IOException e) {
+			// corrupt or truncated, start over
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Writes the entries used since this cache was loaded, if anything changed.
+	 */
+	public void save() {
+		if (!dirty && used.size() == entries.size())
+			return;
+		File dir = cacheFile.getParentFile();
+		if (!dir.exists() && !dir.mkdirs())
+			return;
+		try {
+			File tmpFile = File.createTempFile(CACHE_FILENAME, ".tmp", dir); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(used.size());
+				for (Map.Entry<String, Entry> element : used.entrySet()) {
+					Entry entry = element.getValue();
+					writeString(out, element.getKey());
+					out.writeLong(entry.timestamp);
+					out.writeLong(entry.size);
+					out.writeInt(entry.headers.size());
+					for (Map.Entry<String, String> header : entry.headers.entrySet()) {
+						writeString(out, header.getKey());
+						writeString(out, header.getValue());
+					}
+				}
+			}
+			Files.move(tmpFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			dirty = false;
+		} catch (IOException e) {
+			// the cache is an optimization only
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > MAX_STRING_LENGTH)
+			throw new IOException("Invalid string length " + length); //$NON-NLS-1$
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
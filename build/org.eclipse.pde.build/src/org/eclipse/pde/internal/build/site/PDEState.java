@@ -18,6 +18,7 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.util.*;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import org.eclipse.core.runtime.*;
@@ -47,6 +48,7 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	private final Set<Dictionary<String, String>> convertedManifests;
 	private long lastSortingDate = 0L;
 	private String[] eeSources;
+	private ManifestCache manifestCache;
 
 	protected long getNextId() {
 		return ++id;
@@ -206,17 +208,27 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public boolean addBundle(File bundleLocation) {
-		Dictionary<String, String> manifest;
-		manifest = loadManifest(bundleLocation);
+		return addBundle(bundleLocation, loadBundleManifest(bundleLocation));
+	}
+
+	private boolean addBundle(File bundleLocation, Dictionary<String, String> manifest) {
 		if (manifest == null) {
 			return addFlexibleRoot(bundleLocation);
 		}
+		return addBundle(manifest, bundleLocation);
+	}
+
+	//Load and normalize the manifest of a bundle, this does not touch the state and may run concurrently
+	private Dictionary<String, String> loadBundleManifest(File bundleLocation) {
+		Dictionary<String, String> manifest = loadManifest(bundleLocation);
+		if (manifest == null)
+			return null;
 		try {
 			hasQualifier(bundleLocation, manifest);
 		} catch (BundleException e) {
 			//should not happen since we know the header
 		}
-		return addBundle(manifest, bundleLocation);
+		return manifest;
 	}
 
 	private boolean addFlexibleRoot(File bundleLocation) {
@@ -279,8 +291,21 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 		return qualifierInfo;
 	}
 
-	//Return a dictionary representing a manifest. The data may result from plugin.xml conversion  
+	//Return a dictionary representing a manifest, from the manifest cache if possible
 	private Dictionary<String, String> basicLoadManifest(File bundleLocation) {
+		ManifestCache cache = manifestCache;
+		if (cache != null) {
+			Dictionary<String, String> cached = cache.get(bundleLocation);
+			if (cached != null)
+				return cached;
+		}
+		Dictionary<String, String> manifest = readManifest(bundleLocation);
+		if (manifest != null && cache != null)
+			cache.put(bundleLocation, manifest);
+		return manifest;
+	}
+
+	private Dictionary<String, String> readManifest(File bundleLocation) {
 		InputStream manifestStream = null;
 		ZipFile jarFile = null;
 		try {
@@ -355,8 +380,19 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public void addBundles(Collection<File> bundles) {
-		for (File bundle : bundles) {
-			addBundle(bundle);
+		manifestCache = ManifestCache.create();
+		try {
+			// read the manifests concurrently, but add them to the state in the
+			// given order so that bundle ids are reproducible
+			List<File> locations = new ArrayList<>(bundles);
+			List<Dictionary<String, String>> manifests = locations.parallelStream().map(this::loadBundleManifest).collect(Collectors.toList());
+			for (int i = 0; i < locations.size(); i++) {
+				addBundle(locations.get(i), manifests.get(i));
+			}
+			if (manifestCache != null)
+				manifestCache.save();
+		} finally {
+			manifestCache = null;
 		}
 	}
 
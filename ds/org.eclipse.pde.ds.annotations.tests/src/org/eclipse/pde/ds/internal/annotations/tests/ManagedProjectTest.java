@@ -1,17 +1,26 @@
 package org.eclipse.pde.ds.internal.annotations.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeNotNull;
 import static org.junit.Assume.assumeTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.IFileBuffer;
+import org.eclipse.core.filebuffers.IFileBufferListener;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
 import org.eclipse.core.resources.ICommand;
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.ds.internal.annotations.DSAnnotationCompilationParticipant;
@@ -65,4 +74,66 @@ public class ManagedProjectTest extends CompilationParticipantTest {
 		IMarker[] markers = testProject.findMarkers(DS_PROBLEM_MARKER, true, IResource.DEPTH_INFINITE);
 		assertEquals(0, markers.length);
 	}
+
+	@Test
+	public void unchangedComponentNotRewritten() throws Exception {
+		IFile dsFile = testProject.getFile("OSGI-INF/ds.annotations.test1.DefaultComponent.xml");
+		assumeTrue("Missing component descriptor!", dsFile.exists());
+		long stamp = dsFile.getModificationStamp();
+		List<IPath> buffers = new ArrayList<>();
+		IFileBufferListener listener = new IFileBufferListener() {
+			@Override
+			public void bufferCreated(IFileBuffer buffer) {
+				buffers.add(buffer.getLocation());
+			}
+
+			@Override
+			public void bufferDisposed(IFileBuffer buffer) {
+			}
+
+			@Override
+			public void bufferContentAboutToBeReplaced(IFileBuffer buffer) {
+			}
+
+			@Override
+			public void bufferContentReplaced(IFileBuffer buffer) {
+			}
+
+			@Override
+			public void stateChanging(IFileBuffer buffer) {
+			}
+
+			@Override
+			public void dirtyStateChanged(IFileBuffer buffer, boolean isDirty) {
+			}
+
+			@Override
+			public void stateValidationChanged(IFileBuffer buffer, boolean isStateValidated) {
+			}
+
+			@Override
+			public void underlyingFileMoved(IFileBuffer buffer, IPath path) {
+			}
+
+			@Override
+			public void underlyingFileDeleted(IFileBuffer buffer) {
+			}
+
+			@Override
+			public void stateChangeFailed(IFileBuffer buffer) {
+			}
+		};
+		ITextFileBufferManager bufferManager = FileBuffers.getTextFileBufferManager();
+		bufferManager.addFileBufferListener(listener);
+		try {
+			testProject.getFile("src/ds/annotations/test1/DefaultComponent.java").touch(null);
+			testProject.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		} finally {
+			bufferManager.removeFileBufferListener(listener);
+		}
+		// the stored hash is up to date, so the descriptor is not even opened
+		assertFalse("Unchanged component descriptor opened!", buffers.contains(dsFile.getFullPath()));
+		assertEquals("Unchanged component descriptor rewritten!", stamp, dsFile.getModificationStamp());
+		assertTrue(dsFile.exists());
+	}
 }
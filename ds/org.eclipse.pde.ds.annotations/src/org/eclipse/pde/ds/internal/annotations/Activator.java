@@ -38,6 +38,8 @@ public class Activator extends AbstractUIPlugin {
 
 	public static final String PREF_GENERATE_BAPL = "generateBundleActivationPolicyLazy"; //$NON-NLS-1$
 
+	public static final String PREF_SKIP_UNCHANGED = "skipUnchangedComponents"; //$NON-NLS-1$
+
 	public static final String DEFAULT_PATH = "OSGI-INF"; //$NON-NLS-1$
 
 	public static final String CP_ATTRIBUTE = "org.eclipse.pde.ds.annotations.cp"; //$NON-NLS-1$
@@ -13,11 +13,21 @@
  *******************************************************************************/
 package org.eclipse.pde.ds.internal.annotations;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
 import org.eclipse.core.resources.ICommand;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -27,12 +37,22 @@ import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.compiler.BuildContext;
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentRewriteSession;
+import org.eclipse.jface.text.DocumentRewriteSessionType;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.link.LinkedModeModel;
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
 
 public class AnnotationProcessor extends ASTRequestor {
 
@@ -46,6 +66,8 @@ public class AnnotationProcessor extends ASTRequestor {
 
 	private boolean hasBuilder;
 
+	private final List<DescriptorUpdate> updates = new ArrayList<>();
+
 	public AnnotationProcessor(ProjectContext context, Map<ICompilationUnit, BuildContext> fileMap) {
 		this.context = context;
 		this.fileMap = fileMap;
@@ -65,19 +87,24 @@ public class AnnotationProcessor extends ASTRequestor {
 		// determine CU key
 		String cuKey = getCompilationUnitKey(source);
 
-		context.getUnprocessed().remove(cuKey);
-
+		// compilation units may be processed by several processors concurrently
 		ProjectState state = context.getState();
+		synchronized (state) {
+			context.getUnprocessed().remove(cuKey);
+		}
+
 		HashMap<String, String> dsKeys = new HashMap<>();
 		HashSet<DSAnnotationProblem> problems = new HashSet<>();
 
 		ast.accept(new AnnotationVisitor(this, state, dsKeys, problems));
 
 		// track abandoned files (may be garbage)
-		Collection<String> oldDSKeys = state.updateMappings(cuKey, dsKeys);
-		if (oldDSKeys != null) {
-			oldDSKeys.removeAll(dsKeys.values());
-			context.getAbandoned().addAll(oldDSKeys);
+		synchronized (state) {
+			Collection<String> oldDSKeys = state.updateMappings(cuKey, dsKeys);
+			if (oldDSKeys != null) {
+				oldDSKeys.removeAll(dsKeys.values());
+				context.getAbandoned().addAll(oldDSKeys);
+			}
 		}
 
 		if (!problems.isEmpty()) {
@@ -128,6 +155,165 @@ public class AnnotationProcessor extends ASTRequestor {
 		folder.create(true, true, null);
 	}
 
+	/**
+	 * Reads the current content of a component descriptor. If the file is
+	 * connected to a text file buffer, e.g. because it is open in an editor,
+	 * the (possibly unsaved) content of the buffer is returned.
+	 */
+	static String readContent(IFile file) throws CoreException {
+		ITextFileBuffer buffer = FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+		if (buffer != null) {
+			return buffer.getDocument().get();
+		}
+
+		if (!file.exists()) {
+			return ""; //$NON-NLS-1$
+		}
+
+		try (InputStream in = file.getContents(true)) {
+			return new String(in.readAllBytes(), file.getCharset());
+		} catch (IOException e) {
+			throw new CoreException(Status.error(String.format("Unable to read model file '%s'.", file.getFullPath()), e)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Records a pending update of a component descriptor. Descriptors are
+	 * generated while the ASTs are visited, possibly in a worker thread, but
+	 * only written by {@link #applyUpdates()} in the build thread.
+	 *
+	 * @param file the descriptor file
+	 * @param oldFile the previous location of the descriptor to move from, or <code>null</code>
+	 * @param text the new content, or <code>null</code> if unchanged
+	 * @param implClass the component implementation class
+	 * @param hash the hash of the component's inputs, or <code>null</code> if not tracked
+	 */
+	void addUpdate(IFile file, IFile oldFile, String text, String implClass, String hash) {
+		synchronized (updates) {
+			updates.add(new DescriptorUpdate(file, oldFile, text, implClass, hash));
+		}
+	}
+
+	/**
+	 * Writes the descriptors generated by this processor. Must be called in
+	 * the build thread after all ASTs have been accepted.
+	 */
+	void applyUpdates() {
+		List<DescriptorUpdate> pending;
+		synchronized (updates) {
+			pending = new ArrayList<>(updates);
+			updates.clear();
+		}
+
+		pending.sort(Comparator.comparing(update -> update.file.getFullPath().toString()));
+		for (DescriptorUpdate update : pending) {
+			try {
+				applyUpdate(update);
+			} catch (CoreException e) {
+				Activator.log(e);
+			}
+		}
+	}
+
+	private void applyUpdate(DescriptorUpdate update) throws CoreException {
+		IFile file = update.file;
+		verifyOutputLocation(file);
+
+		if (update.oldFile != null && update.oldFile.exists() && !file.exists()) {
+			try {
+				update.oldFile.move(file.getFullPath(), true, true, null);
+			} catch (CoreException e) {
+				Activator.log(Status.warning(String.format("Unable to move model file from '%s' to '%s'.", update.oldFile.getFullPath(), file.getFullPath()), e)); //$NON-NLS-1$
+			}
+		}
+
+		if (update.text != null) {
+			write(file, update.text);
+		}
+
+		if (update.hash != null) {
+			ProjectState state = context.getState();
+			synchronized (state) {
+				state.setComponentHash(update.implClass, String.format("%s:%d", update.hash, file.getModificationStamp())); //$NON-NLS-1$
+			}
+		}
+	}
+
+	private void write(IFile file, String text) throws CoreException {
+		IPath filePath = file.getFullPath();
+		ITextFileBufferManager bufferManager = FileBuffers.getTextFileBufferManager();
+		bufferManager.connect(filePath, LocationKind.IFILE, null);
+		try {
+			ITextFileBuffer buffer = bufferManager.getTextFileBuffer(filePath, LocationKind.IFILE);
+			if (buffer.isDirty()) {
+				buffer.commit(null, true);
+			}
+
+			IDocument document = buffer.getDocument();
+			if (text.equals(document.get())) {
+				return;
+			}
+
+			if (debug.isDebugging()) {
+				debug.trace(String.format("Saving model: %s", filePath)); //$NON-NLS-1$
+			}
+
+			final ReplaceEdit edit = new ReplaceEdit(0, document.getLength(), text);
+			if (buffer.isSynchronizationContextRequested()) {
+				final CoreException[] ex = new CoreException[1];
+				final CountDownLatch latch = new CountDownLatch(1);
+				bufferManager.execute(() -> {
+					try {
+						performEdit(document, edit);
+					} catch (CoreException e) {
+						ex[0] = e;
+					}
+
+					latch.countDown();
+				});
+
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					if (debug.isDebugging())
+						debug.trace("Interrupted while waiting for edits to complete on display thread.", e); //$NON-NLS-1$
+				}
+
+				if (ex[0] != null) {
+					throw ex[0];
+				}
+			} else {
+				performEdit(document, edit);
+			}
+
+			buffer.commit(null, true);
+		} finally {
+			bufferManager.disconnect(filePath, LocationKind.IFILE, null);
+		}
+	}
+
+	private void performEdit(IDocument document, TextEdit edit) throws CoreException {
+		DocumentRewriteSession session = null;
+		try {
+			if (document instanceof IDocumentExtension4) {
+				session = ((IDocumentExtension4) document).startRewriteSession(DocumentRewriteSessionType.UNRESTRICTED);
+			}
+
+			LinkedModeModel.closeAllModels(document);
+			edit.apply(document);
+		} catch (MalformedTreeException | BadLocationException e) {
+			throw new CoreException(Status.error("Error applying changes to component model.", e)); //$NON-NLS-1$
+		} finally {
+			if (session != null) {
+				((IDocumentExtension4) document).stopRewriteSession(session);
+			}
+		}
+	}
+
+	boolean isSkipUnchanged() {
+		return context.isSkipUnchanged();
+	}
+
 	void verifyOutputLocation(IFile file) throws CoreException {
 		if (hasBuilder) {
 			return;
@@ -148,4 +334,25 @@ public class AnnotationProcessor extends ASTRequestor {
 			Activator.log(e);
 		}
 	}
-}
\ No newline at end of file
+
+	private static class DescriptorUpdate {
+
+		final IFile file;
+
+		final IFile oldFile;
+
+		final String text;
+
+		final String implClass;
+
+		final String hash;
+
+		DescriptorUpdate(IFile file, IFile oldFile, String text, String implClass, String hash) {
+			this.file = file;
+			this.oldFile = oldFile;
+			this.text = text;
+			this.implClass = implClass;
+			this.hash = hash;
+		}
+	}
+}
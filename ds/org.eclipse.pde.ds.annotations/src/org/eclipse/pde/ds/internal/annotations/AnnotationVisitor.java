@@ -34,19 +34,13 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CountDownLatch;
 import java.util.regex.Pattern;
 
-import org.eclipse.core.filebuffers.FileBuffers;
-import org.eclipse.core.filebuffers.ITextFileBuffer;
-import org.eclipse.core.filebuffers.ITextFileBufferManager;
-import org.eclipse.core.filebuffers.LocationKind;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
-import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
@@ -68,12 +62,8 @@ import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.NormalAnnotation;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
-import org.eclipse.jface.text.BadLocationException;
-import org.eclipse.jface.text.DocumentRewriteSession;
-import org.eclipse.jface.text.DocumentRewriteSessionType;
+import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
-import org.eclipse.jface.text.IDocumentExtension4;
-import org.eclipse.jface.text.link.LinkedModeModel;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.IModelChangedEvent;
 import org.eclipse.pde.core.ModelChangedEvent;
@@ -96,8 +86,6 @@ import org.eclipse.pde.internal.ds.core.IDSReference;
 import org.eclipse.pde.internal.ds.core.IDSService;
 import org.eclipse.pde.internal.ds.core.text.DSModel;
 import org.eclipse.pde.internal.ui.util.TextUtil;
-import org.eclipse.text.edits.MalformedTreeException;
-import org.eclipse.text.edits.MultiTextEdit;
 import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
 import org.osgi.framework.BundleContext;
@@ -358,31 +346,52 @@ public class AnnotationVisitor extends ASTVisitor {
 
 		IProject project = typeBinding.getJavaElement().getJavaProject().getProject();
 		IFile file = PDEProject.getBundleRelativeFile(project, path);
-		IPath filePath = file.getFullPath();
 
-		processor.verifyOutputLocation(file);
+		String oldPath;
+		String storedHash;
+		synchronized (state) {
+			oldPath = state.getModelFile(implClass);
+			storedHash = state.getComponentHash(implClass);
+		}
 
 		// handle file move/rename
-		String oldPath = state.getModelFile(implClass);
+		IFile oldFile = null;
 		if (oldPath != null && !oldPath.equals(dsKey) && !file.exists()) {
-			IFile oldFile = PDEProject.getBundleRelativeFile(project, Path.fromPortableString(oldPath));
-			if (oldFile.exists()) {
-				try {
-					oldFile.move(file.getFullPath(), true, true, null);
-				} catch (CoreException e) {
-					Activator.log(Status.warning(String.format("Unable to move model file from '%s' to '%s'.", oldPath, file.getFullPath()), e)); //$NON-NLS-1$
-				}
+			IFile candidate = PDEProject.getBundleRelativeFile(project, Path.fromPortableString(oldPath));
+			if (candidate.exists()) {
+				oldFile = candidate;
 			}
 		}
 
-		ITextFileBufferManager bufferManager = FileBuffers.getTextFileBufferManager();
-		bufferManager.connect(filePath, LocationKind.IFILE, null);
-		ITextFileBuffer buffer = bufferManager.getTextFileBuffer(filePath, LocationKind.IFILE);
-		if (buffer.isDirty()) {
-			buffer.commit(null, true);
+		String hash = null;
+		if (processor.isSkipUnchanged()) {
+			hash = ComponentFingerprint.compute(state, dsKey, typeBinding);
+			String stamp = String.format("%s:%d", hash, file.getModificationStamp()); //$NON-NLS-1$
+			if (oldFile == null && file.exists() && stamp.equals(storedHash)) {
+				if (debug.isDebugging()) {
+					debug.trace(String.format("Model up to date: %s", file.getFullPath())); //$NON-NLS-1$
+				}
+
+				// problems are not persisted, so the annotations are still validated
+				// against a scratch model which is then discarded
+				DSModel scratchModel = new DSModel(new Document(), true);
+				scratchModel.setUnderlyingResource(file);
+				scratchModel.setCharset(StandardCharsets.UTF_8);
+				scratchModel.load();
+				try {
+					processComponent(scratchModel, type, typeBinding, annotation, annotationBinding, params, name, implClass);
+				} finally {
+					scratchModel.dispose();
+				}
+
+				processor.addUpdate(file, null, null, implClass, null);
+				return;
+			}
 		}
 
-		IDocument document = buffer.getDocument();
+		// the model is built on a copy of the current content; the resulting
+		// text is written by the processor once all compilation units are done
+		final IDocument document = new Document(AnnotationProcessor.readContent(oldFile == null ? file : oldFile));
 
 		final DSModel dsModel = new DSModel(document, true);
 		dsModel.setUnderlyingResource(file);
@@ -391,11 +400,8 @@ public class AnnotationVisitor extends ASTVisitor {
 
 		// note: we can't use XMLTextChangeListener because it generates overlapping edits!
 		// thus we replace the entire content with one edit (if changed)
-		final IDocument fDoc = document;
 		dsModel.addModelChangedListener(new IModelTextChangeListener() {
 
-			private final IDocument document = fDoc;
-
 			private boolean changed;
 
 			@Override
@@ -424,65 +430,10 @@ public class AnnotationVisitor extends ASTVisitor {
 			processComponent(dsModel, type, typeBinding, annotation, annotationBinding, params, name, implClass);
 
 			TextEdit[] edits = dsModel.getLastTextChangeListener().getTextOperations();
-			if (edits.length > 0) {
-				if (debug.isDebugging()) {
-					debug.trace(String.format("Saving model: %s", file.getFullPath())); //$NON-NLS-1$
-				}
-
-				final MultiTextEdit edit = new MultiTextEdit();
-				edit.addChildren(edits);
-
-				if (buffer.isSynchronizationContextRequested()) {
-					final IDocument doc = document;
-					final CoreException[] ex = new CoreException[1];
-					final CountDownLatch latch = new CountDownLatch(1);
-					bufferManager.execute(() -> {
-						try {
-							performEdit(doc, edit);
-						} catch (CoreException e) {
-							ex[0] = e;
-						}
-
-						latch.countDown();
-					});
-
-					try {
-						latch.await();
-					} catch (InterruptedException e) {
-						if (debug.isDebugging())
-							debug.trace("Interrupted while waiting for edits to complete on display thread.", e); //$NON-NLS-1$
-					}
-
-					if (ex[0] != null) {
-						throw ex[0];
-					}
-				} else {
-					performEdit(document, edit);
-				}
-
-				buffer.commit(null, true);
-			}
+			String text = edits.length > 0 ? ((ReplaceEdit) edits[0]).getText() : null;
+			processor.addUpdate(file, oldFile, text, implClass, hash);
 		} finally {
 			dsModel.dispose();
-			bufferManager.disconnect(buffer.getLocation(), LocationKind.IFILE, null);
-		}
-	}
-
-	private void performEdit(IDocument document, TextEdit edit) throws CoreException {
-		DocumentRewriteSession session = null;
-		try {
-			if (document instanceof IDocumentExtension4) {
-				session = ((IDocumentExtension4) document).startRewriteSession(DocumentRewriteSessionType.UNRESTRICTED);
-			}
-
-			LinkedModeModel.closeAllModels(document);
-			edit.apply(document);
-		} catch (MalformedTreeException | BadLocationException e) {
-			throw new CoreException(Status.error("Error applying changes to component model.", e)); //$NON-NLS-1$
-		} finally {
-			if (session != null) {
-				((IDocumentExtension4) document).stopRewriteSession(session);
-			}
 		}
 	}
 
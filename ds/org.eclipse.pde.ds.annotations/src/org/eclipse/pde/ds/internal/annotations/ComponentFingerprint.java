@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ds.internal.annotations;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.IAnnotationBinding;
+import org.eclipse.jdt.core.dom.IMemberValuePairBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+
+/**
+ * Computes a canonical hash of everything a generated component descriptor is
+ * derived from: the build settings, the component type with its super types,
+ * the signatures and annotations of its members, and the annotation types
+ * (e.g. component property types) used by them. Method bodies are not part of
+ * the hash, so editing them does not cause the descriptor to be regenerated.
+ */
+class ComponentFingerprint {
+
+	private static final char SEP = '\u0000';
+
+	private final StringBuilder buf = new StringBuilder();
+
+	private final Set<String> visitedAnnotationTypes = new HashSet<>();
+
+	private ComponentFingerprint() {
+	}
+
+	static String compute(ProjectState state, String dsKey, ITypeBinding typeBinding) {
+		ComponentFingerprint fingerprint = new ComponentFingerprint();
+		fingerprint.append(state.getSpecVersion().name()).append(state.getPath()).append(dsKey);
+		fingerprint.appendType(typeBinding);
+		return fingerprint.digest();
+	}
+
+	private ComponentFingerprint append(String value) {
+		buf.append(value).append(SEP);
+		return this;
+	}
+
+	private void appendType(ITypeBinding typeBinding) {
+		for (ITypeBinding type = typeBinding; type != null; type = type.getSuperclass()) {
+			append(type.getKey()).append(Integer.toString(type.getModifiers()));
+			if (Object.class.getName().equals(type.getQualifiedName())) {
+				break;
+			}
+
+			for (ITypeBinding iface : type.getInterfaces()) {
+				append(iface.getKey());
+			}
+
+			appendAnnotations(type.getAnnotations());
+
+			for (IVariableBinding field : type.getDeclaredFields()) {
+				append(field.getKey()).append(field.getType().getKey()).append(Integer.toString(field.getModifiers()));
+				appendAnnotations(field.getAnnotations());
+			}
+
+			for (IMethodBinding method : type.getDeclaredMethods()) {
+				append(method.getKey()).append(Integer.toString(method.getModifiers()));
+				appendAnnotations(method.getAnnotations());
+				ITypeBinding[] paramTypes = method.getParameterTypes();
+				for (int i = 0; i < paramTypes.length; ++i) {
+					appendAnnotations(method.getParameterAnnotations(i));
+					if (paramTypes[i].isAnnotation()) {
+						// configuration/component property type
+						appendAnnotationType(paramTypes[i]);
+					}
+				}
+			}
+		}
+	}
+
+	private void appendAnnotations(IAnnotationBinding[] annotations) {
+		for (IAnnotationBinding annotation : annotations) {
+			appendAnnotation(annotation);
+		}
+	}
+
+	private void appendAnnotation(IAnnotationBinding annotation) {
+		ITypeBinding annotationType = annotation.getAnnotationType();
+		append("@").append(annotationType == null ? annotation.getName() : annotationType.getKey()); //$NON-NLS-1$
+		for (IMemberValuePairBinding pair : annotation.getDeclaredMemberValuePairs()) {
+			append(pair.getName());
+			appendValue(pair.getValue());
+		}
+
+		if (annotationType != null) {
+			appendAnnotationType(annotationType);
+		}
+	}
+
+	private void appendAnnotationType(ITypeBinding annotationType) {
+		if (!visitedAnnotationTypes.add(annotationType.getKey())) {
+			return;
+		}
+
+		for (IMethodBinding element : annotationType.getDeclaredMethods()) {
+			append(element.getKey());
+			appendValue(element.getDefaultValue());
+		}
+
+		for (IVariableBinding field : annotationType.getDeclaredFields()) {
+			append(field.getKey());
+			appendValue(field.getConstantValue());
+		}
+
+		for (IAnnotationBinding meta : annotationType.getAnnotations()) {
+			ITypeBinding metaType = meta.getAnnotationType();
+			// meta-annotations such as @ComponentPropertyType affect the output, JDK ones do not
+			if (metaType != null && !metaType.getQualifiedName().startsWith("java.")) { //$NON-NLS-1$
+				appendAnnotation(meta);
+			}
+		}
+	}
+
+	private void appendValue(Object value) {
+		if (value instanceof ITypeBinding) {
+			append(((ITypeBinding) value).getKey());
+		} else if (value instanceof IVariableBinding) {
+			IVariableBinding var = (IVariableBinding) value;
+			ITypeBinding declaringClass = var.getDeclaringClass();
+			append(declaringClass == null ? "" : declaringClass.getKey()).append(var.getName()); //$NON-NLS-1$
+		} else if (value instanceof IAnnotationBinding) {
+			appendAnnotation((IAnnotationBinding) value);
+		} else if (value instanceof Object[]) {
+			Object[] values = (Object[]) value;
+			append("[").append(Integer.toString(values.length)); //$NON-NLS-1$
+			for (Object element : values) {
+				appendValue(element);
+			}
+		} else {
+			append(value == null ? "" : value.getClass().getName() + ':' + value); //$NON-NLS-1$
+		}
+	}
+
+	private String digest() {
+		MessageDigest md;
+		try {
+			md = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			// cannot happen, every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+
+		byte[] hash = md.digest(buf.toString().getBytes(StandardCharsets.UTF_8));
+		StringBuilder hex = new StringBuilder(hash.length * 2);
+		for (byte b : hash) {
+			hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+		}
+
+		return hex.toString();
+	}
+}
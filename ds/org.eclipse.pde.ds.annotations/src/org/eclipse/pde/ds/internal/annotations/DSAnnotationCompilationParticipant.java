@@ -22,13 +22,16 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.ref.SoftReference;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -38,7 +41,9 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -65,6 +70,7 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.BuildContext;
+import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.compiler.CompilationParticipant;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
@@ -97,6 +103,13 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 	private static final IPath COMPONENT_ANNOTATION_PATH = new Path(COMPONENT_ANNOTATION.replace('.',  '/'));
 
+	private static final char[] COMPONENT_ANNOTATION_NAME = "Component".toCharArray(); //$NON-NLS-1$
+
+	private static final Pattern COMPONENT_ANNOTATION_PATTERN = Pattern.compile("@\\s*(?:\\w+\\s*\\.\\s*)*Component\\b"); //$NON-NLS-1$
+
+	// minimum number of compilation units worth parsing in a separate batch
+	private static final int MIN_BATCH_SIZE = 64;
+
 	private static final Pattern ACCESS_RULE_PATTERN = Pattern.compile("(\\*\\*)|\\*|\\?"); //$NON-NLS-1$
 
 	private static final QualifiedName PROP_STATE = new QualifiedName(Activator.PLUGIN_ID, "state"); //$NON-NLS-1$
@@ -153,14 +166,16 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		ProjectState state = getState(project, retval);
 		result = retval[0];
 
-		processingContext.put(project, new ProjectContext(state));
+		IPreferencesService prefs = Platform.getPreferencesService();
+		ProjectContext projectContext = new ProjectContext(state);
+		projectContext.setSkipUnchanged(prefs.getBoolean(Activator.PLUGIN_ID, Activator.PREF_SKIP_UNCHANGED, true, new IScopeContext[] { new ProjectScope(project.getProject()), InstanceScope.INSTANCE, DefaultScope.INSTANCE }));
+		processingContext.put(project, projectContext);
 
 		if (state.getFormatVersion() != ProjectState.FORMAT_VERSION) {
 			state.setFormatVersion(ProjectState.FORMAT_VERSION);
 			result = NEEDS_FULL_BUILD;
 		}
 
-		IPreferencesService prefs = Platform.getPreferencesService();
 		String path = prefs.getString(Activator.PLUGIN_ID, Activator.PREF_PATH, Activator.DEFAULT_PATH, new IScopeContext[] { new ProjectScope(project.getProject()), InstanceScope.INSTANCE, DefaultScope.INSTANCE });
 		if (!path.equals(state.getPath())) {
 			state.setPath(path);
@@ -384,36 +399,45 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				}
 			}
 
-			// delete all abandoned files
-			ArrayList<IStatus> deleteStatuses = new ArrayList<>(2);
-			for (String dsKey : abandoned) {
-				IPath path = Path.fromPortableString(dsKey);
+			// delete abandoned files and update the manifest and build.properties in one batch
+			try {
+				ResourcesPlugin.getWorkspace().run(monitor -> updateFiles(project.getProject(), retained, abandoned), project.getProject(), IWorkspace.AVOID_UPDATE, null);
+			} catch (CoreException e) {
+				Activator.log(e);
+			}
+		}
 
-				if (debug.isDebugging()) {
-					debug.trace(String.format("Deleting %s", path)); //$NON-NLS-1$
-				}
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Build finished for project: %s", project.getElementName())); //$NON-NLS-1$
+		}
+	}
 
-				IFile file = PDEProject.getBundleRelativeFile(project.getProject(), path);
-				if (file.exists()) {
-					try {
-						file.delete(true, null);
-					} catch (CoreException e) {
-						deleteStatuses.add(e.getStatus());
-					}
-				}
-			}
+	private void updateFiles(IProject project, Collection<String> retained, Collection<String> abandoned) {
+		// delete all abandoned files
+		ArrayList<IStatus> deleteStatuses = new ArrayList<>(2);
+		for (String dsKey : abandoned) {
+			IPath path = Path.fromPortableString(dsKey);
 
-			if (!deleteStatuses.isEmpty()) {
-				Activator.log(new MultiStatus(Activator.PLUGIN_ID, 0, deleteStatuses.toArray(new IStatus[deleteStatuses.size()]), "Error deleting generated files.", null)); //$NON-NLS-1$
+			if (debug.isDebugging()) {
+				debug.trace(String.format("Deleting %s", path)); //$NON-NLS-1$
 			}
 
-			if (!retained.isEmpty() || !abandoned.isEmpty()) {
-				updateProject(project.getProject(), retained, abandoned);
+			IFile file = PDEProject.getBundleRelativeFile(project, path);
+			if (file.exists()) {
+				try {
+					file.delete(true, null);
+				} catch (CoreException e) {
+					deleteStatuses.add(e.getStatus());
+				}
 			}
 		}
 
-		if (debug.isDebugging()) {
-			debug.trace(String.format("Build finished for project: %s", project.getElementName())); //$NON-NLS-1$
+		if (!deleteStatuses.isEmpty()) {
+			Activator.log(new MultiStatus(Activator.PLUGIN_ID, 0, deleteStatuses.toArray(new IStatus[deleteStatuses.size()]), "Error deleting generated files.", null)); //$NON-NLS-1$
+		}
+
+		if (!retained.isEmpty() || !abandoned.isEmpty()) {
+			updateProject(project, retained, abandoned);
 		}
 	}
 
@@ -640,7 +664,7 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				continue;
 			}
 
-			if (canSkipFile(cu)) {
+			if (!mayContainComponent(file.getContents()) || canSkipFile(cu)) {
 				markAsAbandoned(cu);
 				continue;
 			}
@@ -664,6 +688,11 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		}
 	}
 
+	private boolean mayContainComponent(char[] contents) {
+		// cheap pre-scan: any reference to the annotation, simple or qualified, contains its simple name
+		return contents == null || CharOperation.indexOf(COMPONENT_ANNOTATION_NAME, contents, true) >= 0;
+	}
+
 	public boolean canSkipFile(ICompilationUnit cu) {
 		IType primaryType = cu.findPrimaryType();
 		if (primaryType == null) {
@@ -711,20 +740,104 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 	}
 
 	private void processAnnotations(IJavaProject javaProject, Map<ICompilationUnit, BuildContext> fileMap) {
-		@SuppressWarnings("deprecation")
-		ASTParser parser = ASTParser.newParser(AST.JLS4);
-		parser.setResolveBindings(true);
-		parser.setBindingsRecovery(true);
-		parser.setProject(javaProject);
-		parser.setKind(ASTParser.K_COMPILATION_UNIT);
-
 		ProjectContext projectContext = processingContext.get(javaProject);
 		ProjectState state = projectContext.getState();
 
-		parser.setIgnoreMethodBodies(state.getErrorLevel() == ValidationErrorLevel.ignore);
+		// method bodies are only needed to report components declared in local or anonymous types
+		ArrayList<ICompilationUnit> withBodies = new ArrayList<>();
+		ArrayList<ICompilationUnit> withoutBodies = new ArrayList<>();
+		for (Map.Entry<ICompilationUnit, BuildContext> entry : fileMap.entrySet()) {
+			if (state.getErrorLevel() != ValidationErrorLevel.ignore && hasLocalComponents(entry.getKey(), entry.getValue().getContents())) {
+				withBodies.add(entry.getKey());
+			} else {
+				withoutBodies.add(entry.getKey());
+			}
+		}
+
+		// each batch is parsed with its own parser and processor; descriptors are written afterwards in this thread
+		ArrayList<AnnotationProcessor> processors = new ArrayList<>();
+		ArrayList<Runnable> batches = new ArrayList<>();
+		addBatches(javaProject, projectContext, fileMap, withBodies, false, processors, batches);
+		addBatches(javaProject, projectContext, fileMap, withoutBodies, true, processors, batches);
+
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Processing %d compilation units in %d batches.", fileMap.size(), batches.size())); //$NON-NLS-1$
+		}
+
+		if (batches.size() == 1) {
+			batches.get(0).run();
+		} else {
+			batches.parallelStream().forEach(Runnable::run);
+		}
+
+		for (AnnotationProcessor processor : processors) {
+			processor.applyUpdates();
+		}
+	}
+
+	private void addBatches(IJavaProject javaProject, ProjectContext projectContext, Map<ICompilationUnit, BuildContext> fileMap, List<ICompilationUnit> units, boolean ignoreMethodBodies, List<AnnotationProcessor> processors, List<Runnable> batches) {
+		if (units.isEmpty()) {
+			return;
+		}
+
+		// keep packages together, they tend to share most bindings
+		units.sort(Comparator.comparing(AnnotationProcessor::getCompilationUnitKey));
+
+		int batchCount = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), units.size() / MIN_BATCH_SIZE));
+		int batchSize = (units.size() + batchCount - 1) / batchCount;
+		for (int i = 0; i < units.size(); i += batchSize) {
+			ICompilationUnit[] cuArr = units.subList(i, Math.min(i + batchSize, units.size())).toArray(new ICompilationUnit[0]);
+			AnnotationProcessor processor = new AnnotationProcessor(projectContext, fileMap);
+			processors.add(processor);
+			batches.add(() -> {
+				@SuppressWarnings("deprecation")
+				ASTParser parser = ASTParser.newParser(AST.JLS4);
+				parser.setResolveBindings(true);
+				parser.setBindingsRecovery(true);
+				parser.setProject(javaProject);
+				parser.setKind(ASTParser.K_COMPILATION_UNIT);
+				parser.setIgnoreMethodBodies(ignoreMethodBodies);
+				parser.createASTs(cuArr, new String[0], processor, null);
+			});
+		}
+	}
+
+	private boolean hasLocalComponents(ICompilationUnit cu, char[] contents) {
+		if (contents == null) {
+			return true;
+		}
+
+		// more annotation occurrences than annotated (member) types means some are
+		// in local or anonymous types (or comments, which is harmless)
+		int occurrences = 0;
+		Matcher matcher = COMPONENT_ANNOTATION_PATTERN.matcher(CharBuffer.wrap(contents));
+		while (matcher.find()) {
+			occurrences++;
+		}
+
+		if (occurrences == 0) {
+			return false;
+		}
+
+		try {
+			int declared = 0;
+			for (IType type : cu.getTypes()) {
+				declared += countComponents(type);
+			}
+
+			return occurrences > declared;
+		} catch (JavaModelException e) {
+			return true;
+		}
+	}
+
+	private int countComponents(IType type) throws JavaModelException {
+		int count = type.getAnnotation("Component").exists() || type.getAnnotation(COMPONENT_ANNOTATION).exists() ? 1 : 0; //$NON-NLS-1$
+		for (IType member : type.getTypes()) {
+			count += countComponents(member);
+		}
 
-		ICompilationUnit[] cuArr = fileMap.keySet().toArray(new ICompilationUnit[fileMap.size()]);
-		parser.createASTs(cuArr, new String[0], new AnnotationProcessor(projectContext, fileMap), null);
+		return count;
 	}
 
 	public static boolean isManaged(IProject project) {
@@ -28,5 +28,6 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 		defaults.putBoolean(Activator.PREF_CLASSPATH, true);
 		defaults.put(Activator.PREF_VALIDATION_ERROR_LEVEL, ValidationErrorLevel.error.name());
 		defaults.put(Activator.PREF_MISSING_UNBIND_METHOD_ERROR_LEVEL, ValidationErrorLevel.error.name());
+		defaults.putBoolean(Activator.PREF_SKIP_UNCHANGED, true);
 	}
 }
@@ -28,6 +28,9 @@ public class ProjectContext {
 
 	private final ProjectState oldState;
 
+	// skip regenerating DS files whose inputs are unchanged since the last run
+	private boolean skipUnchanged;
+
 	public ProjectContext(ProjectState state) {
 		this.state = state;
 
@@ -42,6 +45,14 @@ public class ProjectContext {
 		return !oldState.equals(state);
 	}
 
+	public boolean isSkipUnchanged() {
+		return skipUnchanged;
+	}
+
+	public void setSkipUnchanged(boolean skipUnchanged) {
+		this.skipUnchanged = skipUnchanged;
+	}
+
 	public ProjectState getState() {
 		return state;
 	}
@@ -49,6 +49,9 @@ public class ProjectState implements Serializable, Cloneable {
 	// fully-qualified component type to plugin-root-relative (portable) path of corresponding generated DS file
 	private Map<String, String> files;
 
+	// fully-qualified component type to hash of the generated DS file's inputs and its modification stamp
+	private Map<String, String> hashes;
+
 	// (de)serialized state file format version
 	private int formatVersion = FORMAT_VERSION;
 
@@ -100,6 +103,10 @@ public class ProjectState implements Serializable, Cloneable {
 			}
 		}
 
+		if (hashes != null) {
+			hashes.keySet().removeAll(cuTypes);
+		}
+
 		return oldDSKeys;
 	}
 
@@ -134,11 +141,39 @@ public class ProjectState implements Serializable, Cloneable {
 		return files == null ? null : files.get(className);
 	}
 
+	public String getComponentHash(String className) {
+		return hashes == null ? null : hashes.get(className);
+	}
+
+	public void setComponentHash(String className, String hash) {
+		if (hash == null) {
+			if (hashes != null) {
+				hashes.remove(className);
+			}
+		} else {
+			getHashes().put(className, hash);
+		}
+	}
+
 	public Collection<String> updateMappings(String cuKey, HashMap<String, String> dsKeys) {
+		// keep the hashes of components that are still generated from this CU
+		HashMap<String, String> cuHashes = new HashMap<>();
+		if (hashes != null) {
+			for (String type : dsKeys.keySet()) {
+				String hash = hashes.get(type);
+				if (hash != null) {
+					cuHashes.put(type, hash);
+				}
+			}
+		}
+
 		Collection<String> oldDSKeys = removeMappings(cuKey);
 		if (!dsKeys.isEmpty()) {
 			getTypes().put(cuKey, new HashSet<>(dsKeys.keySet()));
 			getFiles().putAll(dsKeys);
+			if (!cuHashes.isEmpty()) {
+				getHashes().putAll(cuHashes);
+			}
 		}
 
 		return oldDSKeys;
@@ -192,6 +227,14 @@ public class ProjectState implements Serializable, Cloneable {
 		return files;
 	}
 
+	private Map<String, String> getHashes() {
+		if (hashes == null) {
+			hashes = new HashMap<>();
+		}
+
+		return hashes;
+	}
+
 	@Override
 	public ProjectState clone() {
 		ProjectState clone;
@@ -217,6 +260,10 @@ public class ProjectState implements Serializable, Cloneable {
 			clone.files = new HashMap<>(files);
 		}
 
+		if (hashes != null) {
+			clone.hashes = new HashMap<>(hashes);
+		}
+
 		return clone;
 	}
 
@@ -238,7 +285,8 @@ public class ProjectState implements Serializable, Cloneable {
 				&& missingUnbindMethodLevel == o.missingUnbindMethodLevel
 				&& mappings.equals(o.mappings)
 				&& (files == null ? o.files == null : files.equals(o.files))
-				&& (types == null ? o.types == null : types.equals(o.types));
+				&& (types == null ? o.types == null : types.equals(o.types))
+				&& (hashes == null ? o.hashes == null : hashes.equals(o.hashes));
 	}
 
 	@Override
@@ -247,7 +295,8 @@ public class ProjectState implements Serializable, Cloneable {
 		buf.append(path).append(";mappings="); //$NON-NLS-1$
 		buf.append(mappings).append(";types="); //$NON-NLS-1$
 		buf.append(types).append(";files="); //$NON-NLS-1$
-		buf.append(files).append(";errorLevel="); //$NON-NLS-1$
+		buf.append(files).append(";hashes="); //$NON-NLS-1$
+		buf.append(hashes).append(";errorLevel="); //$NON-NLS-1$
 		buf.append(specVersion).append(";specVersion="); //$NON-NLS-1$
 		buf.append(errorLevel).append(";missingUnbindMethodLevel="); //$NON-NLS-1$
 		buf.append(missingUnbindMethodLevel).append(";formatVersion="); //$NON-NLS-1$
@@ -16,6 +16,7 @@ package org.eclipse.pde.internal.core;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -36,7 +37,8 @@ import org.osgi.framework.Version;
  * Stores location information about bundles that provide source for
  * other bundles.  Source bundles are specified by a specific entry
  * in their manifest file.  After constructing, you must call
- * setPlugins.
+ * setPlugins.  The entries are parsed once in setPlugins, lookups
+ * afterwards neither parse manifest headers nor access the file system.
  * @see SourceLocationManager
  * @since 3.4
  */
@@ -47,6 +49,16 @@ public class BundleManifestSourceLocationManager {
 	 */
 	private Map<SourceLocationKey, IPluginModelBase> fPluginToSourceBundle = new LinkedHashMap<>(0);
 
+	/**
+	 * Maps SourceLocationKeys (plugin name and version) to the source roots of that plugin in its source bundle
+	 */
+	private Map<SourceLocationKey, Set<String>> fPluginToSourceRoots = new HashMap<>(0);
+
+	/**
+	 * Maps source bundles to the source roots of all plugins they provide source for
+	 */
+	private Map<IPluginModelBase, Set<String>> fSourceBundleToAllSourceRoots = new HashMap<>(0);
+
 	/**
 	 * Returns a source location that provides source for a specific plugin (specified by name and version)
 	 * @param pluginName name of the plugin
@@ -63,6 +75,18 @@ public class BundleManifestSourceLocationManager {
 		return null;
 	}
 
+	/**
+	 * Returns the location of the source bundle that provides source for a specific plugin
+	 * (specified by name and version).  The location existed when the source bundles were set.
+	 * @param pluginName name of the plugin
+	 * @param pluginVersion version of the plugin
+	 * @return path to the source bundle or <code>null</code> if no location exists for this plugin
+	 */
+	public IPath getSourcePath(String pluginName, Version pluginVersion) {
+		IPluginModelBase plugin = fPluginToSourceBundle.get(new SourceLocationKey(pluginName, pluginVersion));
+		return plugin != null ? new Path(plugin.getInstallLocation()) : null;
+	}
+
 	/**
 	 * Returns the collection of source locations found when searching
 	 * @return set of source locations, possibly empty
@@ -102,31 +126,8 @@ public class BundleManifestSourceLocationManager {
 	 * @return set of String paths representing the source roots for the given plugin in the source bundle, possibly empty
 	 */
 	public Set<String> getSourceRoots(String pluginName, Version pluginVersion) {
-		Set<String> pluginSourceRoots = new HashSet<>();
-		ManifestElement[] manifestElements = getSourceEntries(pluginName, pluginVersion);
-		if (manifestElements != null) {
-			for (ManifestElement currentElement : manifestElements) {
-				String binaryPluginName = currentElement.getValue();
-				String versionEntry = currentElement.getAttribute(Constants.VERSION_ATTRIBUTE);
-				// Currently the version attribute is required
-				if (binaryPluginName != null && binaryPluginName.equals(pluginName)) {
-					if (versionEntry != null && versionEntry.length() > 0) {
-						Version version = null;
-						try {
-							version = new Version(versionEntry);
-						} catch (IllegalArgumentException e) {
-							PDECore.log(Status.error(NLS.bind(PDECoreMessages.SourceLocationManager_problemProcessingBundleManifestSourceHeader, pluginName, pluginVersion), e));
-						}
-						if (pluginVersion.equals(version)) {
-							addSourceRoots(currentElement.getDirective("roots"), pluginSourceRoots); //$NON-NLS-1$
-							return pluginSourceRoots;
-						}
-					}
-				}
-			}
-		}
-
-		return pluginSourceRoots;
+		Set<String> pluginSourceRoots = fPluginToSourceRoots.get(new SourceLocationKey(pluginName, pluginVersion));
+		return pluginSourceRoots != null ? new HashSet<>(pluginSourceRoots) : new HashSet<>();
 	}
 
 	/**
@@ -143,36 +144,9 @@ public class BundleManifestSourceLocationManager {
 	 * @return set of String paths representing the source roots in the associated source bundle, possibly empty
 	 */
 	public Set<String> getAllSourceRoots(String pluginName, Version pluginVersion) {
-		Set<String> pluginSourceRoots = new HashSet<>();
-		ManifestElement[] manifestElements = getSourceEntries(pluginName, pluginVersion);
-		if (manifestElements != null) {
-			for (ManifestElement currentElement : manifestElements) {
-				addSourceRoots(currentElement.getDirective("roots"), pluginSourceRoots); //$NON-NLS-1$
-			}
-		}
-		return pluginSourceRoots;
-	}
-
-	/**
-	 * Returns an array containing ManifestElements for the SourceBundle header of the source bundle for the
-	 * name and version specified.  If no source bundle was found or the header was incorrectly formatted,
-	 * null will be returned.
-	 */
-	private ManifestElement[] getSourceEntries(String pluginName, Version pluginVersion) {
 		IPluginModelBase sourceBundle = fPluginToSourceBundle.get(new SourceLocationKey(pluginName, pluginVersion));
-		if (sourceBundle != null) {
-			if (sourceBundle.getPluginBase() instanceof PluginBase) {
-				String bundleSourceEntry = ((PluginBase) sourceBundle.getPluginBase()).getBundleSourceEntry();
-				if (bundleSourceEntry != null) {
-					try {
-						return ManifestElement.parseHeader(ICoreConstants.ECLIPSE_SOURCE_BUNDLE, bundleSourceEntry);
-					} catch (BundleException e) {
-						PDECore.log(Status.error(NLS.bind(PDECoreMessages.SourceLocationManager_problemProcessingBundleManifestSourceHeader, pluginName, pluginVersion), e));
-					}
-				}
-			}
-		}
-		return null;
+		Set<String> allSourceRoots = sourceBundle != null ? fSourceBundleToAllSourceRoots.get(sourceBundle) : null;
+		return allSourceRoots != null ? new HashSet<>(allSourceRoots) : new HashSet<>();
 	}
 
 	/**
@@ -196,6 +170,8 @@ public class BundleManifestSourceLocationManager {
 	 */
 	public void setPlugins(IPluginModelBase[] externalModels) {
 		fPluginToSourceBundle = new LinkedHashMap<>();
+		fPluginToSourceRoots = new HashMap<>();
+		fSourceBundleToAllSourceRoots = new HashMap<>();
 		for (IPluginModelBase model : externalModels) {
 			IPluginBase currentPlugin = model.getPluginBase();
 			if (currentPlugin instanceof PluginBase) {
@@ -210,7 +186,10 @@ public class BundleManifestSourceLocationManager {
 					if (manifestElements != null) {
 						IPath path = new Path(model.getInstallLocation());
 						if (path.toFile().exists()) {
+							Set<String> allSourceRoots = new HashSet<>();
+							Map<SourceLocationKey, Set<String>> bundleSourceRoots = new HashMap<>();
 							for (ManifestElement element : manifestElements) {
+								addSourceRoots(element.getDirective("roots"), allSourceRoots); //$NON-NLS-1$
 								String binaryPluginName = element.getValue();
 								String versionEntry = element.getAttribute(Constants.VERSION_ATTRIBUTE);
 								// Currently the version attribute is required
@@ -222,11 +201,25 @@ public class BundleManifestSourceLocationManager {
 										PDECore.log(Status.error(NLS.bind(PDECoreMessages.SourceLocationManager_problemProcessingBundleManifestSourceHeader, new Object[] {currentPlugin.getName(), versionEntry, path.toString()}), e));
 
 									}
-									fPluginToSourceBundle.put(new SourceLocationKey(binaryPluginName, version), model);
+									SourceLocationKey key = new SourceLocationKey(binaryPluginName, version);
+									fPluginToSourceBundle.put(key, model);
+									if (version != null && !bundleSourceRoots.containsKey(key)) {
+										// the first entry for a plugin in the header provides its roots
+										Set<String> pluginSourceRoots = new HashSet<>();
+										addSourceRoots(element.getDirective("roots"), pluginSourceRoots); //$NON-NLS-1$
+										bundleSourceRoots.put(key, pluginSourceRoots);
+									}
+									Set<String> pluginSourceRoots = bundleSourceRoots.get(key);
+									if (pluginSourceRoots != null) {
+										fPluginToSourceRoots.put(key, pluginSourceRoots);
+									} else {
+										fPluginToSourceRoots.remove(key);
+									}
 								} else {
 									PDECore.log(Status.warning(NLS.bind(PDECoreMessages.BundleManifestSourceLocationManager_problemProcessBundleManifestHeaderAttributeMissing, currentPlugin.getName())));
 								}
 							}
+							fSourceBundleToAllSourceRoots.put(model, allSourceRoots);
 						}
 					}
 				}
@@ -13,9 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Dictionary;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Hashtable;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -30,14 +36,51 @@ import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
 
+/**
+ * Resolves a set of bundles in a state of their own to find the constraints
+ * that cannot be satisfied.
+ * <p>
+ * If a cache key is set, the resolved state is kept for that key. When the
+ * operation runs again for the same key with the same platform properties,
+ * only the bundles that were added, removed or changed since are updated in
+ * that state and resolved again.
+ * </p>
+ * <p>
+ * A cached state is only used by one operation at a time, which takes the
+ * results it reports from the state before handing it back to the cache. The
+ * cache is cleared when the plug-ins of the target change.
+ * </p>
+ */
 public class BundleValidationOperation implements IWorkspaceRunnable {
 
 	private static StateObjectFactory FACTORY;
 
+	/** more changed bundles than this fraction of all bundles are resolved from scratch */
+	private static final int INCREMENTAL_LIMIT_DIVISOR = 4;
+
+	private static final int MAX_CACHED_STATES = 4;
+
+	/** resolved states by cache key, least recently used first */
+	private static final Map<String, CachedState> CACHE = new LinkedHashMap<>(MAX_CACHED_STATES * 2, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CachedState> eldest) {
+			return size() > MAX_CACHED_STATES;
+		}
+	};
+
+	/** incremented whenever the cache is cleared, states of an older generation are not cached again */
+	private static int fCacheGeneration;
+
 	private final Set<IPluginModelBase> fModels;
 	private final Dictionary<String, String>[] fProperties;
 	private State fState;
+	private String fCacheKey;
+	private Map<Object, Object[]> fResolverErrors;
+	private boolean fEmpty;
 
 	@SuppressWarnings("unchecked")
 	public BundleValidationOperation(Set<IPluginModelBase> models) {
@@ -49,34 +92,97 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		fProperties = properties;
 	}
 
+	/**
+	 * Keeps the resolved state for the given key, e.g. the name of a launch
+	 * configuration, so that the next validation for the same key only has to
+	 * update the bundles that changed.
+	 *
+	 * @param key the cache key or <code>null</code> to not cache the state
+	 */
+	public void setCacheKey(String key) {
+		fCacheKey = key;
+	}
+
 	@Override
 	public void run(IProgressMonitor monitor) throws CoreException {
 		if (FACTORY == null) {
 			FACTORY = Platform.getPlatformAdmin().getFactory();
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, fModels.size() + 1);
-		fState = FACTORY.createState(true);
-		for (IPluginModelBase fModel : fModels) {
-			BundleDescription bundle = fModel.getBundleDescription();
-			if (bundle != null) {
-				fState.addBundle(FACTORY.createBundleDescription(bundle));
+		if (fCacheKey == null) {
+			fState = new CachedState(fModels, fProperties, subMonitor).state;
+			setResults(fState);
+			return;
+		}
+
+		// the cached state is taken out of the cache while it is updated and
+		// read, so that no other operation changes it in the meantime
+		CachedState cached;
+		int generation;
+		synchronized (CACHE) {
+			cached = CACHE.remove(fCacheKey);
+			generation = fCacheGeneration;
+		}
+		if (cached == null || !cached.update(fModels, fProperties, subMonitor)) {
+			cached = new CachedState(fModels, fProperties, subMonitor);
+		}
+		setResults(cached.state);
+		synchronized (CACHE) {
+			if (generation == fCacheGeneration) {
+				CACHE.put(fCacheKey, cached);
 			}
-			subMonitor.split(1);
 		}
-		fState.setPlatformProperties(fProperties);
-		fState.resolve(false);
-		subMonitor.split(1);
+	}
+
+	/**
+	 * Discards all cached states.
+	 */
+	public static void clearCache() {
+		synchronized (CACHE) {
+			CACHE.clear();
+			fCacheGeneration++;
+		}
+	}
+
+	/**
+	 * Clears the cache if the given change affects plug-ins of the target, so
+	 * that the cached states do not keep the models of a previous target.
+	 *
+	 * @param delta the change to the plug-in models
+	 */
+	public static void modelsChanged(PluginModelDelta delta) {
+		if ((delta.getKind() & PluginModelDelta.REMOVED) != 0 || hasExternalModels(delta.getAddedEntries()) || hasExternalModels(delta.getChangedEntries())) {
+			clearCache();
+		}
+	}
+
+	private static boolean hasExternalModels(ModelEntry[] entries) {
+		for (ModelEntry entry : entries) {
+			if (entry.hasExternalModels()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void setResults(State state) {
+		fResolverErrors = computeResolverErrors(state);
+		fEmpty = state.getBundles().length == 0;
 	}
 
 	public Map<Object, Object[]> getResolverErrors() {
+		return new LinkedHashMap<>(fResolverErrors);
+	}
+
+	private static Map<Object, Object[]> computeResolverErrors(State state) {
 		Set<String> alreadyDuplicated = new HashSet<>();
 		Map<Object, Object[]> map = new LinkedHashMap<>();
-		BundleDescription[] bundles = fState.getBundles();
+		BundleDescription[] bundles = state.getBundles();
 		for (BundleDescription bundle : bundles) {
 			if (!bundle.isResolved()) {
-				map.put(bundle, fState.getResolverErrors(bundle));
+				map.put(bundle, state.getResolverErrors(bundle));
 			} else if (bundle.isSingleton() && !alreadyDuplicated.contains(bundle.getSymbolicName())) {
-				BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
+				BundleDescription[] dups = state.getBundles(bundle.getSymbolicName());
 				if (dups.length > 1) {
 					// more than 1 singleton present
 					alreadyDuplicated.add(bundle.getSymbolicName());
@@ -91,26 +197,124 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		return map;
 	}
 
-	public State getState() {
+	/**
+	 * Returns the resolved state of the bundles. A cached state is shared with
+	 * later operations for the same key, so an operation with a cache key
+	 * resolves a state of its own when this is called first.
+	 *
+	 * @return the resolved state
+	 */
+	public synchronized State getState() {
+		if (fState == null) {
+			fState = new CachedState(fModels, fProperties, SubMonitor.convert(null)).state;
+		}
 		return fState;
 	}
 
+	/**
+	 * @return whether the operation did not validate any bundle
+	 */
+	public boolean isEmpty() {
+		return fEmpty;
+	}
+
 	public boolean hasErrors() {
-		if (fState.getHighestBundleId() > -1) {
-			BundleDescription[] bundles = fState.getBundles();
-			for (BundleDescription bundle : bundles) {
-				if (!bundle.isResolved()) {
-					return true;
-				} else if (bundle.isSingleton()) {
-					BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
-					if (dups.length > 1) {
-						// more than one singleton
-						return true;
-					}
+		// every unresolved bundle and every duplicated singleton has an entry
+		return !fResolverErrors.isEmpty();
+	}
+
+	/**
+	 * A resolved state with the bundles copied into it.
+	 */
+	private static final class CachedState {
+		final State state;
+		private final Dictionary<String, String>[] properties;
+		/** the bundle description of each model when it was copied, and the copy */
+		private final Map<IPluginModelBase, BundleDescription[]> bundles = new HashMap<>();
+
+		CachedState(Set<IPluginModelBase> models, Dictionary<String, String>[] properties, SubMonitor monitor) {
+			this.properties = copy(properties);
+			state = FACTORY.createState(true);
+			for (IPluginModelBase model : models) {
+				add(model);
+				monitor.split(1);
+			}
+			state.setPlatformProperties(properties);
+			state.resolve(false);
+			monitor.split(1);
+		}
+
+		/**
+		 * Brings the state up to date with the given models. Only called by
+		 * the operation that took the state out of the cache.
+		 *
+		 * @return <code>false</code> if the platform properties differ or too
+		 *         many models changed, in which case the state is left alone
+		 */
+		boolean update(Set<IPluginModelBase> models, Dictionary<String, String>[] newProperties, SubMonitor monitor) {
+			if (!Arrays.equals(properties, newProperties)) {
+				return false;
+			}
+			List<IPluginModelBase> removed = new ArrayList<>();
+			List<IPluginModelBase> added = new ArrayList<>();
+			for (IPluginModelBase model : bundles.keySet()) {
+				if (!models.contains(model) || model.getBundleDescription() != bundles.get(model)[0]) {
+					removed.add(model);
 				}
 			}
+			for (IPluginModelBase model : models) {
+				BundleDescription[] bundle = bundles.get(model);
+				if (model.getBundleDescription() != null && (bundle == null || model.getBundleDescription() != bundle[0])) {
+					added.add(model);
+				}
+			}
+			if ((removed.size() + added.size()) * INCREMENTAL_LIMIT_DIVISOR > models.size()) {
+				return false;
+			}
+
+			monitor.setWorkRemaining(added.size() + 1);
+			for (IPluginModelBase model : removed) {
+				state.removeBundle(bundles.remove(model)[1]);
+			}
+			List<BundleDescription> reResolve = new ArrayList<>(added.size());
+			for (IPluginModelBase model : added) {
+				BundleDescription copy = add(model);
+				if (copy != null) {
+					reResolve.add(copy);
+				}
+				monitor.split(1);
+			}
+			if (!removed.isEmpty() || !reResolve.isEmpty()) {
+				state.resolve(reResolve.toArray(new BundleDescription[reResolve.size()]));
+			}
+			monitor.split(1);
+			return true;
+		}
+
+		private BundleDescription add(IPluginModelBase model) {
+			BundleDescription bundle = model.getBundleDescription();
+			if (bundle == null) {
+				return null;
+			}
+			BundleDescription copy = FACTORY.createBundleDescription(bundle);
+			state.addBundle(copy);
+			bundles.put(model, new BundleDescription[] {bundle, copy});
+			return copy;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Dictionary<String, String>[] copy(Dictionary<String, String>[] properties) {
+			Dictionary<String, String>[] result = new Dictionary[properties.length];
+			for (int i = 0; i < properties.length; i++) {
+				Hashtable<String, String> table = new Hashtable<>();
+				for (Enumeration<String> keys = properties[i].keys(); keys.hasMoreElements();) {
+					String key = keys.nextElement();
+					table.put(key, properties[i].get(key));
+				}
+				result[i] = table;
+			}
+			return result;
 		}
-		return false;
 	}
 
 }
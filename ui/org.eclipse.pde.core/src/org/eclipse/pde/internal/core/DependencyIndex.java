@@ -0,0 +1,339 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.osgi.framework.wiring.BundleRevision;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
+
+/**
+ * Index of the requirement closures of the bundles in the PDE state, used by
+ * the {@link DependencyManager}.
+ * <p>
+ * Closures are stored as bit sets over bundle ids. They are computed on demand
+ * for single bundles and merged for a collection of bundles, the bundles that
+ * are not yet indexed are walked together in a single pass. A resolver delta
+ * only evicts the closures containing one of the changed bundles, all others
+ * stay valid. The reverse index of dependents is rebuilt lazily after every
+ * change of the state.
+ * </p>
+ */
+public class DependencyIndex {
+
+	private static final int INCLUDE_OPTIONAL = 1;
+	private static final int INCLUDE_FRAGMENTS = 2;
+
+	private State fState;
+
+	/**
+	 * Incremented whenever entries are evicted, so that closures computed
+	 * concurrently against an outdated state are not put into the index.
+	 */
+	private long fGeneration;
+
+	/** forward closures keyed by bundle id, one map per option combination */
+	@SuppressWarnings("unchecked")
+	private final Map<Long, BitSet>[] fClosures = new Map[4];
+
+	/** direct dependents keyed by bundle id, with and without optional requirements */
+	@SuppressWarnings("unchecked")
+	private final Map<Long, BitSet>[] fDependents = new Map[2];
+
+	public DependencyIndex() {
+		for (int i = 0; i < fClosures.length; i++) {
+			fClosures[i] = new HashMap<>();
+		}
+	}
+
+	/**
+	 * Returns whether closures of the given bundles can be served from this
+	 * index, i.e. all of them belong to the indexed state.
+	 *
+	 * @param bundles the bundles to check, may contain <code>null</code>
+	 * @return <code>true</code> if all bundles are indexed
+	 */
+	public synchronized boolean isIndexed(Collection<BundleDescription> bundles) {
+		if (fState == null) {
+			return false;
+		}
+		for (BundleDescription bundle : bundles) {
+			if (bundle != null && !isIndexed(bundle)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isIndexed(BundleDescription bundle) {
+		return bundle.getContainingState() == fState && bundle.getBundleId() >= 0
+				&& bundle.getBundleId() <= Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Returns the union of the requirement closures of the given bundles. The
+	 * bundles must be {@link #isIndexed(Collection) indexed}.
+	 * <p>
+	 * Indexed closures are merged, the closure of all other bundles is computed
+	 * in one pass. It is only added to the index if it belongs to a single
+	 * bundle.
+	 * </p>
+	 *
+	 * @param bundles the bundles to compute the closure for, may contain <code>null</code>
+	 * @param includeOptional whether optional requirements are followed
+	 * @param includeFragments whether all fragments of the bundles are included
+	 * @param computer computes the combined closure of bundles that are not yet indexed
+	 * @return a new modifiable set with the closure of the given bundles
+	 */
+	public Set<BundleDescription> findRequirementsClosure(Collection<BundleDescription> bundles,
+			boolean includeOptional, boolean includeFragments,
+			Function<Collection<BundleDescription>, Set<BundleDescription>> computer) {
+		Map<Long, BitSet> closures = getClosures(includeOptional, includeFragments);
+		BitSet closure = new BitSet();
+		List<BundleDescription> missing = new ArrayList<>();
+		State state;
+		long generation;
+		synchronized (this) {
+			// bundle ids are resolved against the state the closures were
+			// computed for, even if the index is reset concurrently
+			state = fState;
+			generation = fGeneration;
+			for (BundleDescription bundle : bundles) {
+				if (bundle == null) {
+					continue;
+				}
+				BitSet indexed = state != null ? closures.get(Long.valueOf(bundle.getBundleId())) : null;
+				if (indexed != null) {
+					closure.or(indexed);
+				} else {
+					missing.add(bundle);
+				}
+			}
+		}
+		if (state == null) {
+			return computer.apply(missing);
+		}
+		if (!missing.isEmpty()) {
+			BitSet computed = toBitSet(computer.apply(missing));
+			closure.or(computed);
+			if (missing.size() == 1) {
+				putClosure(closures, missing.get(0), computed, generation);
+			}
+		}
+		return toBundles(state, closure);
+	}
+
+	/**
+	 * Returns whether the given candidate is part of the requirement closure of
+	 * the given bundle. Once the closure of the bundle is indexed this is a
+	 * constant time operation.
+	 *
+	 * @param bundle the bundle whose closure is checked, must be indexed
+	 * @param candidate the bundle to look for
+	 * @param includeOptional whether optional requirements are followed
+	 * @param includeFragments whether all fragments are included
+	 * @param computer computes the closure of the bundle if it is not yet indexed
+	 * @return <code>true</code> if the candidate is required by the bundle
+	 */
+	public boolean isInClosure(BundleDescription bundle, BundleDescription candidate, boolean includeOptional,
+			boolean includeFragments, Function<Collection<BundleDescription>, Set<BundleDescription>> computer) {
+		long id = candidate.getBundleId();
+		if (candidate.getContainingState() != bundle.getContainingState() || id < 0 || id > Integer.MAX_VALUE) {
+			return false;
+		}
+		Map<Long, BitSet> closures = getClosures(includeOptional, includeFragments);
+		long generation;
+		synchronized (this) {
+			BitSet closure = closures.get(Long.valueOf(bundle.getBundleId()));
+			if (closure != null) {
+				return closure.get((int) id);
+			}
+			generation = fGeneration;
+		}
+		BitSet closure = toBitSet(computer.apply(List.of(bundle)));
+		putClosure(closures, bundle, closure, generation);
+		return closure.get((int) id);
+	}
+
+	/**
+	 * Returns all resolved bundles of the indexed state that directly or
+	 * indirectly require one of the given bundles, including the given bundles.
+	 *
+	 * @param bundles the bundles to find the dependents of
+	 * @param includeOptional whether optional requirements are considered
+	 * @return a new modifiable set with the dependents closure
+	 */
+	public synchronized Set<BundleDescription> findDependentsClosure(Collection<BundleDescription> bundles,
+			boolean includeOptional) {
+		if (fState == null) {
+			return new HashSet<>();
+		}
+		Map<Long, BitSet> dependents = getDependents(includeOptional);
+		BitSet closure = new BitSet();
+		ArrayDeque<Integer> pending = new ArrayDeque<>();
+		for (BundleDescription bundle : bundles) {
+			if (bundle != null && isIndexed(bundle) && bundle.isResolved() && !closure.get((int) bundle.getBundleId())) {
+				closure.set((int) bundle.getBundleId());
+				pending.add((int) bundle.getBundleId());
+			}
+		}
+		while (!pending.isEmpty()) {
+			BitSet direct = dependents.get(Long.valueOf(pending.remove()));
+			if (direct == null) {
+				continue;
+			}
+			for (int i = direct.nextSetBit(0); i >= 0; i = direct.nextSetBit(i + 1)) {
+				if (!closure.get(i)) {
+					closure.set(i);
+					pending.add(i);
+				}
+			}
+		}
+		return toBundles(fState, closure);
+	}
+
+	/**
+	 * Discards the index and binds it to the given state.
+	 *
+	 * @param state the new PDE state, may be <code>null</code>
+	 */
+	public synchronized void reset(State state) {
+		fState = state;
+		fGeneration++;
+		for (Map<Long, BitSet> closures : fClosures) {
+			closures.clear();
+		}
+		Arrays.fill(fDependents, null);
+	}
+
+	/**
+	 * Evicts the closures containing a bundle changed by the given resolver delta.
+	 *
+	 * @param delta the resolver delta, or <code>null</code> to evict all closures
+	 */
+	public synchronized void stateResolved(StateDelta delta) {
+		fGeneration++;
+		Arrays.fill(fDependents, null);
+		if (delta == null) {
+			for (Map<Long, BitSet> closures : fClosures) {
+				closures.clear();
+			}
+			return;
+		}
+		BitSet affected = new BitSet();
+		for (BundleDelta change : delta.getChanges()) {
+			markAffected(change.getBundle(), affected);
+			// hosts are re-wired when fragments come and go
+			HostSpecification host = change.getBundle().getHost();
+			if (host != null && host.getHosts() != null) {
+				for (BundleDescription hostBundle : host.getHosts()) {
+					markAffected(hostBundle, affected);
+				}
+			}
+		}
+		if (affected.isEmpty()) {
+			return;
+		}
+		for (Map<Long, BitSet> closures : fClosures) {
+			Iterator<Map.Entry<Long, BitSet>> iter = closures.entrySet().iterator();
+			while (iter.hasNext()) {
+				Map.Entry<Long, BitSet> entry = iter.next();
+				if (affected.get(entry.getKey().intValue()) || entry.getValue().intersects(affected)) {
+					iter.remove();
+				}
+			}
+		}
+	}
+
+	private static void markAffected(BundleDescription bundle, BitSet affected) {
+		long id = bundle.getBundleId();
+		if (id >= 0 && id <= Integer.MAX_VALUE) {
+			affected.set((int) id);
+		}
+	}
+
+	private Map<Long, BitSet> getClosures(boolean includeOptional, boolean includeFragments) {
+		return fClosures[(includeOptional ? INCLUDE_OPTIONAL : 0) | (includeFragments ? INCLUDE_FRAGMENTS : 0)];
+	}
+
+	private synchronized void putClosure(Map<Long, BitSet> closures, BundleDescription bundle, BitSet closure,
+			long generation) {
+		if (generation == fGeneration && isIndexed(bundle)) {
+			closures.put(Long.valueOf(bundle.getBundleId()), closure);
+		}
+	}
+
+	private static BitSet toBitSet(Set<BundleDescription> bundles) {
+		BitSet closure = new BitSet();
+		for (BundleDescription bundle : bundles) {
+			closure.set((int) bundle.getBundleId());
+		}
+		return closure;
+	}
+
+	private static Set<BundleDescription> toBundles(State state, BitSet closure) {
+		Set<BundleDescription> bundles = new HashSet<>(closure.cardinality() * 4 / 3 + 1);
+		for (int i = closure.nextSetBit(0); i >= 0; i = closure.nextSetBit(i + 1)) {
+			BundleDescription bundle = state.getBundle(i);
+			if (bundle != null) {
+				bundles.add(bundle);
+			}
+		}
+		return bundles;
+	}
+
+	private Map<Long, BitSet> getDependents(boolean includeOptional) {
+		int index = includeOptional ? 1 : 0;
+		if (fDependents[index] == null) {
+			Map<Long, BitSet> dependents = new HashMap<>();
+			for (BundleDescription bundle : fState.getResolvedBundles()) {
+				if (!isIndexed(bundle)) {
+					continue;
+				}
+				BundleWiring wiring = bundle.getWiring();
+				if (wiring == null || !wiring.isInUse()) {
+					continue;
+				}
+				List<BundleWire> requiredWires = wiring.getRequiredWires(null);
+				for (BundleWire wire : requiredWires) {
+					BundleRevision provider = wire.getCapability().getRevision();
+					if (provider instanceof BundleDescription && provider != bundle
+							&& (includeOptional || !DependencyManager.isOptional(wire.getRequirement()))) {
+						dependents.computeIfAbsent(((BundleDescription) provider).getBundleId(), id -> new BitSet())
+								.set((int) bundle.getBundleId());
+					}
+				}
+			}
+			fDependents[index] = dependents;
+		}
+		return fDependents[index];
+	}
+
+}
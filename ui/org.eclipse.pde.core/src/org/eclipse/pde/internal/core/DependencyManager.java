@@ -168,6 +168,46 @@ public class DependencyManager {
 			throw new AssertionError("Cannot combine INCLUDE_ALL_FRAGMENTS and INCLUDE_NON_TEST_FRAGMENTS"); //$NON-NLS-1$
 		}
 
+		// test fragments are detected from the project classpath, which is
+		// not tracked by the index
+		DependencyIndex index = getDependencyIndex();
+		if (!includeNonTestFragments && index != null && index.isIndexed(bundles)) {
+			return index.findRequirementsClosure(bundles, includeOptional, includeAllFragments,
+					b -> computeRequirementsClosure(b, includeOptional, includeAllFragments, false));
+		}
+		return computeRequirementsClosure(bundles, includeOptional, includeAllFragments, includeNonTestFragments);
+	}
+
+	/**
+	 * Returns a {@link Set} of bundle descriptions of the given bundles and all
+	 * bundles of the PDE state that directly or indirectly require them.
+	 * <p>
+	 * This is the reverse of {@link #findRequirementsClosure(Collection, Options...)}
+	 * and only considers bundles of the current PDE state.
+	 * </p>
+	 *
+	 * @param bundles
+	 *            the group of {@link BundleDescription}s to compute dependents
+	 *            for.
+	 * @param includeOptional
+	 *            whether bundles that only optionally require the given bundles
+	 *            are included
+	 * @return a set of bundle descriptions
+	 */
+	public static Set<BundleDescription> findDependentsClosure(Collection<BundleDescription> bundles,
+			boolean includeOptional) {
+		DependencyIndex index = getDependencyIndex();
+		return index != null ? index.findDependentsClosure(bundles, includeOptional) : new HashSet<>();
+	}
+
+	private static DependencyIndex getDependencyIndex() {
+		PDECore core = PDECore.getDefault();
+		return core != null ? core.getModelManager().getDependencyIndex() : null;
+	}
+
+	private static Set<BundleDescription> computeRequirementsClosure(Collection<BundleDescription> bundles,
+			boolean includeOptional, boolean includeAllFragments, boolean includeNonTestFragments) {
+
 		Set<BundleDescription> closure = new HashSet<>(bundles.size() * 4 / 3 + 1);
 		Queue<BundleDescription> pending = new ArrayDeque<>(bundles.size());
 
@@ -221,7 +261,7 @@ public class DependencyManager {
 		}
 	}
 
-	private static boolean isOptional(BundleRequirement requirement) {
+	static boolean isOptional(BundleRequirement requirement) {
 		return Constants.RESOLUTION_OPTIONAL.equals(requirement.getDirectives().get(Constants.RESOLUTION_DIRECTIVE));
 	}
 
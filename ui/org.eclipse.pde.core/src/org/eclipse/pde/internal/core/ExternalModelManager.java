@@ -16,14 +16,23 @@ package org.eclipse.pde.internal.core;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.core.plugin.IPluginLibrary;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
@@ -40,7 +49,10 @@ public class ExternalModelManager extends AbstractModelManager {
 
 	public void setModels(IPluginModelBase[] models) {
 		fModels = models;
+		// do not delete libraries a running extraction is still writing
+		fLibCache.cancelExtraction();
 		fLibCache.cleanExtractedLibraries(fModels);
+		fLibCache.extractLibraries(fModels);
 	}
 
 	/**
@@ -103,6 +115,10 @@ class ExternalLibraryCache {
 	 */
 	private static final String LIB_CACHE_DIR = ".external_libraries"; //$NON-NLS-1$
 
+	private static final int EXTRACT_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+	private Job fExtractJob;
+
 	/**
 	 * Returns all libraries extracted from an external jarred plug-in.  Will return an empty
 	 * array if the plug-in is not jarred or if no jarred libraries exist inside it.
@@ -124,33 +140,117 @@ class ExternalLibraryCache {
 
 		File fCacheDir = new File(getLibraryCacheDir(), getBundleLibsCacheDirName(desc));
 
-		List<File> files = new ArrayList<>();
-
+		Map<String, File> libraries = new LinkedHashMap<>();
+		boolean missing = false;
 		for (IPluginLibrary lib : libs) {
 			String libName = lib.getName();
 			if (!".".equals(libName)) { //$NON-NLS-1$
 				libName = ClasspathUtilCore.expandLibraryName(libName);
 				File fDestFile = new File(fCacheDir, libName);
+				libraries.put(libName, fDestFile);
 				// assume that an existing file is always valid
-				if (!fDestFile.isFile()) {
-					try {
-						File extractedLib = extractJar(fJarFile, libName, fDestFile);
-						if (extractedLib != null) {
-							files.add(extractedLib);
+				missing |= !fDestFile.isFile();
+			}
+		}
+
+		if (missing) {
+			// open the bundle only once for all libraries that are not extracted yet
+			try (JarFile f = new JarFile(fJarFile)) {
+				for (Map.Entry<String, File> library : libraries.entrySet()) {
+					if (!library.getValue().isFile()) {
+						try {
+							extractJar(f, library.getKey(), library.getValue());
+						} catch (IOException ie) {
+							// do not add file, but log error
+							PDECore.logException(ie, "Could not extract library from jarred bundle " + desc.getSymbolicName()); //$NON-NLS-1$
 						}
-					} catch (IOException ie) {
-						// do not add file, but log error
-						PDECore.logException(ie, "Could not extract library from jarred bundle " + desc.getSymbolicName()); //$NON-NLS-1$
 					}
-				} else {
-					files.add(fDestFile);
 				}
+			} catch (IOException ie) {
+				PDECore.logException(ie, "Could not extract library from jarred bundle " + desc.getSymbolicName()); //$NON-NLS-1$
 			}
 		}
 
+		List<File> files = new ArrayList<>();
+		for (File file : libraries.values()) {
+			if (file.isFile()) {
+				files.add(file);
+			}
+		}
 		return files.toArray(new File[0]);
 	}
 
+	/**
+	 * Extracts the libraries of all enabled jarred plug-ins of the target in a
+	 * background job, so that computing a class path rarely has to wait for an
+	 * extraction. The plug-ins are processed by a few threads of the job. A
+	 * previous extraction that is still running is canceled.
+	 *
+	 * @param targetModels The current contents of the target platform.
+	 */
+	public synchronized void extractLibraries(IPluginModelBase[] targetModels) {
+		if (fExtractJob != null) {
+			fExtractJob.cancel();
+		}
+		fExtractJob = Job.create(PDECoreMessages.ExternalLibraryCache_extracting, monitor -> {
+			// extraction blocks on I/O, keep it off the common pool
+			ExecutorService executor = Executors.newFixedThreadPool(EXTRACT_THREADS, runnable -> {
+				Thread thread = new Thread(runnable, PDECoreMessages.ExternalLibraryCache_extracting);
+				thread.setDaemon(true);
+				return thread;
+			});
+			try {
+				for (IPluginModelBase model : targetModels) {
+					executor.execute(() -> {
+						if (!monitor.isCanceled() && model.isEnabled() && model.getBundleDescription() != null
+								&& model.getInstallLocation() != null) {
+							getExtractedLibraries(model);
+						}
+					});
+				}
+			} finally {
+				// the job only ends once all libraries are written
+				executor.shutdown();
+				awaitTermination(executor);
+			}
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		});
+		fExtractJob.setSystem(true);
+		fExtractJob.setPriority(Job.DECORATE);
+		fExtractJob.schedule();
+	}
+
+	/**
+	 * Cancels a running extraction and waits until it stopped writing
+	 * libraries.
+	 */
+	public synchronized void cancelExtraction() {
+		if (fExtractJob == null) {
+			return;
+		}
+		fExtractJob.cancel();
+		try {
+			fExtractJob.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		fExtractJob = null;
+	}
+
+	private static void awaitTermination(ExecutorService executor) {
+		boolean interrupted = false;
+		while (!executor.isTerminated()) {
+			try {
+				executor.awaitTermination(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	/**
 	 * Deletes all the cached JARs of libraries which are currently not contained
 	 * or enabled in the target platform. Will ignore any errors when trying to
@@ -274,20 +374,37 @@ class ExternalLibraryCache {
 	 */
 	private File extractJar(File fJarFile, String libName, File fTargetFile) throws IOException {
 		try (JarFile f = new JarFile(fJarFile)) {
-			ZipEntry libEntry = f.getEntry(libName);
-			if (libEntry == null || libEntry.isDirectory()) {
-				return null;
-			}
-			fTargetFile.getParentFile().mkdirs();
-			try (InputStream in = f.getInputStream(libEntry)) {
-			if (in == null) {
-				throw new IOException();
-			}
+			return extractJar(f, libName, fTargetFile);
+		}
+	}
 
-			CoreUtility.readFile(in, fTargetFile);
+	/**
+	 * Extracts a library from an opened jarred plug-in. The library is written
+	 * to a temporary file first, so that concurrent readers never see a
+	 * partially extracted library.
+	 */
+	private File extractJar(JarFile f, String libName, File fTargetFile) throws IOException {
+		ZipEntry libEntry = f.getEntry(libName);
+		if (libEntry == null || libEntry.isDirectory()) {
+			return null;
+		}
+		File fDir = fTargetFile.getParentFile();
+		fDir.mkdirs();
+		File fTempFile = File.createTempFile(fTargetFile.getName() + ".extract", ".tmp", fDir); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			try (InputStream in = f.getInputStream(libEntry)) {
+				if (in == null) {
+					throw new IOException();
+				}
+				CoreUtility.readFile(in, fTempFile);
 			}
-			return fTargetFile;
+			Files.move(fTempFile.toPath(), fTargetFile.toPath());
+		} catch (FileAlreadyExistsException e) {
+			// extracted concurrently by another thread
+		} finally {
+			fTempFile.delete();
 		}
+		return fTargetFile;
 	}
 
 }
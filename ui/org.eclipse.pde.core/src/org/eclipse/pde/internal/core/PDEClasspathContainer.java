@@ -45,6 +45,11 @@ public class PDEClasspathContainer {
 			return discouraged == ((Rule) other).discouraged && path.equals(((Rule) other).path);
 		}
 
+		@Override
+		public int hashCode() {
+			return 31 * path.hashCode() + Boolean.hashCode(discouraged);
+		}
+
 		@Override
 		public String toString() {
 			return discouraged ? path.toString() + " [discouraged]" : path.toString(); //$NON-NLS-1$
@@ -145,6 +150,10 @@ public class PDEClasspathContainer {
 	}
 
 	protected static IAccessRule[] getAccessRules(Rule[] rules) {
+		return PDECore.getDefault().getModelManager().getVisiblePackagesCache().getAccessRules(rules);
+	}
+
+	static IAccessRule[] createAccessRules(Rule[] rules) {
 		IAccessRule[] accessRules = new IAccessRule[rules.length + 1];
 		for (int i = 0; i < rules.length; i++) {
 			Rule rule = rules[i];
@@ -68,11 +68,13 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	public static boolean DEBUG_MODEL = false;
 	public static boolean DEBUG_TARGET_PROFILE = false;
 	public static boolean DEBUG_VALIDATION = false;
+	public static boolean DEBUG_LAUNCH = false;
 	private static final String DEBUG_FLAG = PLUGIN_ID + "/debug"; //$NON-NLS-1$
 	private static final String CLASSPATH_DEBUG = PLUGIN_ID + "/classpath"; //$NON-NLS-1$
 	private static final String MODEL_DEBUG = PLUGIN_ID + "/model"; //$NON-NLS-1$
 	private static final String TARGET_PROFILE_DEBUG = PLUGIN_ID + "/target/profile"; //$NON-NLS-1$
 	private static final String VALIDATION_DEBUG = PLUGIN_ID + "/validation"; //$NON-NLS-1$
+	private static final String LAUNCH_DEBUG = PLUGIN_ID + "/launch"; //$NON-NLS-1$
 
 	// Shared instance
 	private static PDECore inst;
@@ -172,6 +174,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 
 	private FeatureRebuilder fFeatureRebuilder;
 
+	private final IPluginModelListener fValidationCacheListener = BundleValidationOperation::modelsChanged;
+
 	private PluginRebuilder fPluginRebuilder;
 
 	/**
@@ -239,6 +243,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	public synchronized SchemaRegistry getSchemaRegistry() {
 		if (fSchemaRegistry == null) {
 			fSchemaRegistry = new SchemaRegistry();
+			fSchemaRegistry.warmUp();
 		}
 		return fSchemaRegistry;
 	}
@@ -253,6 +258,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	public synchronized SourceLocationManager getSourceLocationManager() {
 		if (fSourceLocationManager == null) {
 			fSourceLocationManager = new SourceLocationManager();
+			getModelManager().addPluginModelListener(fSourceLocationManager);
 		}
 		return fSourceLocationManager;
 	}
@@ -307,6 +313,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		fPluginRebuilder.start();
 		fFeatureRebuilder = new FeatureRebuilder();
 		fFeatureRebuilder.start();
+		getModelManager().addPluginModelListener(fValidationCacheListener);
 
 		fTargetPlatformService = context.registerService(ITargetPlatformService.class,
 				TargetPlatformService.getDefault(), new Hashtable<String, Object>());
@@ -354,6 +361,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		fJavaElementChangeListener.shutdown();
 		fPluginRebuilder.stop();
 		fFeatureRebuilder.stop();
+		getModelManager().removePluginModelListener(fValidationCacheListener);
+		BundleValidationOperation.clearCache();
 
 		if (fSchemaRegistry != null) {
 			fSchemaRegistry.shutdown();
@@ -371,6 +380,10 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 			fFeatureModelManager.shutdown();
 			fFeatureModelManager = null;
 		}
+		if (fSourceLocationManager != null) {
+			getModelManager().removePluginModelListener(fSourceLocationManager);
+			fSourceLocationManager = null;
+		}
 		// always shut down extension registry before model manager (since it needs data from model manager)
 		if (fExtensionRegistry != null) {
 			fExtensionRegistry.stop();
@@ -417,5 +430,6 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		DEBUG_MODEL = DEBUG && options.getBooleanOption(MODEL_DEBUG, false);
 		DEBUG_TARGET_PROFILE = DEBUG && options.getBooleanOption(TARGET_PROFILE_DEBUG, false);
 		DEBUG_VALIDATION = DEBUG && options.getBooleanOption(VALIDATION_DEBUG, false);
+		DEBUG_LAUNCH = DEBUG && options.getBooleanOption(LAUNCH_DEBUG, false);
 	}
 }
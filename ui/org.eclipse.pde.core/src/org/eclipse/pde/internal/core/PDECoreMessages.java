@@ -73,6 +73,7 @@ public class PDECoreMessages extends NLS {
 	public static String PropertiesTextChangeListener_editNames_remove;
 	public static String RequiredPluginsClasspathContainer_description;
 	public static String ExternalJavaSearchClasspathContainer_description;
+	public static String ExternalLibraryCache_extracting;
 
 	public static String SchemaElementReference_refElementMissing;
 
@@ -247,8 +248,6 @@ public class PDECoreMessages extends NLS {
 
 	public static String BundleValidationOperation_multiple_singletons;
 
-	public static String ManifestConsistencyChecker_buildPropertiesSubtask;
-
 	public static String BuildErrorReporter_missingEntry;
 	public static String BuildErrorReporter_missingFolder;
 	public static String BuildErrorReporter_emptyEntry;
@@ -324,6 +323,8 @@ public class PDECoreMessages extends NLS {
 
 	public static String PluginModelManager_TargetInitCancelledLog;
 
+	public static String SchemaRegistry_warmUp;
+
 	public static String XMLTextChangeListener_editNames_addAttribute;
 	public static String XMLTextChangeListener_editNames_addContent;
 	public static String XMLTextChangeListener_editNames_insertNode;
@@ -15,8 +15,13 @@ package org.eclipse.pde.internal.core;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.core.runtime.IContributor;
 import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.IExtensionPoint;
@@ -46,6 +51,26 @@ public class PDEExtensionRegistry {
 	private IPluginModelBase[] fModels = null;
 	private final ArrayList<IRegistryChangeListener> fListeners = new ArrayList<>();
 
+	/**
+	 * Index from the id of a contributor (the bundle id) to its model, only
+	 * holds contributors found in the state
+	 */
+	private final Map<String, IPluginModelBase> fContributorModels = new ConcurrentHashMap<>();
+	/**
+	 * Index from extension point id to the models contributing extensions to
+	 * it, regardless of whether they are enabled
+	 */
+	private final Map<String, Set<IPluginModelBase>> fExtensionPlugins = new ConcurrentHashMap<>();
+	/**
+	 * Incremented whenever the index is updated, so that lookups computed
+	 * concurrently with a registry change are not put into the index. Guarded
+	 * by {@link #fIndexLock}, which is also held while the index is updated and
+	 * while a lookup is put into it, so that no lookup is put into the index
+	 * after it has been invalidated.
+	 */
+	private long fIndexGeneration;
+	private final Object fIndexLock = new Object();
+
 	private static final String EXTENSION_DIR = ".extensions"; //$NON-NLS-1$
 
 	public PDEExtensionRegistry() {
@@ -110,6 +135,56 @@ public class PDEExtensionRegistry {
 		}
 		CoreUtility.deleteContent(new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR));
 		fRegistry = null;
+		clearIndex();
+	}
+
+	/**
+	 * Discards the whole lookup index, e.g. because the registry was recreated
+	 */
+	void clearIndex() {
+		synchronized (fIndexLock) {
+			fIndexGeneration++;
+			fContributorModels.clear();
+			fExtensionPlugins.clear();
+		}
+	}
+
+	/**
+	 * Updates the lookup index after the contributions of the given models were
+	 * added to or removed from the registry.
+	 *
+	 * @param models the models whose contributions changed
+	 */
+	void updateIndex(IPluginModelBase[] models) {
+		if (models.length == 0) {
+			return;
+		}
+		Set<IPluginModelBase> changed = new HashSet<>(Arrays.asList(models));
+		// extension points the models now contribute to
+		Set<String> pointIds = new HashSet<>();
+		IExtensionRegistry registry = fRegistry;
+		if (registry != null) {
+			for (IPluginModelBase model : models) {
+				IContributor contributor = fStrategy.createContributor(model);
+				if (contributor != null) {
+					for (IExtension extension : registry.getExtensions(contributor)) {
+						pointIds.add(extension.getExtensionPointUniqueIdentifier());
+					}
+				}
+			}
+		}
+		synchronized (fIndexLock) {
+			fIndexGeneration++;
+			fContributorModels.values().removeIf(changed::contains);
+			fExtensionPlugins.values().removeIf(plugins -> !Collections.disjoint(plugins, changed));
+			fExtensionPlugins.keySet().removeAll(pointIds);
+		}
+	}
+
+	private long getIndexGeneration() {
+		synchronized (fIndexLock) {
+			return fIndexGeneration;
+		}
 	}
 
 	// dispose of registry without writing contents.
@@ -121,20 +196,36 @@ public class PDEExtensionRegistry {
 	// Methods to access data in Extension Registry
 
 	public IPluginModelBase[] findExtensionPlugins(String pointId, boolean activeOnly) {
-		IExtensionPoint point = getExtensionPoint(pointId);
-		if (point == null) {
-			// if extension point for extension does not exist, search all plug-ins manually
-			return activeOnly ? PluginRegistry.getActiveModels() : PluginRegistry.getAllModels();
+		Set<IPluginModelBase> plugins = fExtensionPlugins.get(pointId);
+		if (plugins == null) {
+			long generation = getIndexGeneration();
+			IExtensionPoint point = getExtensionPoint(pointId);
+			if (point == null) {
+				// if extension point for extension does not exist, search all plug-ins manually
+				return activeOnly ? PluginRegistry.getActiveModels() : PluginRegistry.getAllModels();
+			}
+			IExtension[] exts = point.getExtensions();
+			plugins = new HashSet<>();
+			for (IExtension ext : exts) {
+				IPluginModelBase base = getPlugin(ext.getContributor(), false);
+				if (base != null) {
+					plugins.add(base);
+				}
+			}
+			plugins = Collections.unmodifiableSet(plugins);
+			synchronized (fIndexLock) {
+				if (generation == fIndexGeneration) {
+					fExtensionPlugins.put(pointId, plugins);
+				}
+			}
 		}
-		IExtension[] exts = point.getExtensions();
-		HashSet<IPluginModelBase> plugins = new HashSet<>();
-		for (IExtension ext : exts) {
-			IPluginModelBase base = getPlugin(ext.getContributor(), false);
-			if (base != null && !plugins.contains(base) && (!activeOnly || base.isEnabled())) {
-				plugins.add(base);
+		ArrayList<IPluginModelBase> result = new ArrayList<>(plugins.size());
+		for (IPluginModelBase base : plugins) {
+			if (!activeOnly || base.isEnabled()) {
+				result.add(base);
 			}
 		}
-		return plugins.toArray(new IPluginModelBase[plugins.size()]);
+		return result.toArray(new IPluginModelBase[result.size()]);
 	}
 
 	/*
@@ -259,10 +350,23 @@ public class PDEExtensionRegistry {
 			return null;
 		}
 		RegistryContributor contributor = (RegistryContributor) icontributor;
+		IPluginModelBase model = fContributorModels.get(contributor.getActualId());
+		if (model != null) {
+			return model;
+		}
+		long generation = getIndexGeneration();
 		long bundleId = Long.parseLong(contributor.getActualId());
-		BundleDescription desc = PDECore.getDefault().getModelManager().getState().getState().getBundle(Long.parseLong(contributor.getActualId()));
+		BundleDescription desc = PDECore.getDefault().getModelManager().getState().getState().getBundle(bundleId);
 		if (desc != null) {
-			return PluginRegistry.findModel(desc);
+			model = PluginRegistry.findModel(desc);
+			if (model != null) {
+				synchronized (fIndexLock) {
+					if (generation == fIndexGeneration) {
+						fContributorModels.put(contributor.getActualId(), model);
+					}
+				}
+			}
+			return model;
 		}
 		// desc might be null if the workspace contains a plug-in with the same Bundle-SymbolicName
 		ModelEntry entry = PluginRegistry.findEntry(contributor.getActualName());
@@ -271,10 +375,10 @@ public class PDEExtensionRegistry {
 				return null;
 			}
 			IPluginModelBase externalModels[] = entry.getExternalModels();
-			for (IPluginModelBase model : externalModels) {
-				BundleDescription extDesc = model.getBundleDescription();
+			for (IPluginModelBase externalModel : externalModels) {
+				BundleDescription extDesc = externalModel.getBundleDescription();
 				if (extDesc != null && extDesc.getBundleId() == bundleId) {
-					return model;
+					return externalModel;
 				}
 			}
 		}
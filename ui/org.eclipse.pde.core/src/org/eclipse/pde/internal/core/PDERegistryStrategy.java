@@ -105,6 +105,19 @@ public class PDERegistryStrategy extends RegistryStrategy {
 			for (ModelEntry entry : entries) {
 				addBundles(fRegistry, entry.getActiveModels());
 			}
+			if (removedEntries.length > 0) {
+				fPDERegistry.clearIndex();
+			} else {
+				updateIndex(delta.getChangedEntries());
+				updateIndex(entries);
+			}
+		}
+
+		private void updateIndex(ModelEntry[] entries) {
+			for (ModelEntry entry : entries) {
+				fPDERegistry.updateIndex(entry.getWorkspaceModels());
+				fPDERegistry.updateIndex(entry.getExternalModels());
+			}
 		}
 
 	}
@@ -128,8 +141,12 @@ public class PDERegistryStrategy extends RegistryStrategy {
 					IPluginModelBase[] externalModels = entry.getExternalModels();
 					removeModels(externalModels, false);
 					addBundles(fRegistry, externalModels);
+					fPDERegistry.updateIndex(externalModels);
 				}
 			}
+			fPDERegistry.updateIndex(bases);
+			fPDERegistry.updateIndex(event.getChangedModels());
+			fPDERegistry.updateIndex(event.getAddedModels());
 		}
 
 	}
@@ -190,6 +190,8 @@ public class PluginModelManager implements IModelProviderListener {
 	private final ExternalModelManager fExternalManager; // keeps track of changes in target models
 	private final WorkspacePluginModelManager fWorkspaceManager; // keeps track of changes in the workspace
 	private PDEState fState; // keeps the combined view of the target and workspace
+	private final VisiblePackagesCache fVisiblePackagesCache = new VisiblePackagesCache(); // shared by all classpath containers
+	private final DependencyIndex fDependencyIndex = new DependencyIndex(); // requirement closures of the state
 
 	/**
 	 * only access synchronized with fEntriesSynchronizer
@@ -300,6 +302,9 @@ public class PluginModelManager implements IModelProviderListener {
 				// resolve based on added bundles, in case there are multiple versions of the added bundles
 				stateDelta = fState.resolveState(addedBSNs.toArray(new String[addedBSNs.size()]));
 			}
+			// evict cached visible packages before any classpath is recomputed
+			fVisiblePackagesCache.stateResolved(stateDelta);
+			fDependencyIndex.stateResolved(stateDelta);
 			// trigger a classpath update for all workspace plug-ins affected by the
 			// processed batch of changes, run asynch for manifest changes
 			updateAffectedEntries(stateDelta, (e.getEventTypes() & IModelProviderEvent.MODELS_CHANGED) != 0);
@@ -594,6 +599,8 @@ public class PluginModelManager implements IModelProviderListener {
 			//Workspace target contains unresolved p2 repositories,
 			//set empty fState, fExternalManager, fEntries- scheduling target platform resolve
 			fState = new PDEState(new URI[0], true, true, subMon);
+			fVisiblePackagesCache.reset(fState.getState());
+			fDependencyIndex.reset(fState.getState());
 			fExternalManager.setModels(new IPluginModelBase[0]);
 			fEntries = entries;
 			LoadTargetDefinitionJob.load(unresolvedRepoBasedtarget);
@@ -643,6 +650,8 @@ public class PluginModelManager implements IModelProviderListener {
 
 		// Resolve the state for all external and workspace models
 		fState.resolveState(true);
+		fVisiblePackagesCache.reset(fState.getState());
+		fDependencyIndex.reset(fState.getState());
 		subMon.split(5);
 
 		fEntries = entries;
@@ -1239,6 +1248,26 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 	}
 
+	/**
+	 * Returns the cache of packages visible to the bundles of the current PDE
+	 * state, shared by all required plug-ins classpath containers
+	 *
+	 * @return the visible packages cache
+	 */
+	public VisiblePackagesCache getVisiblePackagesCache() {
+		return fVisiblePackagesCache;
+	}
+
+	/**
+	 * Returns the index of requirement closures of the bundles in the current
+	 * PDE state
+	 *
+	 * @return the dependency index
+	 */
+	public DependencyIndex getDependencyIndex() {
+		return fDependencyIndex;
+	}
+
 	/**
 	 * Returns the id of the system bundle currently in the resolver state
 	 *
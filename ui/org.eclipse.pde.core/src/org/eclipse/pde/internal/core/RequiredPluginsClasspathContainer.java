@@ -45,7 +45,6 @@ import org.eclipse.osgi.service.resolver.BundleSpecification;
 import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
-import org.eclipse.osgi.service.resolver.StateHelper;
 import org.eclipse.pde.core.IClasspathContributor;
 import org.eclipse.pde.core.build.IBuild;
 import org.eclipse.pde.core.build.IBuildEntry;
@@ -221,44 +220,32 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 
 	private Map<BundleDescription, ArrayList<Rule>> retrieveVisiblePackagesFromState(BundleDescription desc) {
 		Map<BundleDescription, ArrayList<Rule>> visiblePackages = new HashMap<>();
-		StateHelper helper = Platform.getPlatformAdmin().getStateHelper();
-		addVisiblePackagesFromState(helper, desc, visiblePackages);
+		VisiblePackagesCache cache = PDECore.getDefault().getModelManager().getVisiblePackagesCache();
+		addVisiblePackagesFromState(cache, desc, visiblePackages);
 		if (desc.getHost() != null) {
-			addVisiblePackagesFromState(helper, (BundleDescription) desc.getHost().getSupplier(), visiblePackages);
+			addVisiblePackagesFromState(cache, (BundleDescription) desc.getHost().getSupplier(), visiblePackages);
 		}
 		return visiblePackages;
 	}
 
-	private void addVisiblePackagesFromState(StateHelper helper, BundleDescription desc, Map<BundleDescription, ArrayList<Rule>> visiblePackages) {
+	private void addVisiblePackagesFromState(VisiblePackagesCache cache, BundleDescription desc, Map<BundleDescription, ArrayList<Rule>> visiblePackages) {
 		if (desc == null) {
 			return;
 		}
-		ExportPackageDescription[] exports = helper.getVisiblePackages(desc);
-		for (ExportPackageDescription export : exports) {
-			BundleDescription exporter = export.getExporter();
-			if (exporter == null) {
-				continue;
-			}
-			ArrayList<Rule> list = visiblePackages.get(exporter);
+		for (Map.Entry<BundleDescription, List<Rule>> entry : cache.getVisiblePackages(desc).entrySet()) {
+			ArrayList<Rule> list = visiblePackages.get(entry.getKey());
 			if (list == null) {
-				list = new ArrayList<>();
-				visiblePackages.put(exporter, list);
+				visiblePackages.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+				continue;
 			}
-			Rule rule = getRule(helper, desc, export);
-			if (!list.contains(rule)) {
-				list.add(rule);
+			for (Rule rule : entry.getValue()) {
+				if (!list.contains(rule)) {
+					list.add(rule);
+				}
 			}
 		}
 	}
 
-	private Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
-		Rule rule = new Rule();
-		rule.discouraged = helper.getAccessCode(desc, export) == StateHelper.ACCESS_DISCOURAGED;
-		String name = export.getName();
-		rule.path = (name.equals(".")) ? new Path("*") : new Path(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-		return rule;
-	}
-
 	protected void addDependencyViaImportPackage(BundleDescription desc, HashSet<BundleDescription> added, Map<BundleDescription, ArrayList<Rule>> map, ArrayList<IClasspathEntry> entries) throws CoreException {
 		if (desc == null || !added.add(desc)) {
 			return;
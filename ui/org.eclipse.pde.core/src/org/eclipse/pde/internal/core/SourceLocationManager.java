@@ -22,8 +22,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.IPath;
@@ -40,8 +42,16 @@ import org.osgi.framework.Version;
 /**
  * Manages where PDE should look when looking for source.  The locations may
  * be specified by the user, by extension, or by bundle manifest entry.
+ * <p>
+ * The source files found in the user and extension locations for a plug-in
+ * are remembered until {@link #reset()} is called, which happens when the
+ * target is loaded or its plug-ins change, so that attaching source to the
+ * same plug-in again does not access the file system. Locations without
+ * source for a plug-in are probed again on every lookup, as the source may be
+ * added to them at any time.
+ * </p>
  */
-public class SourceLocationManager implements ICoreConstants {
+public class SourceLocationManager implements ICoreConstants, IPluginModelListener {
 
 	/**
 	 * List of source locations that have been discovered using extension points
@@ -53,6 +63,19 @@ public class SourceLocationManager implements ICoreConstants {
 	 */
 	private BundleManifestSourceLocationManager fBundleManifestLocator = null;
 
+	/**
+	 * Preference value the user locations were parsed from, and the result
+	 */
+	private String fUserLocationsPreference = null;
+	private List<SourceLocation> fUserLocations = null;
+
+	/**
+	 * Maps relative source paths (PluginID_PluginVersion/library) to the file found
+	 * for them in the user specified and extension locations, misses are not kept
+	 */
+	private final Map<IPath, IPath> fUserPathIndex = new ConcurrentHashMap<>();
+	private final Map<IPath, IPath> fExtensionPathIndex = new ConcurrentHashMap<>();
+
 	/**
 	 * Searches source locations for one that provides source for the given pluginBase.
 	 * Will search user specified locations, then bundle manifest specified locations, then
@@ -190,6 +213,30 @@ public class SourceLocationManager implements ICoreConstants {
 	public void reset() {
 		fExtensionLocations = null;
 		fBundleManifestLocator = null;
+		fUserPathIndex.clear();
+		fExtensionPathIndex.clear();
+	}
+
+	/**
+	 * Resets this manager if the given change affects plug-ins of the target,
+	 * which provide the source bundles and extension locations.
+	 *
+	 * @param delta the change to the plug-in models
+	 */
+	@Override
+	public void modelsChanged(PluginModelDelta delta) {
+		if ((delta.getKind() & PluginModelDelta.REMOVED) != 0 || hasExternalModels(delta.getAddedEntries()) || hasExternalModels(delta.getChangedEntries())) {
+			reset();
+		}
+	}
+
+	private static boolean hasExternalModels(ModelEntry[] entries) {
+		for (ModelEntry entry : entries) {
+			if (entry.hasExternalModels()) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -199,13 +246,18 @@ public class SourceLocationManager implements ICoreConstants {
 	 * @return array of source locations that have been specified by the user
 	 */
 	@SuppressWarnings("deprecation")
-	public List<SourceLocation> getUserLocations() {
-		List<SourceLocation> userLocations = new ArrayList<>();
+	public synchronized List<SourceLocation> getUserLocations() {
 		String pref = PDECore.getDefault().getPreferencesManager().getString(P_SOURCE_LOCATIONS);
-		if (pref.length() > 0) {
-			parseSavedSourceLocations(pref, userLocations);
+		if (fUserLocations == null || !pref.equals(fUserLocationsPreference)) {
+			List<SourceLocation> userLocations = new ArrayList<>();
+			if (pref.length() > 0) {
+				parseSavedSourceLocations(pref, userLocations);
+			}
+			fUserLocations = userLocations;
+			fUserLocationsPreference = pref;
+			fUserPathIndex.clear();
 		}
-		return userLocations;
+		return new ArrayList<>(fUserLocations);
 	}
 
 	/**
@@ -225,13 +277,6 @@ public class SourceLocationManager implements ICoreConstants {
 		return getBundleManifestLocator().getSourceLocations();
 	}
 
-	/**
-	 * @return source location that was specified by a bundle manifest entry to provide source for the given plugin.
-	 */
-	private SourceLocation getBundleManifestLocation(String pluginID, Version version) {
-		return getBundleManifestLocator().getSourceLocation(pluginID, version);
-	}
-
 	/**
 	 * @return manager for bundle manifest source locations
 	 */
@@ -277,7 +322,24 @@ public class SourceLocationManager implements ICoreConstants {
 	 */
 	private IPath searchUserSpecifiedLocations(IPath relativePath) {
 		List<SourceLocation> userLocations = getUserLocations();
-		for (SourceLocation location : userLocations) {
+		if (userLocations.isEmpty()) {
+			return null;
+		}
+		if (relativePath == null) {
+			return searchLocations(userLocations, relativePath);
+		}
+		return fUserPathIndex.computeIfAbsent(relativePath, path -> searchLocations(userLocations, path));
+	}
+
+	/**
+	 * Searches through the given locations, appending the relative path and checking if
+	 * that file exists.
+	 * @param locations source locations to search
+	 * @param relativePath location of source file within the source location
+	 * @return path to the source file or <code>null</code> if one could not be found or if the file does not exist
+	 */
+	private IPath searchLocations(List<SourceLocation> locations, IPath relativePath) {
+		for (SourceLocation location : locations) {
 			IPath fullPath = location.getPath().append(relativePath);
 			File file = fullPath.toFile();
 			if (file.exists()) {
@@ -295,14 +357,10 @@ public class SourceLocationManager implements ICoreConstants {
 	 */
 	private IPath searchExtensionLocations(IPath relativePath) {
 		List<SourceLocation> extensionLocations = getExtensionLocations();
-		for (SourceLocation location : extensionLocations) {
-			IPath fullPath = location.getPath().append(relativePath);
-			File file = fullPath.toFile();
-			if (file.exists()) {
-				return fullPath;
-			}
+		if (relativePath == null) {
+			return searchLocations(extensionLocations, relativePath);
 		}
-		return null;
+		return fExtensionPathIndex.computeIfAbsent(relativePath, path -> searchLocations(extensionLocations, path));
 	}
 
 	/**
@@ -313,11 +371,8 @@ public class SourceLocationManager implements ICoreConstants {
 	 * @return path to the source file or <code>null</code> if one could not be found or if the file does not exist
 	 */
 	private IPath searchBundleManifestLocations(IPluginBase pluginBase) {
-		SourceLocation location = getBundleManifestLocation(pluginBase.getId(), new Version(pluginBase.getVersion()));
-		if (location != null && location.getPath().toFile().exists()) {
-			return location.getPath();
-		}
-		return null;
+		// the locations are checked for existence when the source bundles are indexed
+		return getBundleManifestLocator().getSourcePath(pluginBase.getId(), new Version(pluginBase.getVersion()));
 	}
 
 	/**
@@ -89,8 +89,15 @@ public class TargetPlatformHelper {
 	private static Map<String, String> fgCachedLocations;
 	private static HashMap<ITargetHandle, List<TargetDefinition>> fgCachedTargetDefinitionMap = new HashMap<>();
 
+	/**
+	 * @return the config.ini of the target platform, which may not exist
+	 */
+	public static File getConfigIniFile() {
+		return new File(TargetPlatform.getLocation(), "configuration/config.ini"); //$NON-NLS-1$
+	}
+
 	public static Properties getConfigIniProperties() {
-		File iniFile = new File(TargetPlatform.getLocation(), "configuration/config.ini"); //$NON-NLS-1$
+		File iniFile = getConfigIniFile();
 		if (!iniFile.exists()) {
 			return null;
 		}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.jdt.core.IAccessRule;
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.osgi.service.resolver.StateHelper;
+import org.eclipse.pde.internal.core.PDEClasspathContainer.Rule;
+
+/**
+ * Caches the packages visible to a bundle of the PDE state, grouped by
+ * exporting bundle, together with the access rules derived from them.
+ * <p>
+ * All {@link RequiredPluginsClasspathContainer}s share one instance, so that the
+ * resolver is asked only once per bundle no matter how many workspace projects
+ * depend on it. Entries are only kept for bundles of the current PDE state and
+ * are evicted by {@link #stateResolved(StateDelta)} for every bundle affected
+ * by a resolver delta, including the bundles depending on it.
+ * </p>
+ */
+public class VisiblePackagesCache {
+
+	private State fState;
+
+	/**
+	 * Incremented whenever entries are evicted, so that results computed
+	 * concurrently against an outdated state are not put into the cache.
+	 */
+	private long fGeneration;
+
+	private final Map<BundleDescription, Map<BundleDescription, List<Rule>>> fVisiblePackages = new HashMap<>();
+
+	private static final int MAX_ACCESS_RULES = 1024;
+
+	/**
+	 * Access rules keyed by the path and discouraged state of their rules, the
+	 * least recently used rule sets are dropped.
+	 */
+	private final Map<List<String>, IAccessRule[]> fAccessRules = new LinkedHashMap<List<String>, IAccessRule[]>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<String>, IAccessRule[]> eldest) {
+			return size() > MAX_ACCESS_RULES;
+		}
+	};
+
+	/**
+	 * Returns the packages visible to the given bundle, mapped from the
+	 * exporting bundle to the rules granting access to its packages. The
+	 * returned map and lists must not be modified.
+	 *
+	 * @param desc the bundle to compute the visible packages for
+	 * @return the visible packages grouped by exporter, never <code>null</code>
+	 */
+	public Map<BundleDescription, List<Rule>> getVisiblePackages(BundleDescription desc) {
+		State state = desc.getContainingState();
+		long generation;
+		synchronized (this) {
+			if (state == null || state != fState) {
+				// not part of the PDE state (e.g. a launch validation state)
+				return computeVisiblePackages(desc);
+			}
+			Map<BundleDescription, List<Rule>> cached = fVisiblePackages.get(desc);
+			if (cached != null) {
+				return cached;
+			}
+			generation = fGeneration;
+		}
+		Map<BundleDescription, List<Rule>> visiblePackages = computeVisiblePackages(desc);
+		synchronized (this) {
+			if (state == fState && generation == fGeneration) {
+				fVisiblePackages.put(desc, visiblePackages);
+			}
+		}
+		return visiblePackages;
+	}
+
+	/**
+	 * Returns the access rules for the given rules, terminated by a rule
+	 * excluding everything else. Identical rule sets share the same array which
+	 * must therefore not be modified.
+	 *
+	 * @param rules the rules to convert
+	 * @return the access rules for the given rules
+	 */
+	public IAccessRule[] getAccessRules(Rule[] rules) {
+		// rules are mutable, so the key is built from their current values
+		String[] key = new String[rules.length];
+		for (int i = 0; i < rules.length; i++) {
+			key[i] = (rules[i].discouraged ? '~' : '+') + rules[i].path.toString();
+		}
+		synchronized (fAccessRules) {
+			return fAccessRules.computeIfAbsent(List.of(key), k -> PDEClasspathContainer.createAccessRules(rules));
+		}
+	}
+
+	/**
+	 * Discards all cached entries and binds this cache to the given state.
+	 *
+	 * @param state the new PDE state, may be <code>null</code>
+	 */
+	public void reset(State state) {
+		synchronized (this) {
+			fState = state;
+			fGeneration++;
+			fVisiblePackages.clear();
+		}
+		synchronized (fAccessRules) {
+			fAccessRules.clear();
+		}
+	}
+
+	/**
+	 * Evicts the entries of all bundles affected by the given resolver delta.
+	 *
+	 * @param delta the resolver delta, or <code>null</code> to evict all entries
+	 */
+	public synchronized void stateResolved(StateDelta delta) {
+		fGeneration++;
+		if (delta == null) {
+			fVisiblePackages.clear();
+			return;
+		}
+		BundleDelta[] changes = delta.getChanges();
+		if (changes.length == 0) {
+			return;
+		}
+		// evict the changed bundles and everything wired to them
+		Set<BundleDescription> affected = new HashSet<>();
+		ArrayDeque<BundleDescription> queue = new ArrayDeque<>();
+		for (BundleDelta change : changes) {
+			if (affected.add(change.getBundle())) {
+				queue.add(change.getBundle());
+			}
+		}
+		while (!queue.isEmpty()) {
+			for (BundleDescription dependent : queue.pop().getDependents()) {
+				if (affected.add(dependent)) {
+					queue.add(dependent);
+				}
+			}
+		}
+		Iterator<Map.Entry<BundleDescription, Map<BundleDescription, List<Rule>>>> iter = fVisiblePackages.entrySet().iterator();
+		while (iter.hasNext()) {
+			Map.Entry<BundleDescription, Map<BundleDescription, List<Rule>>> entry = iter.next();
+			BundleDescription bundle = entry.getKey();
+			if (affected.contains(bundle) || bundle.isRemovalPending() || !Collections.disjoint(affected, entry.getValue().keySet())) {
+				iter.remove();
+			}
+		}
+	}
+
+	private static Map<BundleDescription, List<Rule>> computeVisiblePackages(BundleDescription desc) {
+		StateHelper helper = Platform.getPlatformAdmin().getStateHelper();
+		ExportPackageDescription[] exports = helper.getVisiblePackages(desc);
+		Map<BundleDescription, List<Rule>> visiblePackages = new LinkedHashMap<>();
+		for (ExportPackageDescription export : exports) {
+			BundleDescription exporter = export.getExporter();
+			if (exporter == null) {
+				continue;
+			}
+			List<Rule> list = visiblePackages.computeIfAbsent(exporter, e -> new ArrayList<>());
+			Rule rule = getRule(helper, desc, export);
+			if (!list.contains(rule)) {
+				list.add(rule);
+			}
+		}
+		for (Map.Entry<BundleDescription, List<Rule>> entry : visiblePackages.entrySet()) {
+			entry.setValue(Collections.unmodifiableList(entry.getValue()));
+		}
+		return Collections.unmodifiableMap(visiblePackages);
+	}
+
+	private static Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
+		Rule rule = new Rule();
+		rule.discouraged = helper.getAccessCode(desc, export) == StateHelper.ACCESS_DISCOURAGED;
+		String name = export.getName();
+		rule.path = (name.equals(".")) ? new Path("*") : new Path(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return rule;
+	}
+
+}
@@ -115,5 +115,25 @@ public abstract class ErrorReporter {
 		fErrorReporter.applyMarkers();
 	}
 
+	/**
+	 * Validates the content without touching the markers of the file, so that
+	 * several reporters can run concurrently. The problems found are only
+	 * written by a subsequent call to {@link #applyMarkers()}.
+	 *
+	 * @param monitor progress monitor, only checked for cancellation
+	 */
+	final void collectProblems(IProgressMonitor monitor) {
+		validate(monitor);
+	}
+
+	/**
+	 * Replaces the markers of the file with the problems found by
+	 * {@link #collectProblems(IProgressMonitor)}. Must be called in the thread
+	 * holding the build rule.
+	 */
+	final void applyMarkers() {
+		fErrorReporter.applyMarkers();
+	}
+
 	protected abstract void validate(IProgressMonitor monitor);
 }
@@ -14,7 +14,6 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.builders;
 
-import java.util.Arrays;
 import java.util.Map;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -26,7 +25,6 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
-import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDECoreMessages;
@@ -133,9 +131,11 @@ public class FeatureConsistencyChecker extends IncrementalProjectBuilder {
 
 	@Override
 	public ISchedulingRule getRule(int kind, Map<String, String> args) {
-		return new MultiRule(Arrays.stream(getProject().getWorkspace().getRoot().getProjects())
-				.filter(PDEBuilderHelper::isPDEProject)
-				.toArray(ISchedulingRule[]::new));
+		// only the markers of the own feature.xml are modified, and the
+		// referenced plug-ins and features are read from the shared models
+		// (see FeatureReferenceCache), so independent features may be
+		// validated in parallel
+		return getProject();
 	}
 
 }
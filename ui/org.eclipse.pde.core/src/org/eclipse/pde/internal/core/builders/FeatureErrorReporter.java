@@ -21,15 +21,11 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
-import org.eclipse.pde.core.plugin.ModelEntry;
-import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.ICoreConstants;
-import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDECoreMessages;
 import org.eclipse.pde.internal.core.builders.IncrementalErrorReporter.VirtualMarker;
 import org.eclipse.pde.internal.core.ibundle.IBundlePluginModel;
 import org.eclipse.pde.internal.core.ibundle.IManifestHeader;
-import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 import org.eclipse.pde.internal.core.util.IdUtil;
 import org.w3c.dom.Attr;
@@ -408,7 +404,7 @@ public class FeatureErrorReporter extends ManifestErrorReporter {
 		String id = attr.getValue();
 		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.F_UNRESOLVED_PLUGINS);
 		if (severity != CompilerFlags.IGNORE) {
-			IPluginModelBase model = PluginRegistry.findModel(id);
+			IPluginModelBase model = FeatureReferenceCache.findPlugin(id);
 			if (model == null || !model.isEnabled() || (isFragment && !model.isFragmentModel()) || (!isFragment && model.isFragmentModel())) {
 				VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Feature_reference, id), getLine(element, attr.getName()), severity, PDEMarkerFactory.CAT_OTHER);
 				addMarkerAttribute(marker, PDEMarkerFactory.compilerKey,  CompilerFlags.F_UNRESOLVED_PLUGINS);
@@ -419,8 +415,7 @@ public class FeatureErrorReporter extends ManifestErrorReporter {
 	private void validateFeatureExists(Element element, Attr attr) {
 		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.F_UNRESOLVED_FEATURES);
 		if (severity != CompilerFlags.IGNORE) {
-			IFeatureModel[] models = PDECore.getDefault().getFeatureModelManager().findFeatureModels(attr.getValue());
-			if (models.length == 0) {
+			if (!FeatureReferenceCache.hasFeature(attr.getValue())) {
 				VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Feature_freference, attr.getValue()), getLine(element, attr.getName()), severity, PDEMarkerFactory.CAT_OTHER);
 				addMarkerAttribute(marker, PDEMarkerFactory.compilerKey,  CompilerFlags.F_UNRESOLVED_FEATURES);
 			}
@@ -442,7 +437,7 @@ public class FeatureErrorReporter extends ManifestErrorReporter {
 			severity = CompilerFlags.WARNING;
 		}
 		String unpack = parent.getAttribute("unpack"); //$NON-NLS-1$
-		IPluginModelBase pModel = PluginRegistry.findModel(parent.getAttribute("id")); //$NON-NLS-1$
+		IPluginModelBase pModel = FeatureReferenceCache.findPlugin(parent.getAttribute("id")); //$NON-NLS-1$
 		if (pModel == null) {
 			return;
 		}
@@ -481,16 +476,8 @@ public class FeatureErrorReporter extends ManifestErrorReporter {
 		if (id.trim().length() == 0 || version.trim().length() == 0 || version.equals(ICoreConstants.DEFAULT_VERSION)) {
 			return;
 		}
-		ModelEntry entry = PluginRegistry.findEntry(id);
-		if (entry != null) {
-			IPluginModelBase[] allModels = entry.getActiveModels();
-			for (IPluginModelBase model : allModels) {
-				if (id.equals(model.getPluginBase().getId())) {
-					if (version.equals(model.getPluginBase().getVersion())) {
-						return;
-					}
-				}
-			}
+		if (FeatureReferenceCache.hasPluginVersion(id, version)) {
+			return;
 		}
 		report(NLS.bind(PDECoreMessages.Builders_Feature_mismatchPluginVersion, new String[] {version, id}), getLine(plugin, attr.getName()), CompilerFlags.WARNING, PDEMarkerFactory.CAT_OTHER);
 	}
@@ -15,7 +15,13 @@
 package org.eclipse.pde.internal.core.builders;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceChangeListener;
@@ -31,6 +37,7 @@ import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.internal.core.FeatureModelManager;
 import org.eclipse.pde.internal.core.IFeatureModelDelta;
@@ -38,14 +45,27 @@ import org.eclipse.pde.internal.core.IFeatureModelListener;
 import org.eclipse.pde.internal.core.IPluginModelListener;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+import org.eclipse.pde.internal.core.ifeature.IFeatureChild;
+import org.eclipse.pde.internal.core.ifeature.IFeatureImport;
 import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
 
 /**
- * Revalidates workspace features, on change in plug-ins or features
+ * Revalidates workspace features, on change in plug-ins or features.
+ * <p>
+ * Only the features that reference a changed plug-in or feature are
+ * revalidated, all other features are left alone.
+ * </p>
  */
 public class FeatureRebuilder implements IFeatureModelListener, IPluginModelListener, IResourceChangeListener {
 
-	private volatile boolean fTouchFeatures;
+	// ids of added and removed plug-ins and features, revalidated before the next build
+	private final Set<String> fChangedPlugins = new HashSet<>();
+	private final Set<String> fChangedFeatures = new HashSet<>();
+
+	// versions and fragment state of the workspace plug-ins, by id
+	private final Map<String, String> fWorkspaceStates = new HashMap<>();
 
 	public void start() {
 		PDECore.getDefault().getFeatureModelManager().addFeatureModelListener(this);
@@ -62,24 +82,53 @@ public class FeatureRebuilder implements IFeatureModelListener, IPluginModelList
 
 	@Override
 	public void modelsChanged(IFeatureModelDelta delta) {
+		FeatureReferenceCache.clear();
 		if ((IFeatureModelDelta.ADDED & delta.getKind()) != 0 || (IFeatureModelDelta.REMOVED & delta.getKind()) != 0) {
-			fTouchFeatures = true;
+			synchronized (this) {
+				addFeatureIds(delta.getAdded(), fChangedFeatures);
+				addFeatureIds(delta.getRemoved(), fChangedFeatures);
+			}
 		}
 	}
 
 	@Override
 	public void modelsChanged(PluginModelDelta delta) {
+		FeatureReferenceCache.clear();
 		if ((PluginModelDelta.ADDED & delta.getKind()) != 0 || (PluginModelDelta.REMOVED & delta.getKind()) != 0) {
-			fTouchFeatures = true;
-		} else {
-			// listen for changes in checked/unchecked state
-			// of plug-ins on the Target Platform preference page.
-			// Only first entry will do, since workspace/target batch changes
-			// typically do not mix.
-			ModelEntry[] changed = delta.getChangedEntries();
-			if (changed.length > 0) {
-				if (!changed[0].hasWorkspaceModels()) {
-					touchFeatures();
+			synchronized (this) {
+				addPluginIds(delta.getAddedEntries(), fChangedPlugins);
+				addPluginIds(delta.getRemovedEntries(), fChangedPlugins);
+				for (ModelEntry entry : delta.getAddedEntries()) {
+					if (entry.hasWorkspaceModels()) {
+						fWorkspaceStates.put(entry.getId(), getWorkspaceState(entry));
+					}
+				}
+				for (ModelEntry entry : delta.getRemovedEntries()) {
+					fWorkspaceStates.remove(entry.getId());
+				}
+			}
+		}
+		// listen for changes in checked/unchecked state
+		// of plug-ins on the Target Platform preference page,
+		// and for changed versions or fragment state of workspace plug-ins.
+		// Only first entry will do, since workspace/target batch changes
+		// typically do not mix.
+		ModelEntry[] changed = delta.getChangedEntries();
+		if (changed.length > 0) {
+			if (!changed[0].hasWorkspaceModels()) {
+				Set<String> plugins = new HashSet<>();
+				addPluginIds(changed, plugins);
+				touchFeatures(plugins, Collections.emptySet());
+			} else {
+				synchronized (this) {
+					// features only depend on the version and fragment state,
+					// edits of other manifest headers are ignored
+					for (ModelEntry entry : changed) {
+						String state = getWorkspaceState(entry);
+						if (!state.equals(fWorkspaceStates.put(entry.getId(), state))) {
+							fChangedPlugins.add(entry.getId());
+						}
+					}
 				}
 			}
 		}
@@ -87,14 +136,51 @@ public class FeatureRebuilder implements IFeatureModelListener, IPluginModelList
 
 	@Override
 	public void resourceChanged(IResourceChangeEvent event) {
-		if (event.getType() == IResourceChangeEvent.PRE_BUILD && fTouchFeatures) {
-			touchFeatures();
+		if (event.getType() == IResourceChangeEvent.PRE_BUILD) {
+			Set<String> plugins;
+			Set<String> features;
+			synchronized (this) {
+				if (fChangedPlugins.isEmpty() && fChangedFeatures.isEmpty()) {
+					return;
+				}
+				plugins = new HashSet<>(fChangedPlugins);
+				features = new HashSet<>(fChangedFeatures);
+				fChangedPlugins.clear();
+				fChangedFeatures.clear();
+			}
+			touchFeatures(plugins, features);
+		}
+	}
+
+	private static void addPluginIds(ModelEntry[] entries, Set<String> ids) {
+		for (ModelEntry entry : entries) {
+			ids.add(entry.getId());
 		}
 	}
 
-	private void touchFeatures() {
+	/**
+	 * @return the versions and fragment state of the workspace models of the
+	 *         entry
+	 */
+	private static String getWorkspaceState(ModelEntry entry) {
+		StringBuilder state = new StringBuilder();
+		for (IPluginModelBase model : entry.getWorkspaceModels()) {
+			state.append(model.getPluginBase().getVersion());
+			state.append(model.isFragmentModel() ? ":fragment;" : ":plugin;"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return state.toString();
+	}
+
+	private static void addFeatureIds(IFeatureModel[] models, Set<String> ids) {
+		for (IFeatureModel model : models) {
+			ids.add(model.getFeature().getId());
+		}
+	}
+
+	private void touchFeatures(Set<String> plugins, Set<String> features) {
 		FeatureModelManager manager = PDECore.getDefault().getFeatureModelManager();
-		IFeatureModel[] workspaceFeatures = manager.getWorkspaceModels();
+		IFeatureModel[] workspaceFeatures = Arrays.stream(manager.getWorkspaceModels())
+				.filter(model -> references(model.getFeature(), plugins, features)).toArray(IFeatureModel[]::new);
 		if (workspaceFeatures.length > 0) {
 			IProgressMonitor monitor = new NullProgressMonitor();
 			if (ResourcesPlugin.getWorkspace().isTreeLocked()) {
@@ -119,11 +205,36 @@ public class FeatureRebuilder implements IFeatureModelListener, IPluginModelList
 				SubMonitor subMonitor = SubMonitor.convert(monitor, workspaceFeatures.length);
 				touch(workspaceFeatures, subMonitor);
 			}
-		} else {
-			fTouchFeatures = false;
 		}
 	}
 
+	/**
+	 * @return whether the feature includes or requires one of the given
+	 *         plug-ins or features
+	 */
+	private static boolean references(IFeature feature, Set<String> plugins, Set<String> features) {
+		if (plugins.contains(feature.getPlugin())) {
+			return true;
+		}
+		for (IFeaturePlugin plugin : feature.getPlugins()) {
+			if (plugins.contains(plugin.getId())) {
+				return true;
+			}
+		}
+		for (IFeatureChild child : feature.getIncludedFeatures()) {
+			if (features.contains(child.getId())) {
+				return true;
+			}
+		}
+		for (IFeatureImport featureImport : feature.getImports()) {
+			Set<String> ids = featureImport.getType() == IFeatureImport.FEATURE ? features : plugins;
+			if (ids.contains(featureImport.getId())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * @return a rule for modifying the features or null if no valid resources
 	 *         were found
@@ -154,7 +265,6 @@ public class FeatureRebuilder implements IFeatureModelListener, IPluginModelList
 				PDECore.log(e);
 			}
 		}
-		fTouchFeatures = false;
 	}
 
 }
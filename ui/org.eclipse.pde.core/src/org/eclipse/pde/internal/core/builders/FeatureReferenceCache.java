@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * The plug-ins and features referenced by feature manifests, looked up once
+ * and shared by the validation of all features until the plug-in or feature
+ * models change.
+ * <p>
+ * The {@link FeatureRebuilder} clears the cache on every model change. Lookups
+ * that are still running while the cache is cleared store their result in the
+ * discarded cache only.
+ * </p>
+ */
+class FeatureReferenceCache {
+
+	private static volatile FeatureReferenceCache fCurrent = new FeatureReferenceCache();
+
+	private final Map<String, Optional<IPluginModelBase>> fPlugins = new ConcurrentHashMap<>();
+	private final Map<String, Set<String>> fPluginVersions = new ConcurrentHashMap<>();
+	private final Map<String, Boolean> fFeatures = new ConcurrentHashMap<>();
+
+	private FeatureReferenceCache() {
+	}
+
+	/**
+	 * @return the model of the plug-in with the given id like
+	 *         {@link PluginRegistry#findModel(String)}, or <code>null</code>
+	 */
+	static IPluginModelBase findPlugin(String id) {
+		return fCurrent.fPlugins.computeIfAbsent(id, key -> Optional.ofNullable(PluginRegistry.findModel(key))).orElse(null);
+	}
+
+	/**
+	 * @return whether an active plug-in with the given id and version exists
+	 */
+	static boolean hasPluginVersion(String id, String version) {
+		return fCurrent.fPluginVersions.computeIfAbsent(id, FeatureReferenceCache::getActiveVersions).contains(version);
+	}
+
+	/**
+	 * @return whether a feature with the given id exists
+	 */
+	static boolean hasFeature(String id) {
+		return fCurrent.fFeatures.computeIfAbsent(id, key -> PDECore.getDefault().getFeatureModelManager().findFeatureModels(key).length > 0);
+	}
+
+	/**
+	 * Discards all lookups, called whenever the plug-in or feature models change.
+	 */
+	static void clear() {
+		fCurrent = new FeatureReferenceCache();
+	}
+
+	private static Set<String> getActiveVersions(String id) {
+		ModelEntry entry = PluginRegistry.findEntry(id);
+		if (entry == null) {
+			return Collections.emptySet();
+		}
+		Set<String> versions = new HashSet<>();
+		for (IPluginModelBase model : entry.getActiveModels()) {
+			if (id.equals(model.getPluginBase().getId())) {
+				versions.add(model.getPluginBase().getVersion());
+			}
+		}
+		return versions;
+	}
+
+}
@@ -16,6 +16,7 @@ package org.eclipse.pde.internal.core.builders;
 import org.eclipse.osgi.util.ManifestElement;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.core.PDECoreMessages;
+import org.eclipse.pde.internal.core.util.ManifestHeaderCache;
 import org.osgi.framework.BundleException;
 
 public class JarManifestHeader implements IHeader {
@@ -57,7 +58,7 @@ public class JarManifestHeader implements IHeader {
 		if (fManifestElements == null) {
 			if (getValue().trim().length() > 0) {
 				try {
-					fManifestElements = ManifestElement.parseHeader(getName(), getValue());
+					fManifestElements = ManifestHeaderCache.parseHeader(getName(), getValue());
 				} catch (BundleException be) {
 					fManifestElements = new ManifestElement[0];
 					if (fErrorReporter != null) {
@@ -18,9 +18,12 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IMarker;
@@ -28,10 +31,13 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
@@ -63,6 +69,13 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 	 */
 	private static final boolean DISABLE_AUTO_BUILDING_ON_SETTINGS_CHANGE = Boolean.getBoolean("org.eclipse.disableAutoBuildOnSettingsChange"); //$NON-NLS-1$
 
+	/*
+	 * The files of a project are validated concurrently. To compare with or
+	 * to fall back to validating them one after the other, specify VM
+	 * property: {@code -Dpde.sequentialValidation=true}
+	 */
+	private static final String SEQUENTIAL_VALIDATION = "pde.sequentialValidation"; //$NON-NLS-1$
+
 	private final ClassChangeVisitor fClassFileVisitor = new ClassChangeVisitor();
 
 	static class ClassChangeVisitor implements IResourceDeltaVisitor {
@@ -250,6 +263,10 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 			validateProjectStructure(type, subMonitor.split(1));
 		}
 
+		// the files are validated concurrently, each reporter only collects
+		// its problems which are then written to the markers in one batch
+		List<Consumer<IProgressMonitor>> validations = new ArrayList<>();
+		List<Runnable> markerUpdates = new ArrayList<>();
 		if ((type & (MANIFEST | EXTENSIONS)) != 0) {
 			IProject project = getProject();
 			IFile file = PDEProject.getPluginXml(project);
@@ -258,16 +275,49 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 			}
 
 			if (file.exists()) {
-				validateFiles(file, type, monitor);
+				validateFiles(file, type, validations, markerUpdates);
 			} else if ((type & MANIFEST) != 0) {
 				IFile manifestFile = PDEProject.getManifest(project);
 				if (manifestFile.exists()) {
-					validateManifestFile(manifestFile, subMonitor.split(1));
+					validateManifestFile(manifestFile, validations, markerUpdates);
 				}
 			}
 		}
 		if ((type & BUILD) != 0) {
-			validateBuildProperties(subMonitor.split(1));
+			validateBuildProperties(validations, markerUpdates);
+		}
+		if (validations.isEmpty() || subMonitor.isCanceled()) {
+			return;
+		}
+
+		subMonitor.setWorkRemaining(2);
+		subMonitor.subTask(NLS.bind(PDECoreMessages.Builders_verifying, getProject().getFullPath().toString()));
+		if (validations.size() == 1 || Boolean.getBoolean(SEQUENTIAL_VALIDATION)) {
+			SubMonitor validationMonitor = subMonitor.split(1).setWorkRemaining(validations.size());
+			for (Consumer<IProgressMonitor> validation : validations) {
+				validation.accept(validationMonitor.split(1));
+			}
+		} else {
+			// monitors are not thread safe, each validation gets its own one
+			// which only forwards the cancellation
+			validations.parallelStream().forEach(validation -> validation.accept(new NullProgressMonitor() {
+				@Override
+				public boolean isCanceled() {
+					return subMonitor.isCanceled();
+				}
+			}));
+			subMonitor.worked(1);
+		}
+		if (subMonitor.isCanceled()) {
+			return;
+		}
+
+		subMonitor.subTask(PDECoreMessages.Builders_updating);
+		IWorkspaceRunnable updateMarkers = m -> markerUpdates.forEach(Runnable::run);
+		try {
+			getProject().getWorkspace().run(updateMarkers, getProject(), IWorkspace.AVOID_UPDATE, subMonitor.split(1));
+		} catch (CoreException e) {
+			PDECore.log(e);
 		}
 	}
 
@@ -300,26 +350,15 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		validateManifestCasing(project);
 	}
 
-	private void validateManifestFile(IFile file, IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
-		}
-		String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
-		monitor.subTask(message);
-
+	private void validateManifestFile(IFile file, List<Consumer<IProgressMonitor>> validations,
+			List<Runnable> markerUpdates) {
 		BundleErrorReporter reporter = new BundleErrorReporter(file);
-		reporter.validateContent(monitor);
-		monitor.subTask(PDECoreMessages.Builders_updating);
-		monitor.done();
+		validations.add(reporter::collectProblems);
+		markerUpdates.add(reporter::applyMarkers);
 	}
 
-	private void validateFiles(IFile file, int type, IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
-		}
-		String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
-		monitor.subTask(message);
-
+	private void validateFiles(IFile file, int type, List<Consumer<IProgressMonitor>> validations,
+			List<Runnable> markerUpdates) {
 		IFile bundleManifest = PDEProject.getManifest(getProject());
 		XMLErrorReporter reporter = null;
 		BundleErrorReporter bundleReporter = null;
@@ -338,27 +377,28 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 			}
 		}
 		if (reporter != null) {
-			DefaultSAXParser.parse(file, reporter);
-			reporter.validateContent(monitor);
-			monitor.subTask(PDECoreMessages.Builders_updating);
+			XMLErrorReporter xmlReporter = reporter;
+			validations.add(monitor -> {
+				DefaultSAXParser.parse(file, xmlReporter);
+				xmlReporter.collectProblems(monitor);
+			});
+			markerUpdates.add(xmlReporter::applyMarkers);
 		}
 		if (bundleReporter != null) {
-			bundleReporter.validateContent(monitor);
-			monitor.subTask(PDECoreMessages.Builders_updating);
+			BundleErrorReporter manifestReporter = bundleReporter;
+			validations.add(manifestReporter::collectProblems);
+			markerUpdates.add(manifestReporter::applyMarkers);
 		}
-		monitor.done();
 	}
 
-	private void validateBuildProperties(IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
-		}
+	private void validateBuildProperties(List<Consumer<IProgressMonitor>> validations,
+			List<Runnable> markerUpdates) {
 		IProject project = getProject();
 		IFile file = PDEProject.getBuildProperties(project);
 		if (file.exists()) {
-			monitor.subTask(PDECoreMessages.ManifestConsistencyChecker_buildPropertiesSubtask);
 			BuildErrorReporter ber = new BuildErrorReporter(file);
-			ber.validateContent(monitor);
+			validations.add(ber::collectProblems);
+			markerUpdates.add(ber::applyMarkers);
 		}
 	}
 
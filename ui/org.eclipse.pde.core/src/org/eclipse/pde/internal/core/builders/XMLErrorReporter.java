@@ -404,6 +404,25 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 		fErrorReporter.applyMarkers();
 	}
 
+	/**
+	 * Validates the parsed document without touching the markers of the file.
+	 * The problems found are only written by {@link #applyMarkers()}.
+	 *
+	 * @param monitor progress monitor, only checked for cancellation
+	 * @see ErrorReporter#collectProblems(IProgressMonitor)
+	 */
+	final void collectProblems(IProgressMonitor monitor) {
+		validate(monitor);
+	}
+
+	/**
+	 * Replaces the markers of the file with the problems found by
+	 * {@link #collectProblems(IProgressMonitor)}.
+	 */
+	final void applyMarkers() {
+		fErrorReporter.applyMarkers();
+	}
+
 	protected abstract void validate(IProgressMonitor monitor);
 
 	public Element getDocumentRoot() {
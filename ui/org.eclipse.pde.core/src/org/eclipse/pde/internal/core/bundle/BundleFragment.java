@@ -22,6 +22,7 @@ import org.eclipse.pde.internal.core.ibundle.IBundleFragment;
 import org.eclipse.pde.internal.core.ibundle.IManifestHeader;
 import org.eclipse.pde.internal.core.plugin.PluginBase;
 import org.eclipse.pde.internal.core.text.bundle.FragmentHostHeader;
+import org.eclipse.pde.internal.core.util.ManifestHeaderCache;
 import org.osgi.framework.BundleException;
 import org.osgi.framework.Constants;
 
@@ -108,7 +109,7 @@ public class BundleFragment extends BundlePluginBase implements IBundleFragment
 			return null;
 		}
 		try {
-			ManifestElement[] elements = ManifestElement.parseHeader(key, value);
+			ManifestElement[] elements = ManifestHeaderCache.parseHeader(key, value);
 			if (elements.length > 0) {
 				return elements[0].getAttribute(attribute);
 			}
@@ -53,6 +53,7 @@ import org.eclipse.pde.internal.core.text.bundle.BundleSymbolicNameHeader;
 import org.eclipse.pde.internal.core.text.bundle.BundleVendorHeader;
 import org.eclipse.pde.internal.core.text.bundle.BundleVersionHeader;
 import org.eclipse.pde.internal.core.text.bundle.RequireBundleHeader;
+import org.eclipse.pde.internal.core.util.ManifestHeaderCache;
 import org.osgi.framework.BundleException;
 import org.osgi.framework.Constants;
 import org.osgi.framework.Version;
@@ -327,7 +328,7 @@ public class BundlePluginBase extends PlatformObject implements IBundlePluginBas
 			String value = bundle.getHeader(Constants.BUNDLE_CLASSPATH);
 			if (value != null) {
 				try {
-					ManifestElement[] elements = ManifestElement.parseHeader(Constants.BUNDLE_CLASSPATH, value);
+					ManifestElement[] elements = ManifestHeaderCache.parseHeader(Constants.BUNDLE_CLASSPATH, value);
 					for (ManifestElement element : elements) {
 						PluginLibrary library = new PluginLibrary();
 						library.setModel(getModel());
@@ -374,7 +375,7 @@ public class BundlePluginBase extends PlatformObject implements IBundlePluginBas
 						String value = bundle.getHeader(Constants.REQUIRE_BUNDLE);
 						int bundleManifestVersion = getBundleManifestVersion(bundle);
 						if (value != null) {
-							ManifestElement[] elements = ManifestElement.parseHeader(Constants.REQUIRE_BUNDLE, value);
+							ManifestElement[] elements = ManifestHeaderCache.parseHeader(Constants.REQUIRE_BUNDLE, value);
 							for (ManifestElement element : elements) {
 								PluginImport importElement = new PluginImport();
 								importElement.setModel(getModel());
@@ -612,7 +613,7 @@ public class BundlePluginBase extends PlatformObject implements IBundlePluginBas
 		return getValue(Constants.BUNDLE_SYMBOLICNAME, true);
 	}
 
-	// The key should be a manifest header key, and parse should be true if it needs to be parsed by ManifestElement.parseHeader()
+	// The key should be a manifest header key, and parse should be true if it needs to be parsed by ManifestHeaderCache.parseHeader()
 	protected String getValue(String key, boolean parse) {
 		IBundle bundle = getBundle();
 		if (bundle == null) {
@@ -623,7 +624,7 @@ public class BundlePluginBase extends PlatformObject implements IBundlePluginBas
 			return value;
 		}
 		try {
-			ManifestElement[] elements = ManifestElement.parseHeader(key, value);
+			ManifestElement[] elements = ManifestHeaderCache.parseHeader(key, value);
 			if (elements.length > 0) {
 				return elements[0].getValue();
 			}
@@ -29,6 +29,8 @@ public class FeatureExportInfo {
 	public String[] signingInfo;
 	public String[] jnlpInfo;
 	public String[][] targets;
+	/** whether the targets are assembled and packaged concurrently, by default one after the other */
+	public boolean parallelConfigurations;
 	public String categoryDefinition;
 
 }
@@ -323,22 +323,110 @@ public class FeatureExportOperation extends Job {
 
 		}
 
-		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningAssemblyScript);
-		for (String[] config : configs) {
-			setArchiveLocation(properties, config[0], config[1], config[2]);
-			runScript(getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), new String[] {"main"}, //$NON-NLS-1$
-					properties, subMonitor.split(2));
-		}
+		if (fInfo.parallelConfigurations && configs.length > 1) {
+			subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningAssemblyScript);
+			runConfigurationScripts(featureID, featureLocation, configs, properties, subMonitor.split(configs.length * 4));
+		} else {
+			subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningAssemblyScript);
+			for (String[] config : configs) {
+				setArchiveLocation(properties, config[0], config[1], config[2]);
+				runScript(getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), new String[] {"main"}, //$NON-NLS-1$
+						properties, subMonitor.split(2));
+			}
 
-		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningPackagerScript);
-		for (String[] config : configs) {
-			setArchiveLocation(properties, config[0], config[1], config[2]);
-			runScript(getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, properties, subMonitor.split(2));
+			subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningPackagerScript);
+			for (String[] config : configs) {
+				setArchiveLocation(properties, config[0], config[1], config[2]);
+				runScript(getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, properties, subMonitor.split(2));
+			}
 		}
 		properties.put("destination.temp.folder", fBuildTempLocation + "/pde.logs"); //$NON-NLS-1$ //$NON-NLS-2$
 		runScript(getBuildScriptName(featureLocation), new String[] {"gather.logs"}, properties, subMonitor.split(2)); //$NON-NLS-1$
 	}
 
+	/**
+	 * Assembles and packages the given configurations concurrently, using the
+	 * Ant <code>parallel</code> task to run the assembly and packager scripts of
+	 * each configuration in a thread of its own. The plug-ins have already been
+	 * compiled once for all configurations, each configuration gets its own
+	 * assembly and temporary folders so that they do not interfere.
+	 *
+	 * @param featureID the id of the feature being exported
+	 * @param featureLocation the folder containing the generated scripts
+	 * @param configs the configurations to assemble
+	 * @param properties the properties shared by all configurations
+	 * @param monitor progress monitor
+	 * @throws InvocationTargetException
+	 * @throws CoreException
+	 */
+	private void runConfigurationScripts(String featureID, String featureLocation, String[][] configs, Map<String, String> properties, IProgressMonitor monitor) throws InvocationTargetException, CoreException {
+		// user properties cannot be overridden by the nested properties of the ant tasks
+		Map<String, String> sharedProperties = new HashMap<>(properties);
+		sharedProperties.remove(IXMLConstants.PROPERTY_ARCHIVE_FULLPATH);
+		sharedProperties.remove(IXMLConstants.PROPERTY_ASSEMBLY_TMP);
+
+		File scriptFile = null;
+		try {
+			scriptFile = createScriptFile("assemble.parallel.xml"); //$NON-NLS-1$
+			DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+			Document doc = factory.newDocumentBuilder().newDocument();
+
+			Element root = doc.createElement("project"); //$NON-NLS-1$
+			root.setAttribute("name", "temp"); //$NON-NLS-1$ //$NON-NLS-2$
+			root.setAttribute("default", "main"); //$NON-NLS-1$ //$NON-NLS-2$
+			root.setAttribute("basedir", "."); //$NON-NLS-1$ //$NON-NLS-2$
+			doc.appendChild(root);
+
+			Element target = doc.createElement("target"); //$NON-NLS-1$
+			target.setAttribute("name", "main"); //$NON-NLS-1$ //$NON-NLS-2$
+			root.appendChild(target);
+
+			Element parallel = doc.createElement("parallel"); //$NON-NLS-1$
+			int threads = Math.min(configs.length, Runtime.getRuntime().availableProcessors());
+			parallel.setAttribute("threadCount", Integer.toString(Math.max(threads, 1))); //$NON-NLS-1$
+			parallel.setAttribute("failonany", "true"); //$NON-NLS-1$ //$NON-NLS-2$
+			target.appendChild(parallel);
+
+			for (String[] config : configs) {
+				String name = config[0] + '.' + config[1] + '.' + config[2];
+				Map<String, String> configProperties = new LinkedHashMap<>();
+				setArchiveLocation(configProperties, config[0], config[1], config[2]);
+				configProperties.putIfAbsent(IXMLConstants.PROPERTY_ASSEMBLY_TMP, fBuildTempLocation + "/assembly." + name); //$NON-NLS-1$
+				configProperties.put(IXMLConstants.PROPERTY_TEMP_FOLDER, fBuildTempLocation + "/temp." + name); //$NON-NLS-1$
+
+				Element sequential = doc.createElement("sequential"); //$NON-NLS-1$
+				sequential.appendChild(createAntElement(doc, getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), "main", featureLocation, configProperties)); //$NON-NLS-1$
+				sequential.appendChild(createAntElement(doc, getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, featureLocation, configProperties));
+				parallel.appendChild(sequential);
+			}
+
+			XMLPrintHandler.writeFile(doc, scriptFile);
+			runScript(scriptFile.getAbsolutePath(), new String[] {"main"}, sharedProperties, monitor); //$NON-NLS-1$
+		} catch (FactoryConfigurationError | ParserConfigurationException | IOException e) {
+			throw new InvocationTargetException(e);
+		} finally {
+			if (scriptFile != null && scriptFile.exists()) {
+				scriptFile.delete();
+			}
+		}
+	}
+
+	private Element createAntElement(Document doc, String antfile, String target, String dir, Map<String, String> properties) {
+		Element ant = doc.createElement("ant"); //$NON-NLS-1$
+		ant.setAttribute("antfile", antfile); //$NON-NLS-1$
+		ant.setAttribute("dir", dir); //$NON-NLS-1$
+		if (target != null) {
+			ant.setAttribute("target", target); //$NON-NLS-1$
+		}
+		for (Map.Entry<String, String> entry : properties.entrySet()) {
+			Element property = doc.createElement("property"); //$NON-NLS-1$
+			property.setAttribute("name", entry.getKey()); //$NON-NLS-1$
+			property.setAttribute("value", entry.getValue()); //$NON-NLS-1$
+			ant.appendChild(property);
+		}
+		return ant;
+	}
+
 	protected boolean groupedConfigurations() {
 		//feature export with p2 metadata results in a grouped repo
 		return publishingP2Metadata();
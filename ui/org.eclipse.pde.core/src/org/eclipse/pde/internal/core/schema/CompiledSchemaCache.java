@@ -0,0 +1,327 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.FactoryConfigurationError;
+import javax.xml.parsers.ParserConfigurationException;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.XMLDefaultHandler;
+import org.eclipse.pde.internal.core.util.SAXParserWrapper;
+import org.eclipse.pde.internal.core.util.SchemaUtil;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Persistent cache of parsed extension point schemas.
+ * <p>
+ * The cache stores the document tree of a schema, as produced by the
+ * {@link XMLDefaultHandler}, in a compact binary form in the PDE state
+ * location. An entry is keyed by the schema URL and the time stamp and size of
+ * the file (or archive) containing it, so that schemas from target archives are
+ * only parsed once, even across sessions.
+ * </p>
+ */
+public class CompiledSchemaCache {
+
+	private static final String CACHE_DIR = ".schemas"; //$NON-NLS-1$
+	private static final int FORMAT_VERSION = 2;
+
+	private static final byte ELEMENT = 1;
+	private static final byte TEXT = 2;
+	private static final byte END = 0;
+
+	/** upper bound for the number of cached schemas, see {@link #prune()} */
+	private static final int MAX_ENTRIES = 2000;
+
+	/** guards against corrupt entries, no schema contains strings of this size */
+	private static final int MAX_STRING_LENGTH = 1 << 24;
+
+	private static final DocumentBuilderFactory FACTORY = DocumentBuilderFactory.newInstance();
+
+	private CompiledSchemaCache() { // static use only
+	}
+
+	/**
+	 * Returns the root element of the schema at the given url. The document
+	 * tree is read from the cache if it is up to date, otherwise the schema is
+	 * parsed and the cache updated.
+	 *
+	 * @param url the location of the schema
+	 * @param abbreviated whether the documentation text is omitted
+	 * @return the root element of the schema or <code>null</code> if it cannot be read
+	 * @throws IOException if the schema cannot be accessed
+	 * @throws SAXException if the schema cannot be parsed
+	 */
+	public static Node load(URL url, boolean abbreviated) throws IOException, SAXException {
+		long[] stamp = getStamp(url);
+		File cacheFile = stamp == null ? null : getCacheFile(url, abbreviated);
+		if (cacheFile != null && cacheFile.isFile()) {
+			Node root = read(cacheFile, url, stamp);
+			if (root != null) {
+				cacheFile.setLastModified(System.currentTimeMillis());
+				return root;
+			}
+		}
+		Node root = parse(url, abbreviated);
+		if (root != null && cacheFile != null) {
+			write(cacheFile, url, stamp, root);
+		}
+		return root;
+	}
+
+	/**
+	 * Makes sure the cache holds an up to date entry for the schema at the
+	 * given url, without keeping the document tree. May be called from any
+	 * thread.
+	 *
+	 * @param url the location of the schema
+	 * @param abbreviated whether the documentation text is omitted
+	 */
+	public static void prepare(URL url, boolean abbreviated) {
+		long[] stamp = getStamp(url);
+		if (stamp == null) {
+			return;
+		}
+		File cacheFile = getCacheFile(url, abbreviated);
+		if (cacheFile.isFile() && isUpToDate(cacheFile, url, stamp)) {
+			cacheFile.setLastModified(System.currentTimeMillis());
+			return;
+		}
+		try {
+			Node root = parse(url, abbreviated);
+			if (root != null) {
+				write(cacheFile, url, stamp, root);
+			}
+		} catch (IOException | SAXException e) {
+			// the schema is reported when it is actually used
+		}
+	}
+
+	/**
+	 * Deletes the least recently used entries once the cache holds more than
+	 * {@link #MAX_ENTRIES} schemas, together with left over temporary files.
+	 */
+	public static void prune() {
+		File[] files = getCacheDir().listFiles();
+		if (files == null) {
+			return;
+		}
+		List<File> entries = new ArrayList<>(files.length);
+		for (File file : files) {
+			if (file.getName().endsWith(".bin")) { //$NON-NLS-1$
+				entries.add(file);
+			} else {
+				file.delete();
+			}
+		}
+		if (entries.size() <= MAX_ENTRIES) {
+			return;
+		}
+		// entries are touched whenever they are read
+		entries.sort(Comparator.comparingLong(File::lastModified));
+		for (File file : entries.subList(0, entries.size() - MAX_ENTRIES)) {
+			file.delete();
+		}
+	}
+
+	private static Node parse(URL url, boolean abbreviated) throws IOException, SAXException {
+		URLConnection connection = SchemaUtil.getURLConnection(url);
+		try (InputStream input = connection.getInputStream()) {
+			XMLDefaultHandler handler = new XMLDefaultHandler(abbreviated);
+			SAXParserWrapper.parse(input, handler);
+			return handler.getDocumentElement();
+		} catch (ParserConfigurationException e) {
+			throw new SAXException(e);
+		} catch (FactoryConfigurationError e) {
+			throw new SAXException(e.getMessage());
+		} finally {
+			if (connection instanceof JarURLConnection) {
+				try {
+					((JarURLConnection) connection).getJarFile().close();
+				} catch (IOException e) {
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the modification time stamp and the size of the file the schema
+	 * is read from, or <code>null</code> if they cannot be determined. The size
+	 * catches edits that keep the time stamp.
+	 */
+	private static long[] getStamp(URL url) {
+		File file = null;
+		if ("file".equals(url.getProtocol())) { //$NON-NLS-1$
+			try {
+				file = new File(url.toURI());
+			} catch (URISyntaxException | IllegalArgumentException e) {
+				file = new File(url.getFile());
+			}
+		} else if ("jar".equals(url.getProtocol())) { //$NON-NLS-1$
+			// schema urls into archives are created as jar:file:<path>!/<entry>
+			String path = url.getPath();
+			int separator = path.indexOf("!/"); //$NON-NLS-1$
+			if (path.startsWith("file:") && separator > 0) { //$NON-NLS-1$
+				file = new File(path.substring(5, separator));
+			}
+		}
+		long timestamp = file != null ? file.lastModified() : 0;
+		return timestamp == 0 ? null : new long[] {timestamp, file.length()};
+	}
+
+	private static File getCacheDir() {
+		return new File(PDECore.getDefault().getStateLocation().toFile(), CACHE_DIR);
+	}
+
+	private static File getCacheFile(URL url, boolean abbreviated) {
+		String key = url.toExternalForm();
+		String name = Integer.toHexString(key.hashCode()) + '_' + Integer.toHexString(key.length())
+				+ (abbreviated ? "_a" : "") + ".bin"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return new File(getCacheDir(), name);
+	}
+
+	private static boolean isUpToDate(File cacheFile, URL url, long[] stamp) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+			return readHeader(in, url, stamp);
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static boolean readHeader(DataInputStream in, URL url, long[] stamp) throws IOException {
+		return in.readInt() == FORMAT_VERSION && in.readLong() == stamp[0] && in.readLong() == stamp[1]
+				&& url.toExternalForm().equals(readString(in));
+	}
+
+	private static Node read(File cacheFile, URL url, long[] stamp) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+			if (!readHeader(in, url, stamp) || in.readByte() != ELEMENT) {
+				return null;
+			}
+			Document document;
+			synchronized (FACTORY) {
+				document = FACTORY.newDocumentBuilder().newDocument();
+			}
+			Element root = readElement(in, document);
+			document.appendChild(root);
+			return root;
+		} catch (IOException | ParserConfigurationException e) {
+			// corrupt or outdated entry, parse the schema again
+			return null;
+		}
+	}
+
+	private static Element readElement(DataInputStream in, Document document) throws IOException {
+		Element element = document.createElement(readString(in));
+		int attributes = in.readInt();
+		for (int i = 0; i < attributes; i++) {
+			element.setAttribute(readString(in), readString(in));
+		}
+		byte kind;
+		while ((kind = in.readByte()) != END) {
+			if (kind == ELEMENT) {
+				element.appendChild(readElement(in, document));
+			} else if (kind == TEXT) {
+				element.appendChild(document.createTextNode(readString(in)));
+			} else {
+				throw new IOException("Unknown node kind " + kind); //$NON-NLS-1$
+			}
+		}
+		return element;
+	}
+
+	private static void write(File cacheFile, URL url, long[] stamp, Node root) {
+		File dir = cacheFile.getParentFile();
+		if (!dir.exists() && !dir.mkdirs()) {
+			return;
+		}
+		try {
+			// write to a temporary file first, concurrent readers must never see partial entries
+			File tmpFile = File.createTempFile(cacheFile.getName(), ".tmp", dir); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeLong(stamp[0]);
+				out.writeLong(stamp[1]);
+				writeString(out, url.toExternalForm());
+				writeNode(out, root);
+			}
+			Files.move(tmpFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			// the cache is an optimization only
+		}
+	}
+
+	private static void writeNode(DataOutputStream out, Node node) throws IOException {
+		if (node.getNodeType() == Node.ELEMENT_NODE) {
+			out.writeByte(ELEMENT);
+			writeString(out, node.getNodeName());
+			NamedNodeMap attributes = node.getAttributes();
+			out.writeInt(attributes.getLength());
+			for (int i = 0; i < attributes.getLength(); i++) {
+				Node attribute = attributes.item(i);
+				writeString(out, attribute.getNodeName());
+				writeString(out, attribute.getNodeValue());
+			}
+			NodeList children = node.getChildNodes();
+			for (int i = 0; i < children.getLength(); i++) {
+				writeNode(out, children.item(i));
+			}
+			out.writeByte(END);
+		} else if (node.getNodeType() == Node.TEXT_NODE || node.getNodeType() == Node.CDATA_SECTION_NODE) {
+			out.writeByte(TEXT);
+			writeString(out, node.getNodeValue());
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > MAX_STRING_LENGTH) {
+			throw new IOException("Invalid string length " + length); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
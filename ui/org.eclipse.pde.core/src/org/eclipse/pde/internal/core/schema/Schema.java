@@ -426,6 +426,22 @@ public class Schema extends PlatformObject implements ISchema {
 	}
 
 	public void load() {
+		if (!isEditable()) {
+			// read-only schemas are shared through the compiled schema cache
+			try {
+				Node root = CompiledSchemaCache.load(fURL, fAbbreviated);
+				traverseDocumentTree(root);
+			} catch (FileNotFoundException e) {
+				fLoaded = false;
+			} catch (SAXException e) {
+				// ignore parse errors - 'loaded' will be false anyway
+			} catch (IOException e) {
+				PDECore.logException(e, "IOException reading following URL: " + fURL); //$NON-NLS-1$
+			} catch (Exception e) {
+				PDECore.logException(e);
+			}
+			return;
+		}
 		URLConnection connection = null;
 		try {
 			connection = SchemaUtil.getURLConnection(fURL);
@@ -17,32 +17,61 @@ import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.pde.core.plugin.IFragment;
 import org.eclipse.pde.core.plugin.IFragmentModel;
 import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginExtension;
 import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDECoreMessages;
+import org.eclipse.pde.internal.core.PDEExtensionRegistry;
 import org.eclipse.pde.internal.core.SourceLocationManager;
 import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
 import org.eclipse.pde.internal.core.text.plugin.PluginExtensionPointNode;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	/**
+	 * Upper bound for the summed up weight of all schemas kept in memory, where
+	 * each element and attribute counts as one. Evicted schemas are cheaply
+	 * reloaded from the {@link CompiledSchemaCache}.
+	 */
+	private static final int MAX_WEIGHT = 50000;
+
+	/** descriptors in access order, the least recently used come first */
+	private final LinkedHashMap<String, ISchemaDescriptor> fRegistry = new LinkedHashMap<>(16, 0.75f, true);
+	private final HashMap<String, Integer> fWeights = new HashMap<>();
+	private int fTotalWeight;
+
+	/** number of threads preparing compiled schemas in {@link #warmUp()} */
+	private static final int WARM_UP_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
 
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
-				fRegistry.remove(extPointID);
+			synchronized (this) {
+				if (fRegistry.containsKey(extPointID)) {
+					remove(extPointID);
+				}
 			}
 			return null;
 		}
@@ -52,13 +81,7 @@ public class SchemaRegistry {
 			return null;
 		}
 
-		ISchemaDescriptor desc = getExistingDescriptor(extPointID, url);
-		if (desc == null) {
-			desc = new SchemaDescriptor(extPointID, url);
-			fRegistry.put(extPointID, desc);
-		}
-
-		return desc.getSchema(true);
+		return getSchema(extPointID, url, () -> new SchemaDescriptor(extPointID, url));
 	}
 
 	public ISchema getIncludedSchema(ISchemaDescriptor parent, String schemaLocation) {
@@ -67,18 +90,135 @@ public class SchemaRegistry {
 			if (url == null) {
 				return null;
 			}
-
-			ISchemaDescriptor desc = getExistingDescriptor(url.toString(), url);
-			if (desc == null) {
-				desc = new IncludedSchemaDescriptor(url);
-				fRegistry.put(url.toString(), desc);
-			}
-			return desc.getSchema(true);
+			return getSchema(url.toString(), url, () -> new IncludedSchemaDescriptor(url));
 		} catch (MalformedURLException e) {
 		}
 		return null;
 	}
 
+	private ISchema getSchema(String key, URL url, Supplier<ISchemaDescriptor> factory) {
+		ISchemaDescriptor desc;
+		synchronized (this) {
+			desc = getExistingDescriptor(key, url);
+		}
+		if (desc != null) {
+			return desc.getSchema(true);
+		}
+		// no lock is held while loading, loading resolves the includes of the
+		// schema through this registry. If the same schema is loaded
+		// concurrently, the first one published is used by all callers.
+		desc = factory.get();
+		ISchema schema = desc.getSchema(true);
+		ISchemaDescriptor existing;
+		synchronized (this) {
+			existing = getExistingDescriptor(key, url);
+			if (existing == null) {
+				put(key, desc, schema);
+			}
+		}
+		return existing != null ? existing.getSchema(true) : schema;
+	}
+
+	/**
+	 * Prepares the compiled schemas of all extension points extended by
+	 * workspace plug-ins in a background job, so that the first validation
+	 * does not need to parse them.
+	 */
+	public void warmUp() {
+		Job job = Job.create(PDECoreMessages.SchemaRegistry_warmUp, monitor -> {
+			Set<URL> urls = new LinkedHashSet<>();
+			PDEExtensionRegistry registry = PDECore.getDefault().getExtensionsRegistry();
+			for (IPluginModelBase model : PluginRegistry.getWorkspaceModels()) {
+				for (IPluginExtension extension : model.getPluginBase().getExtensions()) {
+					if (monitor.isCanceled()) {
+						return Status.CANCEL_STATUS;
+					}
+					IPluginExtensionPoint point = extension.getPoint() != null
+							? registry.findExtensionPoint(extension.getPoint())
+							: null;
+					URL url = point != null ? getSchemaURL(point) : null;
+					if (url != null) {
+						urls.add(url);
+					}
+				}
+			}
+			// preparing blocks on I/O, keep it off the common pool
+			ExecutorService executor = Executors.newFixedThreadPool(WARM_UP_THREADS, runnable -> {
+				Thread thread = new Thread(runnable, PDECoreMessages.SchemaRegistry_warmUp);
+				thread.setDaemon(true);
+				return thread;
+			});
+			try {
+				for (URL url : urls) {
+					executor.execute(() -> {
+						if (!monitor.isCanceled()) {
+							CompiledSchemaCache.prepare(url, true);
+						}
+					});
+				}
+			} finally {
+				executor.shutdown();
+				awaitTermination(executor);
+			}
+			CompiledSchemaCache.prune();
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		});
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		job.schedule();
+	}
+
+	private static void awaitTermination(ExecutorService executor) {
+		boolean interrupted = false;
+		while (!executor.isTerminated()) {
+			try {
+				executor.awaitTermination(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void put(String key, ISchemaDescriptor desc, ISchema schema) {
+		remove(key);
+		fRegistry.put(key, desc);
+		int weight = getWeight(schema);
+		fWeights.put(key, weight);
+		fTotalWeight += weight;
+		// evict the least recently used schemas, but never the one just added
+		Iterator<String> iter = fRegistry.keySet().iterator();
+		while (fTotalWeight > MAX_WEIGHT && iter.hasNext()) {
+			String candidate = iter.next();
+			if (candidate.equals(key)) {
+				break;
+			}
+			iter.remove();
+			Integer removed = fWeights.remove(candidate);
+			fTotalWeight -= removed != null ? removed.intValue() : 0;
+		}
+	}
+
+	private void remove(String key) {
+		fRegistry.remove(key);
+		Integer removed = fWeights.remove(key);
+		if (removed != null) {
+			fTotalWeight -= removed.intValue();
+		}
+	}
+
+	private static int getWeight(ISchema schema) {
+		int weight = 1;
+		if (schema != null) {
+			for (ISchemaElement element : schema.getElements()) {
+				weight += 1 + element.getAttributeCount();
+			}
+		}
+		return weight;
+	}
+
 	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
 		ISchemaDescriptor desc = null;
 		if (fRegistry.containsKey(key)) {
@@ -182,8 +322,10 @@ public class SchemaRegistry {
 		return (desc.getLastModified() != file.lastModified());
 	}
 
-	public void shutdown() {
+	public synchronized void shutdown() {
 		fRegistry.clear();
+		fWeights.clear();
+		fTotalWeight = 0;
 	}
 
 	private static String getId(IPluginExtensionPoint point, IPluginModelBase base) {
@@ -0,0 +1,380 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.pde.core.plugin.IFragment;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
+
+/**
+ * Persistent index of the ids a plug-in search matches against, so that a
+ * search only has to load the external plug-ins and features that contain a
+ * match.
+ * <p>
+ * An entry is keyed by the install location of the model and the time stamp
+ * of the files it is read from. Entries that are missing or outdated are
+ * recreated from the models the next time they are searched, entries of models
+ * that are no longer in the target are dropped when the index is saved. The extensions
+ * and extension points of a plug-in are only added to its entry by a search
+ * for extension points, so that searches for plug-ins never load the
+ * <code>plugin.xml</code> of external plug-ins. Workspace models are always
+ * searched directly.
+ * </p>
+ */
+public class PluginSearchIndex {
+
+	private static final String INDEX_FILE = ".plugin_search_index"; //$NON-NLS-1$
+	private static final int FORMAT_VERSION = 1;
+
+	/** guards against corrupt files, no id is of this size */
+	private static final int MAX_STRING_LENGTH = 1 << 16;
+
+	private static PluginSearchIndex fDefault;
+
+	/**
+	 * The ids of a plug-in. Entries are never modified once created.
+	 */
+	public static class PluginEntry {
+		final long stamp;
+		final boolean fragment;
+		final String id;
+		final String hostId;
+		final String[] imports;
+		// null if the extensions have not been indexed
+		final String[] extensionPoints;
+		final String[] extensions;
+
+		PluginEntry(long stamp, boolean fragment, String id, String hostId, String[] imports, String[] extensionPoints, String[] extensions) {
+			this.stamp = stamp;
+			this.fragment = fragment;
+			this.id = id;
+			this.hostId = hostId;
+			this.imports = imports;
+			this.extensionPoints = extensionPoints;
+			this.extensions = extensions;
+		}
+
+		boolean hasExtensions() {
+			return extensions != null;
+		}
+	}
+
+	/**
+	 * The ids of the plug-ins included in a feature.
+	 */
+	public static class FeatureEntry {
+		final long stamp;
+		final String[] plugins;
+
+		FeatureEntry(long stamp, String[] plugins) {
+			this.stamp = stamp;
+			this.plugins = plugins;
+		}
+	}
+
+	private final File fFile;
+	private final Map<String, PluginEntry> fPlugins = new ConcurrentHashMap<>();
+	private final Map<String, FeatureEntry> fFeatures = new ConcurrentHashMap<>();
+	private volatile boolean fDirty;
+
+	/**
+	 * Creates an index persisted in the given file, reading the entries
+	 * written to it before.
+	 *
+	 * @param file the file of the index
+	 */
+	public PluginSearchIndex(File file) {
+		fFile = file;
+		load();
+	}
+
+	public static synchronized PluginSearchIndex getDefault() {
+		if (fDefault == null) {
+			fDefault = new PluginSearchIndex(new File(PDECore.getDefault().getStateLocation().toFile(), INDEX_FILE));
+		}
+		return fDefault;
+	}
+
+	/**
+	 * @return the up to date entry of the given model or <code>null</code> if
+	 *         the model has to be searched directly
+	 */
+	public PluginEntry getEntry(IPluginModelBase model) {
+		String location = getLocation(model);
+		if (location == null) {
+			return null;
+		}
+		PluginEntry entry = fPlugins.get(location);
+		return entry != null && entry.stamp == getPluginStamp(location) ? entry : null;
+	}
+
+	/**
+	 * Creates the entry of a model that has been searched directly.
+	 *
+	 * @param model the model
+	 * @param withExtensions whether the extensions of the model are loaded
+	 *            and can be indexed
+	 */
+	public void update(IPluginModelBase model, boolean withExtensions) {
+		String location = getLocation(model);
+		IPluginBase pluginBase = model.getPluginBase();
+		if (location == null || pluginBase == null) {
+			return;
+		}
+		long stamp = getPluginStamp(location);
+		if (stamp == 0) {
+			return;
+		}
+		PluginEntry previous = fPlugins.get(location);
+		String[] extensionPoints = null;
+		String[] extensions = null;
+		if (withExtensions) {
+			IPluginExtensionPoint[] points = pluginBase.getExtensionPoints();
+			extensionPoints = new String[points.length];
+			for (int i = 0; i < points.length; i++) {
+				extensionPoints[i] = points[i].getFullId();
+			}
+			IPluginExtension[] pluginExtensions = pluginBase.getExtensions();
+			extensions = new String[pluginExtensions.length];
+			for (int i = 0; i < pluginExtensions.length; i++) {
+				extensions[i] = pluginExtensions[i].getPoint();
+			}
+		} else if (previous != null && previous.stamp == stamp) {
+			// the entry is up to date, only the extensions were missing
+			return;
+		}
+		IPluginImport[] pluginImports = pluginBase.getImports();
+		String[] imports = new String[pluginImports.length];
+		for (int i = 0; i < pluginImports.length; i++) {
+			imports[i] = pluginImports[i].getId();
+		}
+		boolean fragment = pluginBase instanceof IFragment;
+		String hostId = fragment ? ((IFragment) pluginBase).getPluginId() : null;
+		fPlugins.put(location, new PluginEntry(stamp, fragment, pluginBase.getId(), hostId, imports, extensionPoints, extensions));
+		fDirty = true;
+	}
+
+	/**
+	 * @return the up to date entry of the given feature or <code>null</code>
+	 *         if the feature has to be searched directly
+	 */
+	public FeatureEntry getEntry(IFeatureModel model) {
+		String location = getLocation(model);
+		if (location == null) {
+			return null;
+		}
+		FeatureEntry entry = fFeatures.get(location);
+		return entry != null && entry.stamp == getFeatureStamp(location) ? entry : null;
+	}
+
+	public void update(IFeatureModel model) {
+		String location = getLocation(model);
+		if (location == null || model.getFeature() == null) {
+			return;
+		}
+		long stamp = getFeatureStamp(location);
+		if (stamp == 0) {
+			return;
+		}
+		IFeaturePlugin[] featurePlugins = model.getFeature().getPlugins();
+		String[] plugins = new String[featurePlugins.length];
+		for (int i = 0; i < featurePlugins.length; i++) {
+			plugins[i] = featurePlugins[i].getId();
+		}
+		fFeatures.put(location, new FeatureEntry(stamp, plugins));
+		fDirty = true;
+	}
+
+	private static String getLocation(IPluginModelBase model) {
+		return model.getUnderlyingResource() == null ? model.getInstallLocation() : null;
+	}
+
+	private static String getLocation(IFeatureModel model) {
+		return model.getUnderlyingResource() == null ? model.getInstallLocation() : null;
+	}
+
+	/**
+	 * Returns the time stamp of the archive or of the manifest files of the
+	 * plug-in at the given location, <code>0</code> if it does not exist.
+	 */
+	private static long getPluginStamp(String location) {
+		File file = new File(location);
+		if (!file.isDirectory()) {
+			return file.lastModified();
+		}
+		long stamp = new File(file, ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR).lastModified();
+		stamp = Math.max(stamp, new File(file, ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR).lastModified());
+		stamp = Math.max(stamp, new File(file, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR).lastModified());
+		return stamp;
+	}
+
+	private static long getFeatureStamp(String location) {
+		return new File(location, ICoreConstants.FEATURE_FILENAME_DESCRIPTOR).lastModified();
+	}
+
+	private void load() {
+		if (!fFile.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fFile)))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return;
+			}
+			int plugins = in.readInt();
+			for (int i = 0; i < plugins; i++) {
+				String location = readString(in);
+				long stamp = in.readLong();
+				boolean fragment = in.readBoolean();
+				String id = readString(in);
+				String hostId = in.readBoolean() ? readString(in) : null;
+				String[] imports = readStrings(in);
+				String[] extensionPoints = in.readBoolean() ? readStrings(in) : null;
+				String[] extensions = in.readBoolean() ? readStrings(in) : null;
+				fPlugins.put(location, new PluginEntry(stamp, fragment, id, hostId, imports, extensionPoints, extensions));
+			}
+			int features = in.readInt();
+			for (int i = 0; i < features; i++) {
+				String location = readString(in);
+				long stamp = in.readLong();
+				fFeatures.put(location, new FeatureEntry(stamp, readStrings(in)));
+			}
+		} catch (IOException e) {
+			// corrupt or outdated index, the models are searched directly
+			fPlugins.clear();
+			fFeatures.clear();
+		}
+	}
+
+	/**
+	 * Writes the index if entries were added or dropped since it was last
+	 * written. Entries of models that are no longer in the target are dropped,
+	 * even if the models still exist on disk.
+	 */
+	public synchronized void save() {
+		Set<String> pluginLocations = new HashSet<>();
+		for (IPluginModelBase model : PluginRegistry.getExternalModels()) {
+			pluginLocations.add(model.getInstallLocation());
+		}
+		Set<String> featureLocations = new HashSet<>();
+		for (IFeatureModel model : PDECore.getDefault().getFeatureModelManager().getExternalModels()) {
+			featureLocations.add(model.getInstallLocation());
+		}
+		boolean pruned = fPlugins.keySet().retainAll(pluginLocations);
+		pruned |= fFeatures.keySet().retainAll(featureLocations);
+		if (!fDirty && !pruned) {
+			return;
+		}
+		fDirty = false;
+		File dir = fFile.getParentFile();
+		if (!dir.exists() && !dir.mkdirs()) {
+			return;
+		}
+		try {
+			File tmpFile = File.createTempFile(INDEX_FILE, ".tmp", dir); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+				out.writeInt(FORMAT_VERSION);
+				Map<String, PluginEntry> plugins = Map.copyOf(fPlugins);
+				out.writeInt(plugins.size());
+				for (Map.Entry<String, PluginEntry> mapEntry : plugins.entrySet()) {
+					PluginEntry entry = mapEntry.getValue();
+					writeString(out, mapEntry.getKey());
+					out.writeLong(entry.stamp);
+					out.writeBoolean(entry.fragment);
+					writeString(out, entry.id);
+					out.writeBoolean(entry.hostId != null);
+					if (entry.hostId != null) {
+						writeString(out, entry.hostId);
+					}
+					writeStrings(out, entry.imports);
+					out.writeBoolean(entry.extensionPoints != null);
+					if (entry.extensionPoints != null) {
+						writeStrings(out, entry.extensionPoints);
+					}
+					out.writeBoolean(entry.extensions != null);
+					if (entry.extensions != null) {
+						writeStrings(out, entry.extensions);
+					}
+				}
+				Map<String, FeatureEntry> features = Map.copyOf(fFeatures);
+				out.writeInt(features.size());
+				for (Map.Entry<String, FeatureEntry> mapEntry : features.entrySet()) {
+					writeString(out, mapEntry.getKey());
+					out.writeLong(mapEntry.getValue().stamp);
+					writeStrings(out, mapEntry.getValue().plugins);
+				}
+			}
+			Files.move(tmpFile.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			// the index is an optimization only
+		}
+	}
+
+	private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+		out.writeInt(values.length);
+		for (String value : values) {
+			writeString(out, value);
+		}
+	}
+
+	private static String[] readStrings(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > MAX_STRING_LENGTH) {
+			throw new IOException("Invalid array length " + length); //$NON-NLS-1$
+		}
+		String[] values = new String[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = readString(in);
+		}
+		return values;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > MAX_STRING_LENGTH) {
+			throw new IOException("Invalid string length " + length); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
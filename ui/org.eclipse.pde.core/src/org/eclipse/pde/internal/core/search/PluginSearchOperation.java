@@ -47,15 +47,76 @@ public class PluginSearchOperation {
 		IFeatureModel[] features = fInput.getSearchScope().getMatchingFeatureModels();
 		SubMonitor subMonitor = SubMonitor.convert(monitor, plugins.length + features.length);
 
-		for (IPluginModelBase candidate : plugins) {
-			visit(candidate);
-			subMonitor.split(1);
+		PluginSearchIndex index = PluginSearchIndex.getDefault();
+		boolean withExtensions = fInput.getSearchElement() == PluginSearchInput.ELEMENT_EXTENSION_POINT;
+		try {
+			for (IPluginModelBase candidate : plugins) {
+				PluginSearchIndex.PluginEntry entry = index.getEntry(candidate);
+				if (entry == null || (withExtensions && !entry.hasExtensions())) {
+					visit(candidate);
+					index.update(candidate, withExtensions);
+				} else if (mayMatch(entry)) {
+					visit(candidate);
+				}
+				subMonitor.split(1);
+			}
+
+			for (IFeatureModel candidate : features) {
+				PluginSearchIndex.FeatureEntry entry = index.getEntry(candidate);
+				if (entry == null) {
+					visit(candidate);
+					index.update(candidate);
+				} else if (mayMatch(entry)) {
+					visit(candidate);
+				}
+				subMonitor.split(1);
+			}
+		} finally {
+			index.save();
 		}
+	}
 
-		for (IFeatureModel candidate : features) {
-			visit(candidate);
-			subMonitor.split(1);
+	/**
+	 * Checks whether the indexed ids of a plug-in contain a match, in which
+	 * case the model is visited to collect the matching elements.
+	 */
+	private boolean mayMatch(PluginSearchIndex.PluginEntry entry) {
+		int searchLimit = fInput.getSearchLimit();
+		switch (fInput.getSearchElement()) {
+			case PluginSearchInput.ELEMENT_PLUGIN :
+				if (searchLimit != PluginSearchInput.LIMIT_REFERENCES && !entry.fragment && matches(entry.id)) {
+					return true;
+				}
+				if (searchLimit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					return (entry.fragment && matches(entry.hostId)) || matchesAny(entry.imports);
+				}
+				return false;
+			case PluginSearchInput.ELEMENT_FRAGMENT :
+				return entry.fragment && matches(entry.id);
+			case PluginSearchInput.ELEMENT_EXTENSION_POINT :
+				if (searchLimit != PluginSearchInput.LIMIT_REFERENCES && matchesAny(entry.extensionPoints)) {
+					return true;
+				}
+				return searchLimit != PluginSearchInput.LIMIT_DECLARATIONS && matchesAny(entry.extensions);
+		}
+		return false;
+	}
+
+	private boolean mayMatch(PluginSearchIndex.FeatureEntry entry) {
+		return fInput.getSearchElement() == PluginSearchInput.ELEMENT_PLUGIN && fInput.getSearchLimit() != PluginSearchInput.LIMIT_DECLARATIONS && matchesAny(entry.plugins);
+	}
+
+	private boolean matchesAny(String[] ids) {
+		for (String id : ids) {
+			if (matches(id)) {
+				return true;
+			}
 		}
+		return false;
+	}
+
+	private boolean matches(String id) {
+		return id != null && fPattern.matcher(id).matches();
 	}
 
 	private void visit(IPluginModelBase model) {
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.eclipse.osgi.util.ManifestElement;
+import org.osgi.framework.BundleException;
+
+/**
+ * Shares the result of parsing manifest headers between the validator and the
+ * manifest editing model, so that an unchanged header is only parsed once no
+ * matter how often a manifest is validated or edited. Partial values typed
+ * during content assist should not be parsed through this cache.
+ * <p>
+ * Parsed headers are keyed by header name and value and the most recently
+ * used ones are kept. The same {@link ManifestElement}s are returned to all
+ * callers, only the returned array is a copy. The elements must be treated as
+ * read-only: {@link ManifestElement#getValueComponents()} returns the array of
+ * the element itself, it has to be copied before it is modified or kept by a
+ * mutable object.
+ * </p>
+ */
+public class ManifestHeaderCache {
+
+	private static final int MAX_ENTRIES = 512;
+
+	private static final class Key {
+		final String header;
+		final String value;
+		final int hash;
+
+		Key(String header, String value) {
+			this.header = header;
+			this.value = value;
+			this.hash = 31 * header.hashCode() + value.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hash == other.hash && header.equals(other.header) && value.equals(other.value);
+		}
+	}
+
+	/**
+	 * The elements of a header, or the error it could not be parsed with.
+	 */
+	private static final class Result {
+		final ManifestElement[] elements;
+		final BundleException error;
+
+		Result(ManifestElement[] elements, BundleException error) {
+			this.elements = elements;
+			this.error = error;
+		}
+	}
+
+	private static final Map<Key, Result> fResults = new LinkedHashMap<Key, Result>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Result> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private ManifestHeaderCache() {
+	}
+
+	/**
+	 * Parses a manifest header like {@link ManifestElement#parseHeader(String, String)},
+	 * returning the elements of a previous parse of the same header value.
+	 *
+	 * @param header the name of the header
+	 * @param value the value of the header
+	 * @return the elements of the header, shared with other callers and read-only,
+	 *         or <code>null</code> if the value is <code>null</code>
+	 * @throws BundleException if the header value is invalid, caused by the
+	 *         exception the value was first parsed with
+	 */
+	public static ManifestElement[] parseHeader(String header, String value) throws BundleException {
+		if (header == null || value == null) {
+			return ManifestElement.parseHeader(header, value);
+		}
+		Key key = new Key(header, value);
+		Result result;
+		synchronized (fResults) {
+			result = fResults.get(key);
+		}
+		if (result == null) {
+			try {
+				result = new Result(ManifestElement.parseHeader(header, value), null);
+			} catch (BundleException e) {
+				result = new Result(null, e);
+			}
+			synchronized (fResults) {
+				fResults.put(key, result);
+			}
+		}
+		if (result.error != null) {
+			// keep the original stack, the cached exception is shared
+			throw new BundleException(result.error.getMessage(), result.error.getType(), result.error);
+		}
+		return result.elements == null ? null : result.elements.clone();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2022 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -149,7 +149,7 @@ public abstract class AbstractEditingModel extends PlatformObject implements IEd
 					adjustOffsets(document);
 					setStale(false);
 				} else {
-					reload(getInputStream(document), false);
+					reconcile(document);
 				}
 			} catch (CoreException e) {
 			}
@@ -161,6 +161,16 @@ public abstract class AbstractEditingModel extends PlatformObject implements IEd
 
 	public abstract void adjustOffsets(IDocument document) throws CoreException;
 
+	/**
+	 * Updates the model to match the reconciled document. The default
+	 * implementation reloads the whole model from the document.
+	 *
+	 * @param document the reconciled document
+	 */
+	protected void reconcile(IDocument document) throws CoreException {
+		reload(getInputStream(document), false);
+	}
+
 	protected InputStream getInputStream(IDocument document) {
 		return new BufferedInputStream(new ByteArrayInputStream(document.get().getBytes(getCharset())));
 	}
@@ -208,6 +218,20 @@ public abstract class AbstractEditingModel extends PlatformObject implements IEd
 		}
 	}
 
+	/**
+	 * Notifies the listeners of a change that was read from the document.
+	 * Text change listeners are skipped as the document already contains the
+	 * change, and the model does not become dirty.
+	 */
+	protected void fireReconciledModelChanged(IModelChangedEvent event) {
+		for (int i = 0; i < fListeners.size(); i++) {
+			IModelChangedListener listener = fListeners.get(i);
+			if (!(listener instanceof IModelTextChangeListener)) {
+				listener.modelChanged(event);
+			}
+		}
+	}
+
 	@Override
 	public void fireModelObjectChanged(Object object, String property, Object oldValue, Object newValue) {
 		fireModelChanged(new ModelChangedEvent(this, object, property, oldValue, newValue));
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.text;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.IModelChangedEvent;
+import org.eclipse.pde.core.ModelChangedEvent;
+
+/**
+ * Applies a change of the document to the nodes of an XML editing model
+ * without parsing the document again.
+ * <p>
+ * The changed region is found by comparing the text the model was last
+ * reconciled with to the new text. A change is applied in place if it is
+ * confined to the value of one attribute, to the text of an element without
+ * child elements or to the white space between markup, and it neither adds
+ * nor removes markup. The offsets of the following nodes are shifted and
+ * model change events are sent for the changed attribute or text only. Any
+ * other change is left to a full reparse.
+ * </p>
+ */
+class IncrementalXMLReconciler {
+
+	private static final String MARKUP = "<>&\"'"; //$NON-NLS-1$
+
+	private final String fOldText;
+	private final String fNewText;
+	private int fStart;
+	private int fOldEnd;
+	private int fNewEnd;
+	private int fDelta;
+	private int fLineEnd;
+
+	// the attribute or text node containing the change, if any
+	private Object fChangedNode;
+
+	private IncrementalXMLReconciler(String oldText, String newText) {
+		fOldText = oldText;
+		fNewText = newText;
+	}
+
+	/**
+	 * Applies the change from <code>oldText</code> to <code>newText</code> to
+	 * the nodes below <code>root</code>, which must have been read from
+	 * <code>oldText</code>.
+	 *
+	 * @return <code>true</code> if the nodes match <code>newText</code>,
+	 *         <code>false</code> if the document has to be parsed again, in
+	 *         which case the nodes are unchanged
+	 */
+	static boolean reconcile(AbstractEditingModel model, IDocumentElementNode root, String oldText, String newText) {
+		return new IncrementalXMLReconciler(oldText, newText).reconcile(model, root);
+	}
+
+	private boolean reconcile(AbstractEditingModel model, IDocumentElementNode root) {
+		if (root.getOffset() < 0) {
+			return false;
+		}
+		int max = Math.min(fOldText.length(), fNewText.length());
+		while (fStart < max && fOldText.charAt(fStart) == fNewText.charAt(fStart)) {
+			fStart++;
+		}
+		if (fStart == fOldText.length() && fStart == fNewText.length()) {
+			return true;
+		}
+		fOldEnd = fOldText.length();
+		fNewEnd = fNewText.length();
+		while (fOldEnd > fStart && fNewEnd > fStart && fOldText.charAt(fOldEnd - 1) == fNewText.charAt(fNewEnd - 1)) {
+			fOldEnd--;
+			fNewEnd--;
+		}
+		fDelta = fNewEnd - fOldEnd;
+		String removed = fOldText.substring(fStart, fOldEnd);
+		String inserted = fNewText.substring(fStart, fNewEnd);
+		if (containsAny(removed, MARKUP) || containsAny(inserted, MARKUP)) {
+			return false;
+		}
+
+		IModelChangedEvent event = null;
+		IDocumentElementNode element = findEnclosingElement(root);
+		IDocumentAttributeNode attribute = null;
+		IDocumentTextNode textNode = null;
+		if (element != null) {
+			for (IDocumentAttributeNode candidate : element.getNodeAttributes()) {
+				int valueOffset = candidate.getValueOffset();
+				if (valueOffset < 0) {
+					// the positions of the attributes are not known
+					return false;
+				}
+				if (valueOffset <= fStart && fOldEnd <= valueOffset + candidate.getValueLength()) {
+					attribute = candidate;
+				}
+			}
+			textNode = element.getTextNode();
+		}
+		if (attribute != null) {
+			int valueOffset = attribute.getValueOffset();
+			String oldValue = attribute.getAttributeValue();
+			String newValue = fNewText.substring(valueOffset, valueOffset + attribute.getValueLength() + fDelta);
+			// attribute values are normalized by the parser, only plain values are updated in place
+			if (!fOldText.substring(valueOffset, valueOffset + attribute.getValueLength()).equals(oldValue) || containsAny(newValue, "\t\n\r")) { //$NON-NLS-1$
+				return false;
+			}
+			try {
+				attribute.setAttributeValue(newValue);
+			} catch (CoreException e) {
+				return false;
+			}
+			fChangedNode = attribute;
+			event = new ModelChangedEvent(model, element, attribute.getAttributeName(), oldValue, newValue);
+		} else if (textNode != null && textNode.getOffset() >= 0 && textNode.getOffset() <= fStart && fOldEnd <= textNode.getOffset() + textNode.getLength()) {
+			int textOffset = textNode.getOffset();
+			String oldText = textNode.getText();
+			String newText = fNewText.substring(textOffset, textOffset + textNode.getLength() + fDelta);
+			// the parser trims the text and converts line delimiters, other text is parsed again
+			if (element.getChildCount() > 0 || !fOldText.substring(textOffset, textOffset + textNode.getLength()).equals(oldText) || newText.isEmpty() || Character.isWhitespace(newText.charAt(0)) || Character.isWhitespace(newText.charAt(newText.length() - 1)) || newText.indexOf('\r') != -1) {
+				return false;
+			}
+			textNode.setText(newText);
+			fChangedNode = textNode;
+			event = new ModelChangedEvent(model, IModelChangedEvent.CHANGE, new Object[] {element}, null);
+		} else if (!isWhitespace(removed) || !isWhitespace(inserted) || !isTokenBoundary(removed, inserted)) {
+			return false;
+		}
+
+		fLineEnd = fNewEnd;
+		while (fLineEnd < fNewText.length() && fNewText.charAt(fLineEnd) != '\n' && fNewText.charAt(fLineEnd) != '\r') {
+			fLineEnd++;
+		}
+		shift(root);
+		if (event != null) {
+			model.fireReconciledModelChanged(event);
+		}
+		return true;
+	}
+
+	/**
+	 * @return the innermost element containing the changed region or
+	 *         <code>null</code> if the change is outside of the root element
+	 */
+	private IDocumentElementNode findEnclosingElement(IDocumentElementNode root) {
+		if (!contains(root)) {
+			return null;
+		}
+		IDocumentElementNode element = root;
+		IDocumentElementNode[] children = element.getChildNodes();
+		for (int i = 0; i < children.length; i++) {
+			if (contains(children[i])) {
+				element = children[i];
+				children = element.getChildNodes();
+				i = -1;
+			}
+		}
+		return element;
+	}
+
+	private boolean contains(IDocumentElementNode element) {
+		int offset = element.getOffset();
+		return offset >= 0 && offset <= fStart && fOldEnd <= offset + element.getLength();
+	}
+
+	/**
+	 * White space may change freely between two characters that are already
+	 * separated by white space. Where it is inserted between or removed from
+	 * two adjacent characters, these have to be the end of a quoted value or a
+	 * tag and the end of a tag or the start of the next one.
+	 */
+	private boolean isTokenBoundary(String removed, String inserted) {
+		if (fStart == 0) {
+			// nothing may precede the XML declaration
+			return false;
+		}
+		if (!removed.isEmpty() && !inserted.isEmpty()) {
+			return true;
+		}
+		char before = fOldText.charAt(fStart - 1);
+		if (fOldEnd == fOldText.length()) {
+			return before == '>' || Character.isWhitespace(before);
+		}
+		char after = fOldText.charAt(fOldEnd);
+		if (Character.isWhitespace(before) || Character.isWhitespace(after)) {
+			return true;
+		}
+		if (before == '>') {
+			return after == '<';
+		}
+		return (before == '"' || before == '\'') && (after == '>' || after == '/' || after == '?');
+	}
+
+	private void shift(IDocumentElementNode element) {
+		int offset = element.getOffset();
+		int end = offset + element.getLength();
+		if (offset >= 0 && offset < fStart && end <= fStart) {
+			// the change follows the element
+			return;
+		}
+		if (offset >= fOldEnd) {
+			offset += fDelta;
+			element.setOffset(offset);
+			if (offset <= fLineEnd) {
+				element.setLineIndent(offset - getLineOffset(offset));
+			}
+		} else if (offset >= 0 && offset < fStart && fStart < end) {
+			element.setLength(element.getLength() + fDelta);
+		}
+		for (IDocumentAttributeNode attribute : element.getNodeAttributes()) {
+			if (attribute == fChangedNode) {
+				attribute.setValueLength(attribute.getValueLength() + fDelta);
+				continue;
+			}
+			if (attribute.getNameOffset() >= fOldEnd) {
+				attribute.setNameOffset(attribute.getNameOffset() + fDelta);
+			}
+			if (attribute.getValueOffset() >= fOldEnd) {
+				attribute.setValueOffset(attribute.getValueOffset() + fDelta);
+			}
+		}
+		IDocumentTextNode textNode = element.getTextNode();
+		if (textNode == fChangedNode) {
+			textNode.setLength(textNode.getLength() + fDelta);
+		} else if (textNode != null && textNode.getOffset() >= fOldEnd) {
+			textNode.setOffset(textNode.getOffset() + fDelta);
+		}
+		for (IDocumentElementNode child : element.getChildNodes()) {
+			shift(child);
+		}
+	}
+
+	private int getLineOffset(int offset) {
+		int line = offset;
+		while (line > 0 && fNewText.charAt(line - 1) != '\n' && fNewText.charAt(line - 1) != '\r') {
+			line--;
+		}
+		return line;
+	}
+
+	private static boolean containsAny(String text, String characters) {
+		for (int i = 0; i < text.length(); i++) {
+			if (characters.indexOf(text.charAt(i)) != -1) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isWhitespace(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			if (!Character.isWhitespace(text.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
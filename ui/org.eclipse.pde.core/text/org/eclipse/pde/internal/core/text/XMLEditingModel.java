@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2022 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,16 +39,29 @@ public abstract class XMLEditingModel extends AbstractEditingModel {
 
 	private IStatus status;
 
+	// the text the nodes were read from, null if not known
+	private String fReconciledText;
+
+	// the text being loaded after it could not be reconciled incrementally
+	private String fLoadingText;
+
 	public XMLEditingModel(IDocument document, boolean isReconciling) {
 		super(document, isReconciling);
 	}
 
 	@Override
 	public void load(InputStream source, boolean outOfSync) {
+		String text = fLoadingText;
+		fLoadingText = null;
+		fReconciledText = null;
 		try {
 			fLoaded = true;
 			status = Status.OK_STATUS;
-			SAXParserWrapper.parse(source, createDocumentHandler(this, true));
+			DefaultHandler handler = createDocumentHandler(this, true);
+			SAXParserWrapper.parse(source, handler);
+			if (!(handler instanceof DocumentHandler) || ((DocumentHandler) handler).getLastErrorNode() == null) {
+				fReconciledText = text;
+			}
 		} catch (SAXException e) {
 			fLoaded = false;
 			status = Status.error(e.getMessage(), e);
@@ -64,8 +77,34 @@ public abstract class XMLEditingModel extends AbstractEditingModel {
 
 	protected abstract DefaultHandler createDocumentHandler(IModel model, boolean reconciling);
 
+	@Override
+	protected void reconcile(IDocument document) throws CoreException {
+		String text = document.get();
+		IDocumentElementNode root = getRootNode();
+		if (fReconciledText != null && root != null && IncrementalXMLReconciler.reconcile(this, root, fReconciledText, text)) {
+			fReconciledText = text;
+			fLoaded = true;
+			return;
+		}
+		// parse the same text, so that it is known what the nodes were read from
+		fLoadingText = text;
+		reload(new BufferedInputStream(new ByteArrayInputStream(text.getBytes(getCharset()))), false);
+	}
+
+	/**
+	 * Returns the root node of the model without loading it.
+	 *
+	 * @return the root node or <code>null</code> if the model cannot be
+	 *         reconciled incrementally
+	 */
+	protected IDocumentElementNode getRootNode() {
+		IWritable root = getRoot();
+		return root instanceof IDocumentElementNode ? (IDocumentElementNode) root : null;
+	}
+
 	@Override
 	public void adjustOffsets(IDocument document) {
+		fReconciledText = null;
 		try {
 			SAXParserWrapper.parse(getInputStream(document), createDocumentHandler(this, false));
 		} catch (SAXException | IOException | ParserConfigurationException | FactoryConfigurationError e) {
@@ -17,6 +17,7 @@ import org.eclipse.osgi.util.ManifestElement;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.bundle.BundlePluginBase;
 import org.eclipse.pde.internal.core.ibundle.IBundle;
+import org.eclipse.pde.internal.core.util.ManifestHeaderCache;
 import org.osgi.framework.BundleException;
 import org.osgi.framework.Constants;
 
@@ -62,7 +63,7 @@ public abstract class BasePackageHeader extends CompositeManifestHeader {
 	@Override
 	protected void processValue(String value) {
 		try {
-			ManifestElement[] elements = ManifestElement.parseHeader(fName, value);
+			ManifestElement[] elements = ManifestHeaderCache.parseHeader(fName, value);
 			for (ManifestElement element : elements) {
 				if (element.getValueComponents().length > 1) {
 					// if package element has multiple value components, create a new Element to represent each value (bug 160233)
@@ -21,6 +21,7 @@ import org.eclipse.osgi.util.ManifestElement;
 import org.eclipse.pde.core.IModelChangedEvent;
 import org.eclipse.pde.internal.core.bundle.BundleObject;
 import org.eclipse.pde.internal.core.ibundle.IBundle;
+import org.eclipse.pde.internal.core.util.ManifestHeaderCache;
 import org.osgi.framework.BundleException;
 
 public class CompositeManifestHeader extends ManifestHeader {
@@ -52,7 +53,7 @@ public class CompositeManifestHeader extends ManifestHeader {
 	@Override
 	protected void processValue(String value) {
 		try {
-			ManifestElement[] elements = ManifestElement.parseHeader(fName, value);
+			ManifestElement[] elements = ManifestHeaderCache.parseHeader(fName, value);
 			if (elements != null) {
 				for (ManifestElement element : elements) {
 					addManifestElement(createElement(element), false);
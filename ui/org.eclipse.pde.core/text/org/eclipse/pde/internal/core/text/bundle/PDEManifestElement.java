@@ -24,6 +24,7 @@ import java.util.TreeMap;
 import org.eclipse.osgi.util.ManifestElement;
 import org.eclipse.pde.internal.core.bundle.BundleObject;
 import org.eclipse.pde.internal.core.ibundle.IBundleModel;
+import org.eclipse.pde.internal.core.util.ManifestHeaderCache;
 import org.osgi.framework.BundleException;
 
 public class PDEManifestElement extends BundleObject {
@@ -178,7 +179,7 @@ public class PDEManifestElement extends BundleObject {
 			return;
 		}
 		try {
-			ManifestElement[] elements = ManifestElement.parseHeader(fHeader.fName, value);
+			ManifestElement[] elements = ManifestHeaderCache.parseHeader(fHeader.fName, value);
 			if (elements != null && elements.length > 0) {
 				init(elements[0]);
 			}
@@ -187,7 +188,8 @@ public class PDEManifestElement extends BundleObject {
 	}
 
 	private void init(ManifestElement manifestElement) {
-		setValueComponents(manifestElement.getValueComponents());
+		// the element may be shared through the header cache, so it is not modified
+		setValueComponents(manifestElement.getValueComponents().clone());
 		Enumeration<String> attKeys = manifestElement.getKeys();
 		if (attKeys != null) {
 			while (attKeys.hasMoreElements()) {
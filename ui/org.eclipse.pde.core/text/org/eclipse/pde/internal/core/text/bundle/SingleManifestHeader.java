@@ -15,6 +15,7 @@ package org.eclipse.pde.internal.core.text.bundle;
 
 import org.eclipse.osgi.util.ManifestElement;
 import org.eclipse.pde.internal.core.ibundle.IBundle;
+import org.eclipse.pde.internal.core.util.ManifestHeaderCache;
 import org.osgi.framework.BundleException;
 
 public class SingleManifestHeader extends ManifestHeader {
@@ -30,7 +31,7 @@ public class SingleManifestHeader extends ManifestHeader {
 	@Override
 	protected void processValue(String value) {
 		try {
-			ManifestElement[] elements = ManifestElement.parseHeader(getName(), value);
+			ManifestElement[] elements = ManifestHeaderCache.parseHeader(getName(), value);
 			if (elements != null && elements.length > 0) {
 				fElement = new PDEManifestElement(this, elements[0]);
 			}
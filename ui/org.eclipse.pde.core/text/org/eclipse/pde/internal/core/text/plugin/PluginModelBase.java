@@ -69,6 +69,11 @@ public abstract class PluginModelBase extends XMLEditingModel implements IPlugin
 		return getPluginBase();
 	}
 
+	@Override
+	protected IDocumentElementNode getRootNode() {
+		return fPluginBase;
+	}
+
 	@Override
 	public IPluginBase createPluginBase() {
 		return createPluginBase(isFragmentModel());
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
+import org.junit.Test;
+
+/**
+ * Checks that parsing a changed document gives the same model as parsing it
+ * from scratch.
+ */
+public class IncrementalParserTests {
+
+	private static final String TARGET = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n"
+			+ "<target name=\"test\">\n"
+			+ "<locations>\n"
+			+ "<location includeMode=\"planner\" type=\"InstallableUnit\">\n"
+			+ "<!-- <unit id=\"commented\" version=\"0.0.0\"/> -->\n"
+			+ "<unit id=\"org.eclipse.a\" version=\"1.0.0\"/>\n"
+			+ "<unit id=\"org.eclipse.b\" version=\"2.0.0\"/>\n"
+			+ "<repository location=\"https://download.eclipse.org/releases/latest\"/>\n"
+			+ "</location>\n"
+			+ "</locations>\n"
+			+ "</target>\n";
+
+	@Test
+	public void testChangeAttribute() throws Exception {
+		assertIncremental(TARGET, TARGET.replace("org.eclipse.a", "org.eclipse.abc"));
+	}
+
+	@Test
+	public void testInsertTag() throws Exception {
+		assertIncremental(TARGET, TARGET.replace("<unit id=\"org.eclipse.b\"",
+				"<unit id=\"org.eclipse.new\" version=\"0.0.0\"/>\n<unit id=\"org.eclipse.b\""));
+	}
+
+	@Test
+	public void testRemoveTag() throws Exception {
+		assertIncremental(TARGET, TARGET.replace("<unit id=\"org.eclipse.a\" version=\"1.0.0\"/>\n", ""));
+	}
+
+	@Test
+	public void testCommentOut() throws Exception {
+		String commented = TARGET.replace("<unit id=\"org.eclipse.a\" version=\"1.0.0\"/>",
+				"<!-- <unit id=\"org.eclipse.a\" version=\"1.0.0\"/> -->");
+		assertIncremental(TARGET, commented);
+		assertIncremental(commented, TARGET);
+	}
+
+	@Test
+	public void testCloseOpenComment() throws Exception {
+		// the tags after an unterminated comment are parsed as elements until it is closed
+		String open = TARGET.replace("<unit id=\"org.eclipse.a\"", "<!-- <unit id=\"org.eclipse.a\"");
+		int offset = open.indexOf("<repository");
+		Parser parser = new Parser();
+		parseIgnoringErrors(parser, open);
+		String text = open;
+		for (char c : "-->".toCharArray()) {
+			text = text.substring(0, offset) + c + text.substring(offset);
+			offset++;
+			parseIgnoringErrors(parser, text);
+			assertSameTree(parse(text), parser.getRootNode());
+		}
+		String reopened = text.replace("-->\n<repository", "\n<repository");
+		parseIgnoringErrors(parser, reopened);
+		assertSameTree(parse(reopened), parser.getRootNode());
+	}
+
+	@Test
+	public void testTypeCharacters() throws Exception {
+		Parser parser = new Parser();
+		String text = TARGET;
+		int offset = text.indexOf("org.eclipse.b") + "org.eclipse.b".length();
+		for (char c : ".core".toCharArray()) {
+			text = text.substring(0, offset) + c + text.substring(offset);
+			offset++;
+			parser.parse(new Document(text));
+			assertSameTree(parse(text), parser.getRootNode());
+		}
+	}
+
+	private static void assertIncremental(String before, String after) throws XMLStreamException {
+		Parser parser = new Parser();
+		parser.parse(new Document(before));
+		parser.parse(new Document(after));
+		assertSameTree(parse(after), parser.getRootNode());
+	}
+
+	private static Node parse(String text) {
+		Parser parser = new Parser();
+		parseIgnoringErrors(parser, text);
+		return parser.getRootNode();
+	}
+
+	private static void parseIgnoringErrors(Parser parser, String text) {
+		try {
+			parser.parse(new Document(text));
+		} catch (XMLStreamException e) {
+			// the tree is built even if the document is not well-formed
+		}
+	}
+
+	private static void assertSameTree(Node expected, Node actual) {
+		assertNotNull(actual);
+		assertEquals(expected.getNodeTag(), actual.getNodeTag());
+		assertEquals(expected.getOffsetStart(), actual.getOffsetStart());
+		assertEquals(expected.getOffsetEnd(), actual.getOffsetEnd());
+		if (expected instanceof UnitNode) {
+			assertEquals(((UnitNode) expected).getId(), ((UnitNode) actual).getId());
+			assertEquals(((UnitNode) expected).getVersion(), ((UnitNode) actual).getVersion());
+		}
+		if (expected.getChildNodes() == null) {
+			assertEquals(null, actual.getChildNodes());
+			return;
+		}
+		assertEquals(expected.getChildNodes().size(), actual.getChildNodes().size());
+		for (int i = 0; i < expected.getChildNodes().size(); i++) {
+			assertSameTree(expected.getChildNodes().get(i), actual.getChildNodes().get(i));
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jface.viewers.StyledString;
+import org.eclipse.pde.internal.genericeditor.target.extension.autocomplete.TargetDefinitionContentAssist;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCache;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Checks the lookups of the repository cache against a local repository.
+ */
+public class RepositoryCacheTests {
+
+	private static final String[] UNIT_IDS = { "org.eclipse.core.runtime", "org.eclipse.core.resources",
+			"org.eclipse.ui", "org.eclipse.ui.ide", "org.junit", "com.example.CoreTools", "com.example.tools" };
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private RepositoryCache cache;
+	private String repo;
+
+	@Before
+	public void setUp() throws IOException {
+		cache = RepositoryCache.getDefault();
+		cache.flush();
+		repo = folder.newFolder("repository").toURI().toString();
+	}
+
+	@After
+	public void tearDown() {
+		cache.flush();
+	}
+
+	@Test
+	public void testPrefixAndSubstringLookups() throws IOException {
+		writeRepository();
+		assertEquals(UNIT_IDS.length, cache.fetchP2UnitsFromRepo(repo, false).size());
+
+		assertEquals(List.of("org.eclipse.ui", "org.eclipse.ui.ide"),
+				getIds(cache.getUnitsByPrefix(repo, "org.eclipse.ui")));
+		assertEquals(List.of(), getIds(cache.getUnitsByPrefix(repo, "org.eclipse.x")));
+		assertEquals(List.of("org.eclipse.core.resources", "org.eclipse.core.runtime"),
+				getIds(cache.getUnitsBySearchTerm(repo, "core")));
+		// the previous matches are narrowed down
+		assertEquals(List.of("org.eclipse.core.runtime"), getIds(cache.getUnitsBySearchTerm(repo, "core.ru")));
+		assertEquals(List.of("com.example.tools"), getIds(cache.getUnitsBySearchTerm(repo, "tools")));
+	}
+
+	@Test
+	public void testCandidatesContainAllMatches() throws IOException {
+		writeRepository();
+		List<UnitNode> units = cache.fetchP2UnitsFromRepo(repo, false);
+		for (String typed : new String[] { "oecr", "CT", "TOOLS", "ui.i", "junit" }) {
+			// the candidates of each keystroke narrow down those of the previous one
+			for (int length = 0; length <= typed.length(); length++) {
+				String searchTerm = typed.substring(0, length);
+				List<String> candidates = getIds(cache.getUnitCandidates(repo, searchTerm));
+				for (UnitNode unit : units) {
+					StyledString match = TargetDefinitionContentAssist.getFilteredStyledString(unit.getId(),
+							searchTerm);
+					if (match != null && match.length() > 0) {
+						assertTrue(unit.getId() + " is missing for " + searchTerm, candidates.contains(unit.getId()));
+					}
+				}
+			}
+		}
+		assertEquals(List.of("org.junit"), getIds(cache.getUnitCandidates(repo, "junit")));
+		assertEquals(List.of("com.example.CoreTools", "com.example.tools"),
+				getIds(cache.getUnitCandidates(repo, "TOOLS")));
+	}
+
+	@Test
+	public void testFailedPrefetchIsRetried() throws Exception {
+		cache.prefetch(repo);
+		waitFor(() -> cache.isUpToDate(repo));
+		assertNull(cache.getUnit(repo, "org.junit"));
+
+		writeRepository();
+		// the failed fetch did not leave the repository scheduled
+		waitFor(() -> {
+			cache.prefetch(repo);
+			return cache.getUnit(repo, "org.junit") != null;
+		});
+		assertNotNull(cache.getUnit(repo, "org.junit"));
+		assertFalse(cache.fetchP2UnitsFromRepo(repo, false).isEmpty());
+	}
+
+	private void writeRepository() throws IOException {
+		StringBuilder content = new StringBuilder();
+		content.append("<?xml version='1.0' encoding='UTF-8'?>\n");
+		content.append("<?metadataRepository version='1.1.0'?>\n");
+		content.append("<repository name='test' type='org.eclipse.equinox.internal.p2.metadata.repository.LocalMetadataRepository' version='1'>\n");
+		content.append("<units size='").append(UNIT_IDS.length).append("'>\n");
+		for (String id : UNIT_IDS) {
+			content.append("<unit id='").append(id).append("' version='1.0.0'/>\n");
+		}
+		content.append("</units>\n</repository>\n");
+		Files.writeString(new File(new File(folder.getRoot(), "repository"), "content.xml").toPath(), content);
+	}
+
+	private static List<String> getIds(List<UnitNode> units) {
+		List<String> ids = new ArrayList<>();
+		for (UnitNode unit : units) {
+			ids.add(unit.getId());
+		}
+		return ids;
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long end = System.currentTimeMillis() + 30_000;
+		while (!condition.getAsBoolean()) {
+			assertTrue("Timed out waiting for the repository", System.currentTimeMillis() < end);
+			Thread.sleep(100);
+		}
+	}
+
+}
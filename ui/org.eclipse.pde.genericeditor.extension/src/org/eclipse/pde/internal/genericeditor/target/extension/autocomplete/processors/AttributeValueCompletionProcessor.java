@@ -84,7 +84,7 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 					return getErrorCompletion();
 				}
 				RepositoryCache cache = RepositoryCache.getDefault();
-				List<UnitNode> units = cache.fetchP2UnitsFromRepo(repoLocation, false);
+				List<UnitNode> units = cache.getUnitCandidates(repoLocation, searchTerm);
 				return convertToProposals(units);
 			}
 
@@ -100,15 +100,9 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 					return getErrorCompletion();
 				}
 				RepositoryCache cache = RepositoryCache.getDefault();
-				List<UnitNode> repositoryUnits = cache.fetchP2UnitsFromRepo(repoLocation, false);
-				List<String> versions = null;
-				for (UnitNode unit : repositoryUnits) {
-					if (unit.getId().equals(node.getId())) {
-						versions = unit.getAvailableVersions();
-					}
-				}
-				if (versions != null)
-					return convertToVersionProposals(versions);
+				UnitNode unit = cache.getUnit(repoLocation, node.getId());
+				if (unit != null)
+					return convertToVersionProposals(unit.getAvailableVersions());
 
 			}
 
@@ -137,7 +131,8 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 	}
 
 	private ICompletionProposal[] convertToProposals(List<UnitNode> units) {
-		Collections.sort(units, (node1, node2) -> String.CASE_INSENSITIVE_ORDER.compare(node1.getId(), node2.getId()));
+		// the cache returns the candidates sorted by id, the filter decides which
+		// of them match
 		List<ICompletionProposal> result = new ArrayList<>();
 		for (UnitNode unit : units) {
 			StyledString displayString = TargetDefinitionContentAssist.getFilteredStyledString(unit.getId(),
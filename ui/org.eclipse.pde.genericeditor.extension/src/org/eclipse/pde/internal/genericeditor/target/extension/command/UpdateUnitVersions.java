@@ -84,16 +84,10 @@ public class UpdateUnitVersions extends AbstractHandler {
 						continue;
 					}
 				}
-				List<UnitNode> repositoryUnits = cache.fetchP2UnitsFromRepo(repositoryLocation, false);
 				for (Node n2 : locationNode.getChildNodesByTag(ITargetConstants.UNIT_TAG)) {
 					UnitNode unitNode = ((UnitNode) n2);
-					List<String> versions = null;
-					for (UnitNode unit : repositoryUnits) {
-						if (unit.getId().equals(unitNode.getId())) {
-							versions = unit.getAvailableVersions();
-							break;
-						}
-					}
+					UnitNode unit = cache.getUnit(repositoryLocation, unitNode.getId());
+					List<String> versions = unit == null ? null : unit.getAvailableVersions();
 					if (versions == null || versions.isEmpty()) {
 						continue;
 					}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2017 Red Hat Inc. and others
+ * Copyright (c) 2016, 2022 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,12 +14,34 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.genericeditor.target.extension.model;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
 
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher;
+import org.eclipse.pde.internal.genericeditor.target.extension.p2.UpdateJob;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  * This class is used to cache the p2 repositories completion information order
@@ -28,12 +50,35 @@ import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher;
  *
  * There will be only one cache shared between editors. In the future a function
  * will be added for the user to be able to flush this cache.
+ *
+ * The units of a repository are kept sorted by id, so that prefix, substring
+ * and completion lookups do not have to check every unit. They are also stored
+ * in the state location of this bundle: in a new session the stored units are
+ * used right away and refreshed from the repository in the background once
+ * they are older than {@link #REFRESH_INTERVAL}, or once the metadata of a
+ * local repository has changed since they were fetched.
  */
 public class RepositoryCache {
 
+	private static final String CACHE_DIR = "repositories"; //$NON-NLS-1$
+	private static final int FORMAT_VERSION = 2;
+
+	/** time after which stored units are refreshed from the repository */
+	private static final long REFRESH_INTERVAL = TimeUnit.HOURS.toMillis(1);
+
+	/** files whose time stamp tells whether a local repository has changed */
+	private static final String[] METADATA_FILES = { "content.jar", "content.xml", "content.xml.xz", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"compositeContent.jar", "compositeContent.xml", "p2.index" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
 	private static RepositoryCache instance;
 
-	Map<String, List<UnitNode>> cache = new HashMap<>();
+	private final Map<String, RepositoryIndex> cache = new ConcurrentHashMap<>();
+
+	/** fetches in progress, so that concurrent requests share one round trip */
+	private final Map<String, CompletableFuture<RepositoryIndex>> pending = new ConcurrentHashMap<>();
+
+	/** repositories for which a background load or refresh has been started */
+	private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
 
 	private RepositoryCache() {
 		//avoid instantiation
@@ -43,7 +88,7 @@ public class RepositoryCache {
 	 * @return default instance of this cache.
 	 */
 
-	public static RepositoryCache getDefault() {
+	public static synchronized RepositoryCache getDefault() {
 		if (instance == null) {
 			instance = new RepositoryCache();
 		}
@@ -57,15 +102,86 @@ public class RepositoryCache {
 	 *            repository URL
 	 * @param flush
 	 *            whether a flush is needed
-	 * @return list of IUs available in the 'repo' repository. Never
-	 *         <code>null</code>.
+	 * @return list of IUs available in the 'repo' repository, sorted by id.
+	 *         Never <code>null</code>.
 	 */
 	public List<UnitNode> fetchP2UnitsFromRepo(String repo, boolean flush) {
-		if ((flush) || (cache.get(repo) == null)) {
+		return getIndex(repo, flush).units;
+	}
+
+	/**
+	 * Starts loading the units of the given repository in the background, if
+	 * they are not cached yet, so that they are available once completion is
+	 * requested.
+	 *
+	 * @param repo
+	 *            repository URL
+	 */
+	public void prefetch(String repo) {
+		RepositoryIndex index = cache.get(repo);
+		if ((index != null && !index.units.isEmpty()) || !scheduled.add(repo)) {
+			return;
+		}
+		// no units are left by a failed fetch, which is tried again
+		CompletableFuture.runAsync(() -> getIndex(repo, index != null));
+	}
+
+	private RepositoryIndex getIndex(String repo, boolean flush) {
+		if (!flush) {
+			RepositoryIndex index = cache.get(repo);
+			if (index != null) {
+				return index;
+			}
+			RepositoryIndex loaded = load(repo);
+			if (loaded != null) {
+				index = cache.computeIfAbsent(repo, r -> loaded);
+				if (index == loaded && isStale(repo, loaded)) {
+					// stored in an earlier session, bring it up to date
+					scheduled.add(repo);
+					UpdateJob job = new UpdateJob(repo);
+					job.setSystem(true);
+					job.schedule();
+				}
+				return index;
+			}
+		}
+		return fetch(repo).join();
+	}
+
+	private CompletableFuture<RepositoryIndex> fetch(String repo) {
+		CompletableFuture<RepositoryIndex> future = new CompletableFuture<>();
+		CompletableFuture<RepositoryIndex> running = pending.putIfAbsent(repo, future);
+		if (running != null) {
+			return running;
+		}
+		try {
+			long fetched = System.currentTimeMillis();
+			long sourceStamp = getSourceStamp(repo);
 			List<UnitNode> units = P2Fetcher.fetchAvailableUnits(repo);
-			cache.put(repo, units);
+			RepositoryIndex previous = cache.get(repo);
+			RepositoryIndex index;
+			if (units.isEmpty()) {
+				// the repository could not be reached, allow another prefetch
+				scheduled.remove(repo);
+			}
+			if (units.isEmpty() && previous != null && !previous.units.isEmpty()) {
+				// the repository could not be reached, keep the units known so far
+				index = previous;
+			} else {
+				index = new RepositoryIndex(units, fetched, sourceStamp);
+				cache.put(repo, index);
+				if (!units.isEmpty()) {
+					save(repo, index);
+				}
+			}
+			future.complete(index);
+		} catch (RuntimeException e) {
+			scheduled.remove(repo);
+			future.completeExceptionally(e);
+		} finally {
+			pending.remove(repo, future);
 		}
-		return cache.get(repo);
+		return future;
 	}
 
 	/**
@@ -86,14 +202,7 @@ public class RepositoryCache {
 	 * @return A list of IUs whose id starts with 'prefix'
 	 */
 	public List<UnitNode> getUnitsByPrefix(String repo, String prefix) {
-		List<UnitNode> allUnits = fetchP2UnitsFromRepo(repo, false);
-		List<UnitNode> result = new ArrayList<>();
-		for (UnitNode unit : allUnits) {
-			if (unit.getId().startsWith(prefix)) {
-				result.add(unit);
-			}
-		}
-		return result;
+		return getIndex(repo, false).getUnitsByPrefix(prefix);
 	}
 
 	/**
@@ -113,14 +222,40 @@ public class RepositoryCache {
 	 * @return A list of IUs whose id contains 'searchTerm'
 	 */
 	public List<UnitNode> getUnitsBySearchTerm(String repo, String searchTerm) {
-		List<UnitNode> allUnits = fetchP2UnitsFromRepo(repo, false);
-		List<UnitNode> result = new ArrayList<>();
-		for (UnitNode unit : allUnits) {
-			if (unit.getId().contains(searchTerm)) {
-				result.add(unit);
-			}
-		}
-		return result;
+		return getIndex(repo, false).getUnitsBySearchTerm(searchTerm);
+	}
+
+	/**
+	 * Returns the units that completion may propose for the given search term,
+	 * i.e. whose id contains all characters of the search term in the same
+	 * order, ignoring case. This includes the ids containing the search term
+	 * as well as the ids whose parts start with the pieces of it.
+	 *
+	 * While a search term is typed, only the units found for the previous one
+	 * are checked again.
+	 *
+	 * @param repo
+	 *            repository URL
+	 * @param searchTerm
+	 *            the text typed so far
+	 * @return the candidate units, sorted by id
+	 */
+	public List<UnitNode> getUnitCandidates(String repo, String searchTerm) {
+		return getIndex(repo, false).getCandidates(searchTerm);
+	}
+
+	/**
+	 * Returns the unit with the given id.
+	 *
+	 * @param repo
+	 *            repository URL
+	 * @param id
+	 *            the id of the unit
+	 * @return the unit or <code>null</code> if the repository does not contain
+	 *         it
+	 */
+	public UnitNode getUnit(String repo, String id) {
+		return getIndex(repo, false).unitsById.get(id);
 	}
 
 	/**
@@ -139,5 +274,334 @@ public class RepositoryCache {
 	 */
 	public void flush() {
 		cache.clear();
+		scheduled.clear();
+		File dir = getCacheDir();
+		File[] files = dir == null ? null : dir.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	private static File getCacheDir() {
+		try {
+			return Platform.getStateLocation(FrameworkUtil.getBundle(RepositoryCache.class)).append(CACHE_DIR).toFile();
+		} catch (IllegalStateException e) {
+			// no instance location
+			return null;
+		}
+	}
+
+	private static File getCacheFile(String repo) {
+		File dir = getCacheDir();
+		if (dir == null) {
+			return null;
+		}
+		return new File(dir, Integer.toHexString(repo.hashCode()) + '_' + Integer.toHexString(repo.length()) + ".units"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the time stamp of the metadata of a local repository, or -1 for
+	 * a remote one.
+	 */
+	private static long getSourceStamp(String repo) {
+		File location;
+		try {
+			URI uri = new URI(repo);
+			if (!"file".equalsIgnoreCase(uri.getScheme())) { //$NON-NLS-1$
+				return -1;
+			}
+			location = new File(uri);
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			return -1;
+		}
+		if (location.isFile()) {
+			// archived repository
+			return location.lastModified();
+		}
+		long stamp = 0;
+		for (String name : METADATA_FILES) {
+			stamp = Math.max(stamp, new File(location, name).lastModified());
+		}
+		return stamp;
+	}
+
+	private static boolean isStale(String repo, RepositoryIndex index) {
+		return System.currentTimeMillis() - index.fetched > REFRESH_INTERVAL
+				|| getSourceStamp(repo) != index.sourceStamp;
+	}
+
+	private static RepositoryIndex load(String repo) {
+		File file = getCacheFile(repo);
+		if (file == null || !file.isFile()) {
+			return null;
+		}
+		try {
+			// read into the heap, a mapped file can neither be replaced nor
+			// deleted on Windows until the mapping is garbage collected
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+			if (buffer.getInt() != FORMAT_VERSION || !repo.equals(readString(buffer))) {
+				return null;
+			}
+			long fetched = buffer.getLong();
+			long sourceStamp = buffer.getLong();
+			int count = buffer.getInt();
+			List<UnitNode> units = new ArrayList<>(Math.min(count, 1 << 16));
+			for (int i = 0; i < count; i++) {
+				UnitNode unit = new UnitNode();
+				unit.setId(readString(buffer));
+				int versionCount = buffer.getInt();
+				List<String> versions = unit.getAvailableVersions();
+				for (int j = 0; j < versionCount; j++) {
+					versions.add(readString(buffer));
+				}
+				int latest = buffer.getInt();
+				if (latest >= 0) {
+					unit.setVersion(versions.get(latest));
+				} else if (latest == -1) {
+					unit.setVersion(readString(buffer));
+				}
+				units.add(unit);
+			}
+			return new RepositoryIndex(units, fetched, sourceStamp);
+		} catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+			// corrupt entry, fetch the repository again
+			return null;
+		}
+	}
+
+	private static void save(String repo, RepositoryIndex index) {
+		File file = getCacheFile(repo);
+		if (file == null) {
+			return;
+		}
+		File dir = file.getParentFile();
+		if (!dir.exists() && !dir.mkdirs()) {
+			return;
+		}
+		try {
+			File tmpFile = File.createTempFile(file.getName(), ".tmp", dir); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+				out.writeInt(FORMAT_VERSION);
+				writeString(out, repo);
+				out.writeLong(index.fetched);
+				out.writeLong(index.sourceStamp);
+				out.writeInt(index.units.size());
+				for (UnitNode unit : index.units) {
+					writeString(out, unit.getId());
+					List<String> versions = new ArrayList<>(unit.getAvailableVersions());
+					out.writeInt(versions.size());
+					for (String version : versions) {
+						writeString(out, version);
+					}
+					// the latest version is usually one of the available ones
+					int latest = unit.getVersion() == null ? -2 : versions.indexOf(unit.getVersion());
+					out.writeInt(latest);
+					if (latest == -1) {
+						writeString(out, unit.getVersion());
+					}
+				}
+			}
+			Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			// the cache is an optimization only
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException("Invalid string length " + length); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * The units of one repository with the lookup structures built over their
+	 * ids.
+	 */
+	private static final class RepositoryIndex {
+
+		/** all units, sorted case insensitively as shown in completion */
+		final List<UnitNode> units;
+
+		final Map<String, UnitNode> unitsById;
+
+		/** ids and units sorted by id, for prefix lookups */
+		private final String[] sortedIds;
+		private final UnitNode[] sortedUnits;
+
+		/** ids of {@link #units} separated by new lines, for substring lookups */
+		private final String ids;
+		private final int[] idStarts;
+
+		/** lower case ids of {@link #units}, for completion lookups */
+		private final String[] lowerCaseIds;
+
+		/** when the units were fetched and the time stamp of a local repository then */
+		final long fetched;
+		final long sourceStamp;
+
+		private volatile SearchResult lastSearch;
+		private volatile SearchResult lastCandidates;
+
+		RepositoryIndex(List<UnitNode> fetchedUnits, long fetched, long sourceStamp) {
+			this.fetched = fetched;
+			this.sourceStamp = sourceStamp;
+			List<UnitNode> sorted = new ArrayList<>(fetchedUnits.size());
+			for (UnitNode unit : fetchedUnits) {
+				if (unit.getId() != null) {
+					sorted.add(unit);
+				}
+			}
+			sorted.sort((node1, node2) -> String.CASE_INSENSITIVE_ORDER.compare(node1.getId(), node2.getId()));
+			units = Collections.unmodifiableList(sorted);
+
+			unitsById = new HashMap<>(sorted.size() * 4 / 3 + 1);
+			StringBuilder buffer = new StringBuilder(sorted.size() * 32);
+			idStarts = new int[sorted.size()];
+			lowerCaseIds = new String[sorted.size()];
+			for (int i = 0; i < sorted.size(); i++) {
+				UnitNode unit = sorted.get(i);
+				unitsById.putIfAbsent(unit.getId(), unit);
+				idStarts[i] = buffer.length();
+				buffer.append(unit.getId()).append('\n');
+				lowerCaseIds[i] = unit.getId().toLowerCase();
+			}
+			ids = buffer.toString();
+
+			sortedUnits = sorted.toArray(new UnitNode[sorted.size()]);
+			Arrays.sort(sortedUnits, (node1, node2) -> node1.getId().compareTo(node2.getId()));
+			sortedIds = new String[sortedUnits.length];
+			for (int i = 0; i < sortedUnits.length; i++) {
+				sortedIds[i] = sortedUnits[i].getId();
+			}
+		}
+
+		List<UnitNode> getUnitsByPrefix(String prefix) {
+			// the ids starting with the prefix follow the first id not smaller than it
+			int low = 0;
+			int high = sortedIds.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (sortedIds[mid].compareTo(prefix) < 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			List<UnitNode> result = new ArrayList<>();
+			for (int i = low; i < sortedIds.length && sortedIds[i].startsWith(prefix); i++) {
+				result.add(sortedUnits[i]);
+			}
+			return result;
+		}
+
+		List<UnitNode> getUnitsBySearchTerm(String searchTerm) {
+			if (searchTerm.isEmpty()) {
+				return new ArrayList<>(units);
+			}
+			if (searchTerm.indexOf('\n') >= 0) {
+				return new ArrayList<>();
+			}
+			SearchResult last = lastSearch;
+			int[] matches;
+			if (last != null && searchTerm.contains(last.searchTerm)) {
+				// typing extends the search term, only the previous matches can still match
+				matches = last.filter(index -> units.get(index).getId().contains(searchTerm));
+			} else {
+				int[] found = new int[16];
+				int count = 0;
+				int from = 0;
+				while ((from = ids.indexOf(searchTerm, from)) >= 0) {
+					int index = Arrays.binarySearch(idStarts, from);
+					if (index < 0) {
+						index = -index - 2;
+					}
+					if (count == found.length) {
+						found = Arrays.copyOf(found, count * 2);
+					}
+					found[count++] = index;
+					from = index + 1 < idStarts.length ? idStarts[index + 1] : ids.length();
+				}
+				matches = Arrays.copyOf(found, count);
+			}
+			lastSearch = new SearchResult(searchTerm, matches);
+			return toUnits(matches);
+		}
+
+		List<UnitNode> getCandidates(String searchTerm) {
+			if (searchTerm.isEmpty()) {
+				return new ArrayList<>(units);
+			}
+			String term = searchTerm.toLowerCase();
+			SearchResult last = lastCandidates;
+			int[] matches;
+			if (last != null && term.startsWith(last.searchTerm)) {
+				// only the candidates of a shorter search term can contain this one
+				matches = last.filter(index -> containsInOrder(lowerCaseIds[index], term));
+			} else {
+				int[] found = new int[16];
+				int count = 0;
+				for (int i = 0; i < lowerCaseIds.length; i++) {
+					if (containsInOrder(lowerCaseIds[i], term)) {
+						if (count == found.length) {
+							found = Arrays.copyOf(found, count * 2);
+						}
+						found[count++] = i;
+					}
+				}
+				matches = Arrays.copyOf(found, count);
+			}
+			lastCandidates = new SearchResult(term, matches);
+			return toUnits(matches);
+		}
+
+		private static boolean containsInOrder(String id, String term) {
+			int position = 0;
+			for (int i = 0; i < term.length(); i++) {
+				position = id.indexOf(term.charAt(i), position);
+				if (position < 0) {
+					return false;
+				}
+				position++;
+			}
+			return true;
+		}
+
+		private List<UnitNode> toUnits(int[] indices) {
+			List<UnitNode> result = new ArrayList<>(indices.length);
+			for (int index : indices) {
+				result.add(units.get(index));
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * The indices of the units found for a search term, in the order of
+	 * {@link RepositoryIndex#units}.
+	 */
+	private static final class SearchResult {
+		final String searchTerm;
+		final int[] indices;
+
+		SearchResult(String searchTerm, int[] indices) {
+			this.searchTerm = searchTerm;
+			this.indices = indices;
+		}
+
+		int[] filter(IntPredicate predicate) {
+			return Arrays.stream(indices).filter(predicate).toArray();
+		}
 	}
 }
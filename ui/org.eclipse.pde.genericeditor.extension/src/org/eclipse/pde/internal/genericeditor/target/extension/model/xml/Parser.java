@@ -16,7 +16,9 @@
 package org.eclipse.pde.internal.genericeditor.target.extension.model.xml;
 
 import java.io.ByteArrayInputStream;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -32,15 +34,31 @@ import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
 
 /**
  * Class used to parse the XML code into the model.
+ * <p>
+ * The tags found in the last parsed document are remembered. When the next
+ * document only differs in some region, as is the case while typing, the tags
+ * before and after that region are reused and only the region itself is
+ * scanned again.
+ * </p>
  */
 public class Parser {
 
+	private static final Pattern TAG_PATTERN = Pattern.compile("<[\\w|/][^<]+?>", Pattern.DOTALL); //$NON-NLS-1$
+	private static final String COMMENT_START = "<!--"; //$NON-NLS-1$
+	private static final String COMMENT_END = "-->"; //$NON-NLS-1$
+
 	private static Parser instance;
 
 	private Node target;
 
 	private XMLInputFactory inputFactory;
 
+	private String lastText;
+
+	private List<XMLElement> lastElements = Collections.emptyList();
+
+	private XMLStreamException lastException;
+
 	public Parser() {
 		initializeParser();
 	}
@@ -49,13 +67,37 @@ public class Parser {
 		inputFactory = XMLInputFactory.newInstance();
 	}
 
-	public void parse(IDocument document) throws XMLStreamException {
+	public synchronized void parse(IDocument document) throws XMLStreamException {
+		String text = document.get();
+		if (text.equals(lastText)) {
+			if (lastException != null) {
+				throw lastException;
+			}
+			return;
+		}
+		List<XMLElement> elements = tokenize(text);
+		lastText = text;
+		lastElements = elements;
+		lastException = null;
+		buildTree(elements);
+
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(text.getBytes());
+		try {
+			XMLEventReader eventReader = inputFactory.createXMLEventReader(inputStream);
+			while (eventReader.hasNext()) {
+				eventReader.nextEvent();
+			}
+		} catch (XMLStreamException e) {
+			lastException = e;
+			throw e;
+		}
+	}
+
+	private void buildTree(List<XMLElement> elements) {
 		target = null;
 		Node currentParent = null;
 		Node currentNode = null;
-		Iterator<XMLElement> tagReaderIterator = createXMLTagItterator(document.get());
-		while (tagReaderIterator.hasNext()) {
-			XMLElement event = tagReaderIterator.next();
+		for (XMLElement event : elements) {
 			if (event.isStartElement()) {
 				String name = event.getName();
 				if (ITargetConstants.UNIT_TAG.equalsIgnoreCase(name)) {
@@ -99,51 +141,98 @@ public class Parser {
 				}
 			}
 		}
-		ByteArrayInputStream inputStream = new ByteArrayInputStream(document.get().getBytes());
-		XMLEventReader eventReader = inputFactory.createXMLEventReader(inputStream);
-		while (eventReader.hasNext()) {
-			eventReader.nextEvent();
-		}
 	}
 
-	private Iterator<XMLElement> createXMLTagItterator(String document) {
-		return new Iterator<XMLElement>() {
-			private String tagRegex = "(?<tag><[\\w|/][^<]+?>)";
-			private String commentRegex = "(<!--.*?-->)";
-			private String beforeTagRegex = ".*?(?=".concat(tagRegex).concat(")");
-
-			private String text = document;
+	/**
+	 * Returns the tags of the given text, reusing the tags of the last parsed
+	 * text outside of the region in which the two differ.
+	 */
+	private List<XMLElement> tokenize(String text) {
+		List<XMLElement> oldElements = lastElements;
+		int oldLength = lastText == null ? 0 : lastText.length();
+		int newLength = text.length();
+		int prefix = 0;
+		int suffix = 0;
+		if (lastText != null) {
+			int max = Math.min(oldLength, newLength);
+			while (prefix < max && lastText.charAt(prefix) == text.charAt(prefix)) {
+				prefix++;
+			}
+			while (suffix < max - prefix
+					&& lastText.charAt(oldLength - 1 - suffix) == text.charAt(newLength - 1 - suffix)) {
+				suffix++;
+			}
+		}
+		int delta = newLength - oldLength;
+		int damageEnd = newLength - suffix;
+
+		// a comment opened before the change and not closed before it may be
+		// closed (or no longer be closed) by the change, so it is scanned again
+		int reuseEnd = prefix;
+		int lastCommentEnd = text.lastIndexOf(COMMENT_END, prefix - COMMENT_END.length());
+		int commentStart = text.indexOf(COMMENT_START, lastCommentEnd < 0 ? 0 : lastCommentEnd + COMMENT_END.length());
+		if (commentStart >= 0 && commentStart < prefix) {
+			reuseEnd = commentStart;
+		}
 
-			private Pattern tagPattern = Pattern.compile(tagRegex, Pattern.DOTALL);
-			private Pattern commentPattern = Pattern.compile(commentRegex, Pattern.DOTALL);
-			private Pattern beforeTagPattern = Pattern.compile(beforeTagRegex, Pattern.DOTALL);
+		// tags ending before the change are scanned exactly as before
+		List<XMLElement> elements = new ArrayList<>(oldElements.size() + 8);
+		int next = 0;
+		int position = 0;
+		while (next < oldElements.size() && oldElements.get(next).getEndOffset() <= reuseEnd) {
+			XMLElement element = oldElements.get(next++);
+			elements.add(element);
+			position = element.getEndOffset();
+		}
 
-			@Override
-			public boolean hasNext() {
-				skipComments();
-				return text.length() > 0 && beforeTagPattern.matcher(text).find();
+		Matcher matcher = TAG_PATTERN.matcher(text);
+		int start;
+		while ((start = text.indexOf('<', position)) >= 0) {
+			if (text.startsWith(COMMENT_START, start)) {
+				int commentEnd = text.indexOf(COMMENT_END, start + COMMENT_START.length());
+				if (commentEnd >= 0) {
+					position = commentEnd + COMMENT_END.length();
+					continue;
+				}
 			}
-
-			@Override
-			public XMLElement next() {
-				skipComments();
-				text = beforeTagPattern.matcher(text).replaceFirst("");
-				Matcher tag = tagPattern.matcher(text);
-				tag.find();
-				int offset = document.length() - text.length();
-				text = text.substring(tag.end());
-				return new XMLElement(tag.group("tag"), offset);
+			matcher.region(start, newLength);
+			if (!matcher.lookingAt()) {
+				position = start + 1;
+				continue;
 			}
-
-			private void skipComments() {
-				Matcher comment = commentPattern.matcher(text);
-				Matcher tag = tagPattern.matcher(text);
-				if (comment.find() && tag.find() && comment.start() < tag.start()) {
-					text = text.substring(comment.end());
+			elements.add(new XMLElement(matcher.group(), start));
+			position = matcher.end();
+			if (position >= damageEnd) {
+				// past the change, once the old scan stopped at the same place the rest is the same
+				int index = indexOfElementEndingAt(oldElements, next, position - delta);
+				if (index >= 0) {
+					for (int i = index + 1; i < oldElements.size(); i++) {
+						elements.add(oldElements.get(i).moveBy(delta));
+					}
+					break;
 				}
 			}
-		};
+		}
+		return elements;
+	}
+
+	private static int indexOfElementEndingAt(List<XMLElement> elements, int from, int endOffset) {
+		int low = from;
+		int high = elements.size() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int end = elements.get(mid).getEndOffset();
+			if (end < endOffset) {
+				low = mid + 1;
+			} else if (end > endOffset) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -1;
 	}
+
 	public static Parser getDefault() {
 		if (instance == null) {
 			instance = new Parser();
@@ -26,15 +26,17 @@ public class XMLElement {
 	private boolean isEndElement;
 	private boolean isStartElement;
 
-	private Pattern startElementNamePattern = Pattern.compile("<\\s*(?<name>\\w*).*", Pattern.DOTALL); //$NON-NLS-1$
-	private Pattern endElementNamePattern = Pattern.compile("</\\s*(?<name>\\w*).*", Pattern.DOTALL); //$NON-NLS-1$
-	private Pattern attributePattern = Pattern.compile("((?<key>\\w*)\\s*=\\s*\"(?<value>.*?)\")", Pattern.DOTALL);//$NON-NLS-1$
+	private static final Pattern startElementNamePattern = Pattern.compile("<\\s*(?<name>\\w*).*", Pattern.DOTALL); //$NON-NLS-1$
+	private static final Pattern endElementNamePattern = Pattern.compile("</\\s*(?<name>\\w*).*", Pattern.DOTALL); //$NON-NLS-1$
+	private static final Pattern attributePattern = Pattern.compile("((?<key>\\w*)\\s*=\\s*\"(?<value>.*?)\")", Pattern.DOTALL);//$NON-NLS-1$
+	private static final Pattern endElementPattern = Pattern.compile("</(.|\n)*|(.|\n)*/>(.|\n)*"); //$NON-NLS-1$
+	private static final Pattern startElementPattern = Pattern.compile("<[^/](.|\n)*"); //$NON-NLS-1$
 
 	public XMLElement(String element, int offset) {
 		this.element = element;
 		this.offset = offset;
-		this.isEndElement = element.matches("</(.|\n)*|(.|\n)*/>(.|\n)*"); //$NON-NLS-1$
-		this.isStartElement = element.matches("<[^/](.|\n)*"); //$NON-NLS-1$
+		this.isEndElement = endElementPattern.matcher(element).matches();
+		this.isStartElement = startElementPattern.matcher(element).matches();
 
 		Pattern namePattern;
 		if (isStartElement()) {
@@ -53,6 +55,26 @@ public class XMLElement {
 			attributes.put(key, value);
 		}
 	}
+
+	private XMLElement(XMLElement other, int offset) {
+		this.element = other.element;
+		this.offset = offset;
+		this.name = other.name;
+		this.attributes = other.attributes;
+		this.isEndElement = other.isEndElement;
+		this.isStartElement = other.isStartElement;
+	}
+
+	/**
+	 * @param delta
+	 *            the number of characters inserted (or removed, if negative)
+	 *            before this element
+	 * @return this element at an offset moved by <code>delta</code>
+	 */
+	XMLElement moveBy(int delta) {
+		return delta == 0 ? this : new XMLElement(this, offset + delta);
+	}
+
 	public boolean isEndElement() {
 		return isEndElement;
 	}
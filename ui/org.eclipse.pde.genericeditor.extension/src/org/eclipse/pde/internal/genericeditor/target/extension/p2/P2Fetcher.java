@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2018 Red Hat Inc. and others
+ * Copyright (c) 2016, 2022 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,13 +17,16 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.equinox.p2.core.IProvisioningAgent;
 import org.eclipse.equinox.p2.core.IProvisioningAgentProvider;
 import org.eclipse.equinox.p2.core.ProvisionException;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.Version;
 import org.eclipse.equinox.p2.query.IQueryResult;
 import org.eclipse.equinox.p2.query.QueryUtil;
 import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
@@ -71,20 +74,25 @@ public class P2Fetcher {
 			IMetadataRepositoryManager manager = (IMetadataRepositoryManager) agent
 					.getService(IMetadataRepositoryManager.SERVICE_NAME);
 			IMetadataRepository repository = manager.loadRepository(uri, null);
-			result = repository.query(QueryUtil.createLatestIUQuery(), null);
-
-			Iterator<IInstallableUnit> iterator = result.iterator();
-			while (iterator.hasNext()) {
-				IInstallableUnit unit = iterator.next();
-				UnitNode modelUnit = new UnitNode();
-				modelUnit.setId(unit.getId());
-				modelUnit.setVersion(unit.getVersion().getOriginal());
-				IQueryResult<IInstallableUnit> versions = repository.query(QueryUtil.createIUQuery(unit.getId()), null);
-				for (IInstallableUnit version : versions) {
-					modelUnit.getAvailableVersions().add(version.getVersion().getOriginal());
+			// one query for all units, the latest version of each id is picked here
+			result = repository.query(QueryUtil.createIUAnyQuery(), null);
+			Map<String, UnitNode> unitsById = new LinkedHashMap<>();
+			Map<String, Version> latestVersions = new HashMap<>();
+			for (IInstallableUnit unit : result) {
+				UnitNode modelUnit = unitsById.computeIfAbsent(unit.getId(), id -> {
+					UnitNode node = new UnitNode();
+					node.setId(id);
+					return node;
+				});
+				Version version = unit.getVersion();
+				modelUnit.getAvailableVersions().add(version.getOriginal());
+				Version latest = latestVersions.get(unit.getId());
+				if (latest == null || version.compareTo(latest) > 0) {
+					latestVersions.put(unit.getId(), version);
+					modelUnit.setVersion(version.getOriginal());
 				}
-				units.add(modelUnit);
 			}
+			units.addAll(unitsById.values());
 
 			return units;
 
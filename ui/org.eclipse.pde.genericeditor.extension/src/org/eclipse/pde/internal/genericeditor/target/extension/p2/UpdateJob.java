@@ -29,16 +29,20 @@ import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
  */
 public class UpdateJob extends Job {
 
-	private LocationNode node;
+	private String repositoryLocation;
 
 	public UpdateJob(LocationNode node) {
-		super(Messages.UpdateJob_P2DataFetch + node.getRepositoryLocation());
-		this.node = node;
+		this(node.getRepositoryLocation());
+	}
+
+	public UpdateJob(String repositoryLocation) {
+		super(Messages.UpdateJob_P2DataFetch + repositoryLocation);
+		this.repositoryLocation = repositoryLocation;
 	}
 
 	@Override
 	protected IStatus run(IProgressMonitor monitor) {
-		List<UnitNode> list = RepositoryCache.getDefault().fetchP2UnitsFromRepo(node.getRepositoryLocation(), true);
+		List<UnitNode> list = RepositoryCache.getDefault().fetchP2UnitsFromRepo(repositoryLocation, true);
 		if (list == null) {
 			return Status.error(Messages.UpdateJob_ErrorMessage);
 		}
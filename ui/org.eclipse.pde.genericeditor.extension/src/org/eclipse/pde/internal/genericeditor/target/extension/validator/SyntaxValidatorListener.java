@@ -26,6 +26,10 @@ import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.source.Annotation;
 import org.eclipse.jface.text.source.IAnnotationModel;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.ITargetConstants;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNode;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCache;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
 
 public class SyntaxValidatorListener implements IDocumentListener {
@@ -56,7 +60,9 @@ public class SyntaxValidatorListener implements IDocumentListener {
 				if (fDocument.get().isEmpty()) {
 					return;
 				}
-				Parser.getDefault().parse(fDocument);
+				Parser parser = Parser.getDefault();
+				parser.parse(fDocument);
+				prefetchRepositories(parser.getRootNode());
 			} catch (XMLStreamException e) {
 				Annotation error = prepareAnnotation(e);
 				Position position = preparePosition(e);
@@ -65,6 +71,29 @@ public class SyntaxValidatorListener implements IDocumentListener {
 		});
 	}
 
+	/**
+	 * Starts loading the units of the repositories referenced by the target,
+	 * so that completion does not have to wait for them.
+	 */
+	private void prefetchRepositories(Node target) {
+		if (target == null || target.getChildNodes() == null) {
+			return;
+		}
+		for (Node locations : target.getChildNodesByTag(ITargetConstants.LOCATIONS_TAG)) {
+			if (locations.getChildNodes() == null) {
+				continue;
+			}
+			for (Node location : locations.getChildNodesByTag(ITargetConstants.LOCATION_TAG)) {
+				if (location instanceof LocationNode) {
+					String repository = ((LocationNode) location).getRepositoryLocation();
+					if (repository != null) {
+						RepositoryCache.getDefault().prefetch(repository);
+					}
+				}
+			}
+		}
+	}
+
 	private Position preparePosition(XMLStreamException e) {
 		int offset = e.getLocation().getCharacterOffset();
 		return new Position(offset);
@@ -128,6 +128,7 @@ public class PDELaunchingPlugin extends Plugin implements IPDEConstants {
 			fDebugPluginUtil.removeListener();
 		}
 		LauncherUtils.shutdown();
+		LaunchPreparationCache.shutdown();
 		super.stop(context);
 	}
 
@@ -44,8 +44,7 @@ public class EclipsePluginValidationOperation extends LaunchValidationOperation
 		try {
 			List<String> required = RequirementHelper.getApplicationLaunchRequirements(fLaunchConfiguration);
 			for (String element : required) {
-				BundleDescription bundle = getState().getBundle(element, null);
-				if (bundle == null) {
+				if (!containsBundle(element)) {
 					String message = NLS.bind(PDEMessages.EclipsePluginValidationOperation_pluginMissing, element);
 					Status status = new Status(IStatus.ERROR, IPDEConstants.PLUGIN_ID, CREATE_EXTENSION_ERROR_CODE, message, null);
 					IStatusHandler statusHandler = DebugPlugin.getDefault().getStatusHandler(status);
@@ -62,6 +61,20 @@ public class EclipsePluginValidationOperation extends LaunchValidationOperation
 		}
 	}
 
+	/**
+	 * Looks the bundle up in the models rather than the resolved state, which an
+	 * operation for a launch configuration does not keep.
+	 */
+	private boolean containsBundle(String symbolicName) {
+		for (IPluginModelBase model : fModels) {
+			BundleDescription bundle = model.getBundleDescription();
+			if (bundle != null && symbolicName.equals(bundle.getSymbolicName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public boolean hasErrors() {
 		return super.hasErrors() || fExtensionErrors.size() >= 1;
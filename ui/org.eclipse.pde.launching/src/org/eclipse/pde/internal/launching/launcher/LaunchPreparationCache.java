@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.variables.VariablesPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.*;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.launching.IPDELauncherConstants;
+
+/**
+ * Remembers what was prepared for the last launch of a launch configuration,
+ * so that relaunching an unchanged configuration can reuse the bundle map, the
+ * config.ini and the dev.properties of the previous launch.
+ * <p>
+ * The results are keyed by a fingerprint of the launch configuration
+ * attributes, the configuration area, the time stamp of the target state, the
+ * config.ini template and the config.ini of the target, and the modification
+ * stamps of the manifests, build.properties and class paths of the workspace
+ * plug-ins. Any change of the plug-in models discards all results. The
+ * generated files are only reused if their time stamp and size are the same
+ * as when they were written.
+ * </p>
+ */
+public class LaunchPreparationCache {
+
+	private static final String CONFIG_INI = "config.ini"; //$NON-NLS-1$
+	private static final String DEV_PROPERTIES = "dev.properties"; //$NON-NLS-1$
+	private static final String SIMPLE_CONFIGURATOR_URL = "org.eclipse.equinox.simpleconfigurator.configUrl"; //$NON-NLS-1$
+
+	private static final Map<String, Entry> fEntries = new ConcurrentHashMap<>();
+
+	private static IPluginModelListener fListener;
+
+	private static class Entry {
+		final String fingerprint;
+		final State state;
+		volatile Map<IPluginModelBase, String> models;
+		volatile Properties configIni;
+		volatile String configIniStamp;
+		volatile String devEntries;
+		volatile String devPropertiesStamp;
+
+		Entry(String fingerprint, State state) {
+			this.fingerprint = fingerprint;
+			this.state = state;
+		}
+	}
+
+	private final Entry fEntry;
+	private final File fConfigDir;
+	private final boolean fReuseConfigIni;
+
+	private LaunchPreparationCache(Entry entry, File configDir, boolean reuseConfigIni) {
+		fEntry = entry;
+		fConfigDir = configDir;
+		fReuseConfigIni = reuseConfigIni;
+	}
+
+	/**
+	 * Returns the preparation cache for a launch of the given configuration.
+	 * The results of the previous launch are available if nothing they depend
+	 * on has changed since.
+	 *
+	 * @param configuration the launch configuration being launched
+	 * @param configDir the configuration area of the launch
+	 * @return the cache for this launch
+	 * @throws CoreException if the attributes of the configuration cannot be read
+	 */
+	public static LaunchPreparationCache get(ILaunchConfiguration configuration, File configDir) throws CoreException {
+		addModelListener();
+		State state = TargetPlatformHelper.getState();
+		String fingerprint = computeFingerprint(configuration, configDir, state);
+		Entry entry = fEntries.get(configuration.getName());
+		if (entry == null || entry.state != state || !entry.fingerprint.equals(fingerprint)) {
+			entry = new Entry(fingerprint, state);
+			fEntries.put(configuration.getName(), entry);
+		}
+		// a generated p2 profile is written again on every launch that does not restart it
+		boolean reuseConfigIni = !configuration.getAttribute(IPDELauncherConstants.GENERATE_PROFILE, false);
+		return new LaunchPreparationCache(entry, configDir, reuseConfigIni);
+	}
+
+	/**
+	 * @return a copy of the bundle map of the previous launch or <code>null</code>
+	 */
+	public Map<IPluginModelBase, String> getBundleMap() {
+		Map<IPluginModelBase, String> models = fEntry.models;
+		return models == null ? null : new LinkedHashMap<>(models);
+	}
+
+	public void setBundleMap(Map<IPluginModelBase, String> models) {
+		fEntry.models = new LinkedHashMap<>(models);
+	}
+
+	/**
+	 * @return a copy of the properties written to the config.ini of the
+	 *         previous launch or <code>null</code> if the file has to be
+	 *         written again
+	 */
+	public Properties getConfigIni() {
+		Properties properties = fEntry.configIni;
+		if (properties == null || !fReuseConfigIni)
+			return null;
+		if (!getStamp(new File(fConfigDir, CONFIG_INI)).equals(fEntry.configIniStamp))
+			return null;
+		String configUrl = properties.getProperty(SIMPLE_CONFIGURATOR_URL);
+		if (configUrl != null) {
+			try {
+				if (!new File(new URL(configUrl).getPath()).isFile())
+					return null;
+			} catch (MalformedURLException e) {
+				return null;
+			}
+		}
+		Properties copy = new Properties();
+		copy.putAll(properties);
+		return copy;
+	}
+
+	public void setConfigIni(Properties properties) {
+		Properties copy = new Properties();
+		copy.putAll(properties);
+		fEntry.configIniStamp = getStamp(new File(fConfigDir, CONFIG_INI));
+		fEntry.configIni = copy;
+	}
+
+	/**
+	 * @return the dev entries argument of the previous launch or <code>null</code>
+	 *         if the dev.properties have to be written again
+	 */
+	public String getDevEntries() {
+		String devEntries = fEntry.devEntries;
+		if (devEntries == null || !getStamp(new File(fConfigDir, DEV_PROPERTIES)).equals(fEntry.devPropertiesStamp))
+			return null;
+		return devEntries;
+	}
+
+	public void setDevEntries(String devEntries) {
+		fEntry.devPropertiesStamp = getStamp(new File(fConfigDir, DEV_PROPERTIES));
+		fEntry.devEntries = devEntries;
+	}
+
+	private static String computeFingerprint(ILaunchConfiguration configuration, File configDir, State state) throws CoreException {
+		StringBuilder fingerprint = new StringBuilder();
+		fingerprint.append(configDir.getAbsolutePath()).append('\n');
+		fingerprint.append(state.getTimeStamp()).append('\n');
+		for (Map.Entry<String, Object> attribute : new TreeMap<>(configuration.getAttributes()).entrySet()) {
+			fingerprint.append(attribute.getKey()).append('=');
+			appendValue(fingerprint, attribute.getValue());
+			fingerprint.append('\n');
+		}
+		// the config.ini is generated from the template or the target's config.ini
+		String template = configuration.getAttribute(IPDELauncherConstants.CONFIG_TEMPLATE_LOCATION, (String) null);
+		if (template != null) {
+			String location = VariablesPlugin.getDefault().getStringVariableManager().performStringSubstitution(template, false);
+			fingerprint.append(getStamp(new File(location))).append('\n');
+		}
+		fingerprint.append(getStamp(TargetPlatformHelper.getConfigIniFile())).append('\n');
+		for (IPluginModelBase model : PluginRegistry.getWorkspaceModels()) {
+			IResource resource = model.getUnderlyingResource();
+			if (resource == null)
+				continue;
+			IProject project = resource.getProject();
+			fingerprint.append(project.getName());
+			fingerprint.append(':').append(PDEProject.getManifest(project).getModificationStamp());
+			fingerprint.append(':').append(PDEProject.getPluginXml(project).getModificationStamp());
+			fingerprint.append(':').append(PDEProject.getFragmentXml(project).getModificationStamp());
+			fingerprint.append(':').append(PDEProject.getBuildProperties(project).getModificationStamp());
+			fingerprint.append(':').append(project.getFile(".classpath").getModificationStamp()); //$NON-NLS-1$
+			fingerprint.append('\n');
+		}
+		return fingerprint.toString();
+	}
+
+	/**
+	 * @return the path, time stamp and size of the given file
+	 */
+	private static String getStamp(File file) {
+		return file.getAbsolutePath() + ':' + file.lastModified() + ':' + file.length();
+	}
+
+	private static void appendValue(StringBuilder fingerprint, Object value) {
+		// sets and maps are sorted so that equal attributes give equal fingerprints
+		if (value instanceof Set) {
+			Set<String> sorted = new TreeSet<>();
+			for (Object element : (Set<?>) value) {
+				sorted.add(String.valueOf(element));
+			}
+			fingerprint.append(sorted);
+		} else if (value instanceof Map) {
+			Map<String, String> sorted = new TreeMap<>();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				sorted.put(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()));
+			}
+			fingerprint.append(sorted);
+		} else {
+			fingerprint.append(value);
+		}
+	}
+
+	private static synchronized void addModelListener() {
+		if (fListener == null) {
+			fListener = delta -> fEntries.clear();
+			PDECore.getDefault().getModelManager().addPluginModelListener(fListener);
+		}
+	}
+
+	public static synchronized void shutdown() {
+		if (fListener != null) {
+			PDECore.getDefault().getModelManager().removePluginModelListener(fListener);
+			fListener = null;
+		}
+		fEntries.clear();
+	}
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Collects the time taken by the phases of preparing a launch. The breakdown
+ * is printed to the console when the <code>org.eclipse.pde.core/launch</code>
+ * trace option is enabled.
+ * <p>
+ * A launch is prepared by a single thread, so the timer of the launch being
+ * prepared is kept per thread and the launch delegates do not have to hold
+ * it.
+ * </p>
+ */
+public class LaunchPreparationTimer {
+
+	private static final ThreadLocal<LaunchPreparationTimer> fCurrent = new ThreadLocal<>();
+
+	private final long fStart = System.nanoTime();
+
+	private final Map<String, Long> fPhases = new LinkedHashMap<>();
+
+	private LaunchPreparationTimer() {
+	}
+
+	/**
+	 * Starts timing the launch prepared by the current thread. The timer must
+	 * be stopped when the launch is prepared.
+	 *
+	 * @return the timer of the launch
+	 */
+	public static LaunchPreparationTimer start() {
+		LaunchPreparationTimer timer = new LaunchPreparationTimer();
+		fCurrent.set(timer);
+		return timer;
+	}
+
+	/**
+	 * Adds the time since <code>start</code> to the given phase of the launch
+	 * prepared by the current thread. Does nothing if no launch is timed.
+	 *
+	 * @param phase name of the phase
+	 * @param start value of {@link System#nanoTime()} when the phase started
+	 */
+	public static void record(String phase, long start) {
+		LaunchPreparationTimer timer = fCurrent.get();
+		if (timer != null)
+			timer.fPhases.merge(phase, System.nanoTime() - start, Long::sum);
+	}
+
+	public void stop() {
+		if (fCurrent.get() == this)
+			fCurrent.remove();
+	}
+
+	public void report(ILaunchConfiguration configuration) {
+		if (!PDECore.DEBUG_LAUNCH)
+			return;
+		long total = System.nanoTime() - fStart;
+		long other = total;
+		StringBuilder report = new StringBuilder();
+		report.append("Launch preparation of '").append(configuration.getName()).append("': ").append(toMillis(total)).append(" ms\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		for (Map.Entry<String, Long> phase : fPhases.entrySet()) {
+			report.append("  ").append(phase.getKey()).append(": ").append(toMillis(phase.getValue())).append(" ms\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			other -= phase.getValue();
+		}
+		report.append("  other: ").append(toMillis(Math.max(other, 0))).append(" ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		System.out.println(report);
+	}
+
+	private static long toMillis(long nanos) {
+		return TimeUnit.NANOSECONDS.toMillis(nanos);
+	}
+}
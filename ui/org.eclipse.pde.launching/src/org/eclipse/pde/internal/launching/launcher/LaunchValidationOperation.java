@@ -49,6 +49,10 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 	@Override
 	public void run(IProgressMonitor monitor) throws CoreException {
 		fOperation = new BundleValidationOperation(fModels, getPlatformProperties());
+		if (fLaunchConfiguration != null) {
+			// launching the same configuration again only revalidates what changed
+			fOperation.setCacheKey(fLaunchConfiguration.getName());
+		}
 		fOperation.run(monitor);
 	}
 
@@ -201,7 +205,7 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 	}
 
 	public boolean isEmpty() {
-		return fOperation.getState().getHighestBundleId() == -1;
+		return fOperation.isEmpty();
 	}
 
 	protected State getState() {
@@ -108,6 +108,7 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 
 	@Override
 	public void launch(ILaunchConfiguration configuration, String mode, ILaunch launch, IProgressMonitor monitor) throws CoreException {
+		LaunchPreparationTimer timer = LaunchPreparationTimer.start();
 		try {
 			fConfigDir = null;
 			SubMonitor subMonitor = SubMonitor.convert(monitor, 100);
@@ -131,6 +132,7 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 			runnerConfig.setVMSpecificAttributesMap(getVMSpecificAttributesMap(configuration));
 
 			subMonitor.worked(25);
+			timer.report(configuration);
 
 			setDefaultSourceLocator(configuration);
 			manageLaunch(launch);
@@ -142,6 +144,8 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 
 		} catch (final CoreException e) {
 			throw e;
+		} finally {
+			timer.stop();
 		}
 	}
 
@@ -417,16 +421,24 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 		boolean autoValidate = configuration.getAttribute(IPDELauncherConstants.AUTOMATIC_VALIDATE, false);
 		SubMonitor subMonitor = SubMonitor.convert(monitor, autoValidate ? 30 : 40);
 		if (isShowCommand == false) {
+			long start = System.nanoTime();
 			if (autoValidate) {
 				validatePluginDependencies(configuration, subMonitor.split(10));
+				LaunchPreparationTimer.record("validate plug-ins", start); //$NON-NLS-1$
+				start = System.nanoTime();
 			}
 			validateProjectDependencies(configuration, subMonitor.split(10));
+			LaunchPreparationTimer.record("validate projects", start); //$NON-NLS-1$
 			LauncherUtils.setLastLaunchMode(launch.getLaunchMode());
+			start = System.nanoTime();
 			clear(configuration, subMonitor.split(10));
+			LaunchPreparationTimer.record("clear", start); //$NON-NLS-1$
 		}
 		launch.setAttribute(PDE_LAUNCH_SHOW_COMMAND, "false"); //$NON-NLS-1$
 		launch.setAttribute(IPDELauncherConstants.CONFIG_LOCATION, getConfigDir(configuration).toString());
+		long start = System.nanoTime();
 		synchronizeManifests(configuration, subMonitor.split(10));
+		LaunchPreparationTimer.record("synchronize manifests", start); //$NON-NLS-1$
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2022 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -64,6 +64,9 @@ public class EclipseApplicationLaunchConfiguration extends AbstractPDELaunchConf
 	// key is a model, value is startLevel:autoStart
 	private Map<IPluginModelBase, String> fModels;
 
+	// results of the previous launch that can be reused if nothing changed
+	private LaunchPreparationCache fPreparation;
+
 	/**
 	 * To avoid duplicating variable substitution (and duplicate prompts)
 	 * this variable will store the substituted workspace location.
@@ -99,8 +102,16 @@ public class EclipseApplicationLaunchConfiguration extends AbstractPDELaunchConf
 			programArgs.add(fWorkspaceLocation);
 		}
 
-		String productID = LaunchConfigurationHelper.getProductID(configuration);
-		Properties prop = LaunchConfigurationHelper.createConfigIniFile(configuration, productID, fAllBundles, fModels, getConfigDir(configuration));
+		long start = System.nanoTime();
+		Properties prop = fPreparation.getConfigIni();
+		if (prop == null) {
+			String productID = LaunchConfigurationHelper.getProductID(configuration);
+			prop = LaunchConfigurationHelper.createConfigIniFile(configuration, productID, fAllBundles, fModels, getConfigDir(configuration));
+			fPreparation.setConfigIni(prop);
+			LaunchPreparationTimer.record("config.ini", start); //$NON-NLS-1$
+		} else {
+			LaunchPreparationTimer.record("config.ini (reused)", start); //$NON-NLS-1$
+		}
 		boolean showSplash = prop.containsKey("osgi.splashPath") || prop.containsKey("splashLocation"); //$NON-NLS-1$ //$NON-NLS-2$
 		TargetPlatformHelper.checkPluginPropertiesConsistency(fAllBundles, getConfigDir(configuration));
 		programArgs.add("-configuration"); //$NON-NLS-1$
@@ -108,7 +119,16 @@ public class EclipseApplicationLaunchConfiguration extends AbstractPDELaunchConf
 
 		// add the output folder names
 		programArgs.add("-dev"); //$NON-NLS-1$
-		programArgs.add(ClasspathHelper.getDevEntriesProperties(getConfigDir(configuration).toString() + "/dev.properties", fAllBundles)); //$NON-NLS-1$
+		start = System.nanoTime();
+		String devEntries = fPreparation.getDevEntries();
+		if (devEntries == null) {
+			devEntries = ClasspathHelper.getDevEntriesProperties(getConfigDir(configuration).toString() + "/dev.properties", fAllBundles); //$NON-NLS-1$
+			fPreparation.setDevEntries(devEntries);
+			LaunchPreparationTimer.record("dev.properties", start); //$NON-NLS-1$
+		} else {
+			LaunchPreparationTimer.record("dev.properties (reused)", start); //$NON-NLS-1$
+		}
+		programArgs.add(devEntries);
 
 		String[] args = super.getProgramArguments(configuration);
 		Collections.addAll(programArgs, args);
@@ -189,7 +209,16 @@ public class EclipseApplicationLaunchConfiguration extends AbstractPDELaunchConf
 	protected void preLaunchCheck(ILaunchConfiguration configuration, ILaunch launch, IProgressMonitor monitor) throws CoreException {
 		fWorkspaceLocation = null;
 
-		fModels = BundleLauncherHelper.getMergedBundleMap(configuration, false);
+		long start = System.nanoTime();
+		fPreparation = LaunchPreparationCache.get(configuration, getConfigDir(configuration));
+		fModels = fPreparation.getBundleMap();
+		if (fModels == null) {
+			fModels = BundleLauncherHelper.getMergedBundleMap(configuration, false);
+			fPreparation.setBundleMap(fModels);
+			LaunchPreparationTimer.record("bundle map", start); //$NON-NLS-1$
+		} else {
+			LaunchPreparationTimer.record("bundle map (reused)", start); //$NON-NLS-1$
+		}
 		fAllBundles = fModels.keySet().stream().collect(Collectors.groupingBy(m -> m.getPluginBase().getId()));
 
 		validateConfigIni(configuration);
@@ -13,8 +13,9 @@
  *******************************************************************************/
 package org.eclipse.pde.spy.event.internal.core;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
@@ -23,105 +24,116 @@ import org.eclipse.pde.spy.event.internal.model.Operator;
 import org.eclipse.pde.spy.event.internal.model.Parameter;
 import org.eclipse.pde.spy.event.internal.model.SpecialValue;
 
+/**
+ * Matches captured events against filters. The filters are compiled once
+ * with {@link #compile(Collection)}, so that matching an event neither looks
+ * the item and operator up again nor converts the expected value.
+ */
 public class CapturedEventFilterMatcher {
-	public boolean matches(CapturedEvent event, CapturedEventFilter filter) {
-		Object value = getItemToFilterValue(event, filter.getItemToFilter());
 
-		if (value instanceof List) {
-			List<?> list = (List<?>) value;
-			for (Object item : list) {
-				if (matches(filter.getValue(), item, filter.getOperator())) {
+	/**
+	 * @return a predicate that accepts the events matching all of the given
+	 *         filters
+	 */
+	public static Predicate<CapturedEvent> compile(Collection<CapturedEventFilter> filters) {
+		Predicate<CapturedEvent> result = event -> true;
+		if (filters != null) {
+			for (CapturedEventFilter filter : filters) {
+				result = result.and(compile(filter));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return whether one of the given filters needs the publisher of the
+	 *         events, which is expensive to compute
+	 */
+	public static boolean needsPublisher(Collection<CapturedEventFilter> filters) {
+		if (filters != null) {
+			for (CapturedEventFilter filter : filters) {
+				if (ItemToFilter.Publisher.equals(filter.getItemToFilter())) {
 					return true;
 				}
 			}
-			return false;
 		}
-		return matches(filter.getValue(), value, filter.getOperator());
+		return false;
 	}
 
-	private Object getItemToFilterValue(CapturedEvent event, ItemToFilter itemToFilter) {
+	private static Predicate<CapturedEvent> compile(CapturedEventFilter filter) {
+		Predicate<Object> value = compile(filter.getValue(), filter.getOperator());
+		ItemToFilter itemToFilter = filter.getItemToFilter();
+
 		if (itemToFilter.equals(ItemToFilter.Topic)) {
-			return event.getTopic();
+			return event -> value.test(event.getTopic());
 		}
 		if (itemToFilter.equals(ItemToFilter.Publisher)) {
-			return event.getPublisherClassName();
+			return event -> value.test(event.getPublisherClassName());
 		}
 		if (itemToFilter.equals(ItemToFilter.ChangedElement)) {
-			return event.getChangedElementClassName();
+			return event -> value.test(event.getChangedElementClassName());
 		}
 		if (itemToFilter.equals(ItemToFilter.ParameterName)) {
-			List<String> names = new ArrayList<>();
-			for (Parameter parameter : event.getParameters()) {
-				names.add(parameter.getName());
-			}
-			return names;
+			return anyParameter(Parameter::getName, value);
 		}
 		if (itemToFilter.equals(ItemToFilter.ParameterValue)) {
-			List<Object> values = new ArrayList<>();
-			for (Parameter parameter : event.getParameters()) {
-				values.add(parameter.getValue());
-			}
-			return values;
+			return anyParameter(Parameter::getValue, value);
 		}
 		if (itemToFilter.equals(ItemToFilter.ParameterNameAndValue)) {
-			List<String> nameAndValues = new ArrayList<>();
-			for (Parameter parameter : event.getParameters()) {
-				String nameAndValue = String.format(SpecialValue.NameAndValue.toString(), parameter.getName().trim(),
-						(parameter.getValue() == null ? SpecialValue.Null : parameter.getValue().toString().trim()));
-				nameAndValues.add(nameAndValue);
-			}
-			return nameAndValues;
+			return anyParameter(parameter -> String.format(SpecialValue.NameAndValue.toString(), parameter.getName().trim(),
+					(parameter.getValue() == null ? SpecialValue.Null : parameter.getValue().toString().trim())), value);
 		}
 
 		throw new IllegalArgumentException(Messages.CapturedEventFilterMatcher_NoSupportedItem + itemToFilter.toString());
 	}
 
-	private boolean matches(String expected, Object current, Operator operator) {
+	private static Predicate<CapturedEvent> anyParameter(Function<Parameter, Object> item, Predicate<Object> value) {
+		return event -> {
+			for (Parameter parameter : event.getParameters()) {
+				if (value.test(item.apply(parameter))) {
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
+	private static Predicate<Object> compile(String expected, Operator operator) {
 		if (SpecialValue.Null.toString().equalsIgnoreCase(expected)) {
-			return operator.isPositive() ? matchesToNull(current) : !matchesToNull(current);
+			Predicate<Object> matchesToNull = current -> current == null
+					|| current.toString().equalsIgnoreCase(SpecialValue.Null.toString());
+			return operator.isPositive() ? matchesToNull : matchesToNull.negate();
 		}
 		if (SpecialValue.EmptyString.toString().equalsIgnoreCase(expected)) {
-			return operator.isPositive() ? matchesToEmptyString(current) : !matchesToEmptyString(current);
+			Predicate<Object> matchesToEmptyString = current -> current instanceof String && current.toString().isEmpty();
+			return operator.isPositive() ? matchesToEmptyString : matchesToEmptyString.negate();
 		}
+		String lowerCaseExpected = expected.toLowerCase();
+		Predicate<Object> equalsTo = current -> current != null && expected.equalsIgnoreCase(current.toString());
+		Predicate<Object> contains = current -> current != null
+				&& current.toString().toLowerCase().contains(lowerCaseExpected);
+		Predicate<Object> startsWith = current -> current != null
+				&& current.toString().toLowerCase().startsWith(lowerCaseExpected);
+
 		if (Operator.Equals.equals(operator)) {
-			return equalsTo(expected, current);
+			return equalsTo;
 		}
 		if (Operator.NotEquals.equals(operator)) {
-			return !equalsTo(expected, current);
+			return equalsTo.negate();
 		}
 		if (Operator.Contains.equals(operator)) {
-			return contains(expected, current);
+			return contains;
 		}
 		if (Operator.NotContains.equals(operator)) {
-			return !contains(expected, current);
+			return contains.negate();
 		}
 		if (Operator.StartsWith.equals(operator)) {
-			return startsWith(expected, current);
+			return startsWith;
 		}
 		if (Operator.NotStartsWith.equals(operator)) {
-			return !startsWith(expected, current);
+			return startsWith.negate();
 		}
 
 		throw new IllegalArgumentException(Messages.CapturedEventFilterMatcher_NoSupportedOperator + operator);
 	}
-
-	private boolean matchesToEmptyString(Object current) {
-		return current instanceof String && current.toString().isEmpty();
-	}
-
-	private boolean matchesToNull(Object current) {
-		return current == null || current.toString().equalsIgnoreCase(SpecialValue.Null.toString());
-	}
-
-	private boolean equalsTo(String expected, Object current) {
-		return current != null && expected.equalsIgnoreCase(current.toString());
-	}
-
-	private boolean contains(String expected, Object current) {
-		return current != null && current.toString().toLowerCase().contains(expected.toLowerCase());
-	}
-
-	private boolean startsWith(String expected, Object current) {
-		return current != null && current.toString().toLowerCase().startsWith(expected.toLowerCase());
-	}
 }
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.spy.event.internal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
+
+/**
+ * Holds the last captured events. Adding an event never blocks and never
+ * allocates, so the threads publishing events are slowed down as little as
+ * possible; once the buffer is full the oldest events are overwritten.
+ * <p>
+ * Every event gets a sequence number when it is added. Readers remember the
+ * sequence number to continue from and collect the events added since then
+ * with {@link #drainTo(long, List)}.
+ * </p>
+ */
+public class CapturedEventRingBuffer {
+
+	private final AtomicReferenceArray<CapturedEvent> slots;
+
+	private final AtomicLong next = new AtomicLong();
+
+	public CapturedEventRingBuffer(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity: " + capacity); //$NON-NLS-1$
+		}
+		slots = new AtomicReferenceArray<>(capacity);
+	}
+
+	public int getCapacity() {
+		return slots.length();
+	}
+
+	/**
+	 * Adds an event, overwriting the oldest one if the buffer is full. May be
+	 * called from any thread.
+	 */
+	public void add(CapturedEvent event) {
+		long sequence = next.getAndIncrement();
+		event.setSequence(sequence);
+		slots.set(indexOf(sequence), event);
+	}
+
+	/**
+	 * @return the number of events added so far, including the ones that have
+	 *         been overwritten
+	 */
+	public long getAddedCount() {
+		return next.get();
+	}
+
+	/**
+	 * Adds the events with a sequence number of at least <code>from</code> that
+	 * are still in the buffer to <code>result</code>, oldest first.
+	 *
+	 * @return the sequence number to continue from with the next call
+	 */
+	public long drainTo(long from, List<CapturedEvent> result) {
+		long end = next.get();
+		long sequence = Math.max(from, end - slots.length());
+		for (; sequence < end; sequence++) {
+			CapturedEvent event = slots.get(indexOf(sequence));
+			if (event == null || event.getSequence() < sequence) {
+				// the sequence number was taken but the event is not stored yet
+				break;
+			}
+			if (event.getSequence() == sequence) {
+				result.add(event);
+			}
+		}
+		return sequence;
+	}
+
+	/**
+	 * @return the events currently in the buffer, oldest first
+	 */
+	public List<CapturedEvent> getEvents() {
+		List<CapturedEvent> events = new ArrayList<>(slots.length());
+		drainTo(0, events);
+		return events;
+	}
+
+	private int indexOf(long sequence) {
+		return (int) (sequence % slots.length());
+	}
+}
@@ -14,8 +14,9 @@
 package org.eclipse.pde.spy.event.internal.core;
 
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.UIEventPublisher;
@@ -25,33 +26,50 @@ import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
 import org.osgi.service.event.EventHandler;
 
+/**
+ * Subscribes to the events under a base topic and adds the ones matching the
+ * filters to a {@link CapturedEventRingBuffer}.
+ * <p>
+ * Finding the publisher of an event means walking the stack of the publishing
+ * thread, which is the most expensive part of capturing an event. Unless a
+ * filter needs it, the publisher can therefore be computed for a sample of
+ * the events only, see {@link #setPublisherSampling(int)}.
+ * </p>
+ */
 @SuppressWarnings("restriction")
 public class EventMonitor {
 
-	public interface NewEventListener {
-		void newEvent(CapturedEvent event);
-	}
-
 	private static Set<Integer> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName().hashCode(),
 			UIEventPublisher.class.getName().hashCode());
 
-	private Collection<CapturedEventFilter> filters;
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
 
 	private final IEventBroker eventBroker;
 
-	private NewEventListener listener;
+	private volatile CapturedEventRingBuffer ringBuffer;
+
+	private volatile Predicate<CapturedEvent> filter = event -> true;
 
-	private CapturedEventFilterMatcher eventFilterMatcher;
+	private volatile boolean publisherRequired;
+
+	private volatile int publisherSampling = 1;
+
+	private final AtomicLong receivedCount = new AtomicLong();
 
 	private final EventHandler eventHandler = event -> {
-		if (listener == null) {
+		CapturedEventRingBuffer currentRingBuffer = ringBuffer;
+		if (currentRingBuffer == null) {
 			return;
 		}
 
 		CapturedEvent capturedEvent = new CapturedEvent();
+		capturedEvent.setTimestamp(System.currentTimeMillis());
 		capturedEvent.setTopic(event.getTopic());
-		capturedEvent.setPublisherClassName(getPublisherClassName());
+		if (publisherRequired || receivedCount.getAndIncrement() % publisherSampling == 0) {
+			capturedEvent.setPublisherClassName(getPublisherClassName());
+		}
 
+		// the values are only rendered when shown or filtered on
 		for (String propertyName : event.getPropertyNames()) {
 			Object value = event.getProperty(propertyName);
 			capturedEvent.addParameter(propertyName, value);
@@ -60,8 +78,8 @@ public class EventMonitor {
 			}
 		}
 
-		if (shouldBeCaptured(capturedEvent)) {
-			listener.newEvent(capturedEvent);
+		if (filter.test(capturedEvent)) {
+			currentRingBuffer.add(capturedEvent);
 		}
 	};
 
@@ -70,7 +88,9 @@ public class EventMonitor {
 	}
 
 	public void start(String baseTopic, Collection<CapturedEventFilter> filters) {
-		this.filters = filters;
+		this.filter = CapturedEventFilterMatcher.compile(filters);
+		this.publisherRequired = CapturedEventFilterMatcher.needsPublisher(filters);
+		receivedCount.set(0);
 		eventBroker.subscribe(baseTopic, eventHandler);
 	}
 
@@ -78,41 +98,34 @@ public class EventMonitor {
 		eventBroker.unsubscribe(eventHandler);
 	}
 
-	public void setNewEventListener(NewEventListener listener) {
-		this.listener = listener;
+	/**
+	 * Sets the buffer the captured events are added to, or <code>null</code>
+	 * to not capture events.
+	 */
+	public void setRingBuffer(CapturedEventRingBuffer ringBuffer) {
+		this.ringBuffer = ringBuffer;
 	}
 
-	private boolean shouldBeCaptured(CapturedEvent event) {
-		if (filters != null) {
-			Iterator<CapturedEventFilter> iter = filters.iterator();
-			while (iter.hasNext()) {
-				if (!getEventFilterMatcher().matches(event, iter.next())) {
-					return false;
-				}
-			}
+	/**
+	 * Computes the publisher only for every <code>n</code>th event, unless a
+	 * filter needs it. The default of 1 computes it for all events.
+	 */
+	public void setPublisherSampling(int n) {
+		if (n <= 0) {
+			throw new IllegalArgumentException("n: " + n); //$NON-NLS-1$
 		}
-		return true;
+		this.publisherSampling = n;
 	}
 
 	private String getPublisherClassName() {
-		StackTraceElement[] items = Thread.currentThread().getStackTrace();
-		boolean foundEventBroker = false;
-
-		for (int i = 0; i < items.length; i++) {
-			String clsName = items[i].getClassName();
-			if (!foundEventBroker && clsName.equals(EventBroker.class.getName())) {
-				foundEventBroker = true;
-			} else if (foundEventBroker && !EVENT_HELPER_CLASSES.contains(clsName.hashCode())) {
-				return String.format("%s (%s:%d)", clsName, items[i].getMethodName(), items[i].getLineNumber()); //$NON-NLS-1$
-			}
-		}
-		return ""; //$NON-NLS-1$
-	}
-
-	private CapturedEventFilterMatcher getEventFilterMatcher() {
-		if (eventFilterMatcher == null) {
-			eventFilterMatcher = new CapturedEventFilterMatcher();
-		}
-		return eventFilterMatcher;
+		String eventBrokerClassName = EventBroker.class.getName();
+		return STACK_WALKER.walk(frames -> frames //
+				.dropWhile(frame -> !frame.getClassName().equals(eventBrokerClassName)) //
+				.skip(1) //
+				.filter(frame -> !EVENT_HELPER_CLASSES.contains(frame.getClassName().hashCode())) //
+				.findFirst() //
+				.map(frame -> String.format("%s (%s:%d)", frame.getClassName(), frame.getMethodName(), //$NON-NLS-1$
+						frame.getLineNumber())) //
+				.orElse("")); //$NON-NLS-1$
 	}
 }
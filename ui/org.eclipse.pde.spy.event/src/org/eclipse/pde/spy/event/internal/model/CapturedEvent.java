@@ -26,6 +26,10 @@ public class CapturedEvent implements IEventItem {
 
 	private List<Parameter> parameters;
 
+	private long sequence;
+
+	private long timestamp;
+
 	public void setTopic(String topic) {
 		this.topic = topic;
 	}
@@ -50,6 +54,22 @@ public class CapturedEvent implements IEventItem {
 		return changedElementClassName;
 	}
 
+	public void setSequence(long sequence) {
+		this.sequence = sequence;
+	}
+
+	public long getSequence() {
+		return sequence;
+	}
+
+	public void setTimestamp(long timestamp) {
+		this.timestamp = timestamp;
+	}
+
+	public long getTimestamp() {
+		return timestamp;
+	}
+
 	public void addParameter(String name, Object value) {
 		if (parameters == null) {
 			parameters = new ArrayList<>();
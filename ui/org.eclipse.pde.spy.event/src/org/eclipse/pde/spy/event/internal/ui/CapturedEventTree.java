@@ -14,6 +14,11 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 import org.eclipse.core.databinding.beans.PojoObservables;
 import org.eclipse.core.databinding.observable.IObservable;
@@ -336,6 +341,34 @@ public class CapturedEventTree extends TreeViewer {
 		capturedEvents.add(event);
 	}
 
+	/**
+	 * Adds the given events in one change and removes the oldest events if
+	 * there are more than <code>limit</code> afterwards.
+	 */
+	public void addEvents(Collection<CapturedEvent> events, int limit) {
+		if (events.isEmpty()) {
+			return;
+		}
+		// events of the batch that would be removed right away are not added
+		List<CapturedEvent> added = new ArrayList<>(events);
+		if (added.size() > limit) {
+			added = added.subList(added.size() - limit, added.size());
+		}
+		int excess = capturedEvents.size() + added.size() - limit;
+		if (excess >= capturedEvents.size()) {
+			capturedEvents.clear();
+		} else if (excess > 0) {
+			// the sub list of an observable list cannot be cleared, and the
+			// removed events are looked up in an identity set, not a list
+			Set<CapturedEvent> removed = Collections.newSetFromMap(new IdentityHashMap<>(excess * 4 / 3 + 1));
+			for (int i = 0; i < excess; i++) {
+				removed.add(capturedEvents.get(i));
+			}
+			capturedEvents.removeAll(removed);
+		}
+		capturedEvents.addAll(added);
+	}
+
 	public void setListener(ICapturedEventTreeListener listener) {
 		this.listener = listener;
 	}
@@ -17,7 +17,11 @@
  *******************************************************************************/
 package org.eclipse.pde.spy.event.internal.ui;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -27,9 +31,11 @@ import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.pde.spy.event.internal.core.CapturedEventRingBuffer;
 import org.eclipse.pde.spy.event.internal.core.EventMonitor;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
+import org.eclipse.pde.spy.event.internal.util.CapturedEventExporter;
 import org.eclipse.pde.spy.event.internal.util.JDTUtils;
 import org.eclipse.pde.spy.event.internal.util.LoggerWrapper;
 import org.eclipse.swt.SWT;
@@ -38,11 +44,22 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.layout.RowData;
 import org.eclipse.swt.layout.RowLayout;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.swt.widgets.Link;
 
-public class EventSpyPart implements EventMonitor.NewEventListener {
+public class EventSpyPart {
 
 	private static final String[] SHOW_FILTER_LINK_TEXT = new String[] { Messages.EventSpyPart_ShowFilters, Messages.EventSpyPart_HideFilters };
 
+	/** number of captured events kept, older ones are dropped */
+	private static final int CAPTURED_EVENTS_LIMIT = 10000;
+
+	/** delay between two updates of the tree with the events captured in between */
+	private static final int REFRESH_DELAY = 250;
+
+	/** the publisher of only one in this many events is computed, unless a filter needs it */
+	private static final int PUBLISHER_SAMPLING = 10;
+
 	private CapturedEventTree capturedEventTree;
 
 	private CapturedEventFilters capturedEventFilters;
@@ -53,6 +70,14 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 
 	private ToggleLink showFiltersLink;
 
+	private CapturedEventRingBuffer capturedEventBuffer;
+
+	private long nextSequence;
+
+	private boolean capturing;
+
+	private final Runnable refresher = this::refreshCapturedEvents;
+
 	@Inject
 	private LoggerWrapper logger;
 
@@ -142,6 +167,10 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		showFiltersLink.setText(new String[] { SHOW_FILTER_LINK_TEXT[0], SHOW_FILTER_LINK_TEXT[1] });
 		showFiltersLink.getControl().setLayoutData(new RowData(130, SWT.DEFAULT));
 		showFiltersLink.setClickListener(this::showFilters);
+
+		Link exportLink = new Link(actionBar, SWT.NONE);
+		exportLink.setText(String.format("<a>%s</a>", Messages.EventSpyPart_ExportCapturedEvents)); //$NON-NLS-1$
+		exportLink.addListener(SWT.Selection, event -> exportCapturedEvents());
 	}
 
 	private void createFilters(SpyPartMemento memento) {
@@ -169,9 +198,14 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		capturedEventTree.removeAll();
 		if (eventMonitor == null) {
 			eventMonitor = new EventMonitor(eventBroker);
-			eventMonitor.setNewEventListener(this);
+			eventMonitor.setPublisherSampling(PUBLISHER_SAMPLING);
 		}
+		capturedEventBuffer = new CapturedEventRingBuffer(CAPTURED_EVENTS_LIMIT);
+		nextSequence = 0;
+		eventMonitor.setRingBuffer(capturedEventBuffer);
 		eventMonitor.start(capturedEventFilters.getBaseTopic(), capturedEventFilters.getFilters());
+		capturing = true;
+		outer.getDisplay().timerExec(REFRESH_DELAY, refresher);
 		// getShell().setText(DIALOG_TITLE + " - capturing...");
 	}
 
@@ -179,12 +213,48 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		if (eventMonitor != null) {
 			eventMonitor.stop();
 		}
+		capturing = false;
+		if (!outer.isDisposed()) {
+			outer.getDisplay().timerExec(-1, refresher);
+			refreshCapturedEvents();
+		}
 		// getShell().setText(DIALOG_TITLE);
 	}
 
-	@Override
-	public void newEvent(CapturedEvent event) {
-		capturedEventTree.addEvent(event);
+	/**
+	 * Moves the events captured since the last refresh to the tree. Events are
+	 * captured into a buffer rather than added to the tree one by one, which
+	 * would make every event published cost a tree update.
+	 */
+	private void refreshCapturedEvents() {
+		if (capturedEventBuffer == null || capturedEventTree.getControl().isDisposed()) {
+			return;
+		}
+		List<CapturedEvent> events = new ArrayList<>();
+		nextSequence = capturedEventBuffer.drainTo(nextSequence, events);
+		capturedEventTree.addEvents(events, CAPTURED_EVENTS_LIMIT);
+		if (capturing) {
+			outer.getDisplay().timerExec(REFRESH_DELAY, refresher);
+		}
+	}
+
+	private void exportCapturedEvents() {
+		if (capturedEventBuffer == null) {
+			return;
+		}
+		FileDialog dialog = new FileDialog(outer.getShell(), SWT.SAVE);
+		dialog.setFilterExtensions(new String[] { "*.tsv", "*.*" }); //$NON-NLS-1$ //$NON-NLS-2$
+		dialog.setFileName("events.tsv"); //$NON-NLS-1$
+		dialog.setOverwrite(true);
+		String file = dialog.open();
+		if (file == null) {
+			return;
+		}
+		try {
+			CapturedEventExporter.export(capturedEventBuffer.getEvents(), Paths.get(file));
+		} catch (IOException e) {
+			logger.error(e, String.format(Messages.EventSpyPart_ExportFailed, file));
+		}
 	}
 
 	@SuppressWarnings("restriction")
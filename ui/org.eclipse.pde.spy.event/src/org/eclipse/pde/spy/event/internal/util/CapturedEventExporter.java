@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.spy.event.internal.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
+import org.eclipse.pde.spy.event.internal.model.Parameter;
+
+/**
+ * Writes captured events as tab separated values, one event per line, for
+ * analysis outside of the spy.
+ */
+public class CapturedEventExporter {
+	private static final String HEADER = "sequence\ttime\ttopic\tpublisher\tchangedElement\tparameters"; //$NON-NLS-1$
+
+	public static void export(List<CapturedEvent> events, Path file) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			writer.write(HEADER);
+			writer.newLine();
+			for (CapturedEvent event : events) {
+				writer.write(Long.toString(event.getSequence()));
+				writer.write('\t');
+				writer.write(Instant.ofEpochMilli(event.getTimestamp()).toString());
+				writer.write('\t');
+				writer.write(escape(event.getTopic()));
+				writer.write('\t');
+				writer.write(escape(event.getPublisherClassName()));
+				writer.write('\t');
+				writer.write(escape(event.getChangedElementClassName()));
+				writer.write('\t');
+				boolean first = true;
+				for (Parameter parameter : event.getParameters()) {
+					if (!first) {
+						writer.write("; "); //$NON-NLS-1$
+					}
+					first = false;
+					writer.write(escape(parameter.getName()));
+					writer.write('=');
+					writer.write(escape(String.valueOf(parameter.getValue())));
+				}
+				writer.newLine();
+			}
+		}
+	}
+
+	private static String escape(String value) {
+		if (value == null) {
+			return ""; //$NON-NLS-1$
+		}
+		StringBuilder result = null;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			String replacement = c == '\t' ? "\\t" : c == '\n' ? "\\n" : c == '\r' ? "\\r" : c == '\\' ? "\\\\" : null; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			if (replacement != null && result == null) {
+				result = new StringBuilder(value.length() + 16).append(value, 0, i);
+			}
+			if (result != null) {
+				if (replacement != null) {
+					result.append(replacement);
+				} else {
+					result.append(c);
+				}
+			}
+		}
+		return result == null ? value : result.toString();
+	}
+}
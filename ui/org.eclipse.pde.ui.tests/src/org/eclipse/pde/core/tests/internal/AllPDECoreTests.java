@@ -6,7 +6,15 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({ //
+	BundleValidationOperationTest.class, //
+	DependencyIndexTest.class, //
 	DependencyManagerTest.class, //
+	FeatureRebuilderTest.class, //
+	ManifestHeaderCacheTest.class, //
+	PDEExtensionRegistryTest.class, //
+	PluginSearchIndexTest.class, //
+	SchemaRegistryTest.class, //
+	SourceLocationManagerTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
 })
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Dictionary;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.Set;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.BundleValidationOperation;
+import org.eclipse.pde.internal.core.plugin.ExternalPluginModel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+
+public class BundleValidationOperationTest {
+
+	/** enough bundles that a single change is validated incrementally */
+	private static final int OTHER_BUNDLES = 8;
+
+	@Rule
+	public TestName name = new TestName();
+
+	private StateObjectFactory factory;
+	private State state;
+	private long nextId;
+	private Set<IPluginModelBase> others;
+
+	@Before
+	public void setUp() throws BundleException {
+		factory = Platform.getPlatformAdmin().getFactory();
+		state = factory.createState(true);
+		others = new HashSet<>();
+		for (int i = 0; i < OTHER_BUNDLES; i++) {
+			others.add(model(bundle("other" + i, null, null)));
+		}
+	}
+
+	@After
+	public void tearDown() {
+		BundleValidationOperation.clearCache();
+	}
+
+	@Test
+	public void testAddedBundle() throws Exception {
+		IPluginModelBase a = model(bundle("a", "b", null));
+		IPluginModelBase b = model(bundle("b", null, null));
+
+		BundleValidationOperation first = validate(models(a), getEnvironment("linux"));
+		assertThat(first.hasErrors()).isTrue();
+		assertThat(getErrorBundles(first)).containsOnly("a");
+
+		BundleValidationOperation second = validate(models(a, b), getEnvironment("linux"));
+		assertThat(second.hasErrors()).isFalse();
+		assertThat(getErrorBundles(second)).isEmpty();
+
+		// the results of the first operation are not changed by the second one
+		assertThat(first.hasErrors()).isTrue();
+		assertThat(getErrorBundles(first)).containsOnly("a");
+		assertThat(first.getState().getBundle("b", null)).isNull();
+	}
+
+	@Test
+	public void testRemovedBundle() throws Exception {
+		IPluginModelBase a = model(bundle("a", "b", null));
+		IPluginModelBase b = model(bundle("b", null, null));
+
+		assertThat(validate(models(a, b), getEnvironment("linux")).hasErrors()).isFalse();
+
+		BundleValidationOperation operation = validate(models(a), getEnvironment("linux"));
+		assertThat(operation.hasErrors()).isTrue();
+		assertThat(getErrorBundles(operation)).containsOnly("a");
+	}
+
+	@Test
+	public void testChangedBundle() throws Exception {
+		ExternalPluginModel a = model(bundle("a", "b", null));
+
+		assertThat(validate(models(a), getEnvironment("linux")).hasErrors()).isTrue();
+
+		a.setBundleDescription(bundle("a", null, null));
+		BundleValidationOperation operation = validate(models(a), getEnvironment("linux"));
+		assertThat(operation.hasErrors()).isFalse();
+
+		a.setBundleDescription(bundle("a", "c", null));
+		operation = validate(models(a), getEnvironment("linux"));
+		assertThat(operation.hasErrors()).isTrue();
+		assertThat(getErrorBundles(operation)).containsOnly("a");
+	}
+
+	@Test
+	public void testChangedProperties() throws Exception {
+		IPluginModelBase a = model(bundle("a", null, "(osgi.os=linux)"));
+
+		assertThat(validate(models(a), getEnvironment("linux")).hasErrors()).isFalse();
+
+		BundleValidationOperation operation = validate(models(a), getEnvironment("win32"));
+		assertThat(operation.hasErrors()).isTrue();
+		assertThat(getErrorBundles(operation)).containsOnly("a");
+
+		assertThat(validate(models(a), getEnvironment("linux")).hasErrors()).isFalse();
+	}
+
+	@Test
+	public void testClearedCache() throws Exception {
+		IPluginModelBase a = model(bundle("a", "b", null));
+		IPluginModelBase b = model(bundle("b", null, null));
+
+		assertThat(validate(models(a), getEnvironment("linux")).hasErrors()).isTrue();
+
+		BundleValidationOperation.clearCache();
+		assertThat(validate(models(a, b), getEnvironment("linux")).hasErrors()).isFalse();
+	}
+
+	private BundleValidationOperation validate(Set<IPluginModelBase> models, Dictionary<String, String> environment)
+			throws Exception {
+		@SuppressWarnings("unchecked")
+		BundleValidationOperation operation = new BundleValidationOperation(models, new Dictionary[] { environment });
+		operation.setCacheKey(name.getMethodName());
+		operation.run(null);
+		return operation;
+	}
+
+	/**
+	 * @return the symbolic names of the bundles with errors, the operation
+	 *         reports errors for copies of the given bundles
+	 */
+	private static Set<String> getErrorBundles(BundleValidationOperation operation) {
+		Set<String> result = new HashSet<>();
+		for (Object key : operation.getResolverErrors().keySet()) {
+			result.add(((BundleDescription) key).getSymbolicName());
+		}
+		return result;
+	}
+
+	private Set<IPluginModelBase> models(IPluginModelBase... models) {
+		Set<IPluginModelBase> result = new HashSet<>(others);
+		for (IPluginModelBase model : models) {
+			result.add(model);
+		}
+		return result;
+	}
+
+	private static ExternalPluginModel model(BundleDescription bundle) {
+		ExternalPluginModel model = new ExternalPluginModel();
+		model.setBundleDescription(bundle);
+		return model;
+	}
+
+	private BundleDescription bundle(String symbolicName, String requiredBundle, String platformFilter)
+			throws BundleException {
+		Dictionary<String, String> manifest = new Hashtable<>();
+		manifest.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+		manifest.put(Constants.BUNDLE_SYMBOLICNAME, symbolicName);
+		manifest.put(Constants.BUNDLE_VERSION, "1.0.0");
+		if (requiredBundle != null) {
+			manifest.put(Constants.REQUIRE_BUNDLE, requiredBundle);
+		}
+		if (platformFilter != null) {
+			manifest.put("Eclipse-PlatformFilter", platformFilter);
+		}
+		long id = nextId++;
+		return factory.createBundleDescription(state, manifest, symbolicName + "_" + id, id);
+	}
+
+	private static Dictionary<String, String> getEnvironment(String os) {
+		Dictionary<String, String> environment = new Hashtable<>();
+		environment.put("osgi.os", os);
+		return environment;
+	}
+
+}
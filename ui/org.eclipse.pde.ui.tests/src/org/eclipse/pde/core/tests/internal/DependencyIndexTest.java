@@ -0,0 +1,137 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.core.DependencyIndex;
+import org.eclipse.pde.internal.core.DependencyManager;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+
+public class DependencyIndexTest {
+
+	private StateObjectFactory factory;
+	private State state;
+	private long nextId;
+	private DependencyIndex index;
+
+	/** the bundles the closure was computed for, one entry per computation */
+	private final List<Set<BundleDescription>> computed = new ArrayList<>();
+
+	private final Function<Collection<BundleDescription>, Set<BundleDescription>> computer = bundles -> {
+		computed.add(Set.copyOf(bundles));
+		// the bundles are not part of the PDE state, so this walks the wires
+		return DependencyManager.findRequirementsClosure(bundles);
+	};
+
+	private BundleDescription a;
+	private BundleDescription b;
+	private BundleDescription c;
+	private BundleDescription d;
+	private BundleDescription e;
+
+	@Before
+	public void setUp() throws BundleException {
+		factory = Platform.getPlatformAdmin().getFactory();
+		state = factory.createState(true);
+		a = addBundle("a", null);
+		b = addBundle("b", "a");
+		c = addBundle("c", "b");
+		d = addBundle("d", null);
+		e = addBundle("e", "d");
+		state.resolve(false);
+		index = new DependencyIndex();
+		index.reset(state);
+	}
+
+	@Test
+	public void testClosureIsIndexed() {
+		assertThat(findClosure(c)).isEqualTo(Set.of(a, b, c));
+		assertThat(findClosure(c)).isEqualTo(Set.of(a, b, c));
+		assertThat(computed).containsExactly(Set.of(c));
+
+		assertThat(index.isInClosure(c, a, false, false, computer)).isTrue();
+		assertThat(index.isInClosure(c, d, false, false, computer)).isFalse();
+		assertThat(computed).hasSize(1);
+	}
+
+	@Test
+	public void testBundlesAreWalkedTogether() {
+		assertThat(findClosure(c)).isEqualTo(Set.of(a, b, c));
+		computed.clear();
+
+		assertThat(findClosure(b, c, e)).isEqualTo(Set.of(a, b, c, d, e));
+		// c is indexed, b and e are not
+		assertThat(computed).containsExactly(Set.of(b, e));
+	}
+
+	@Test
+	public void testStateDeltaEvictsAffectedClosures() {
+		findClosure(c);
+		findClosure(e);
+		findClosure(a);
+		computed.clear();
+
+		StateDelta delta = state.resolve(new BundleDescription[] { d });
+		assertThat(delta.getChanges()).isNotEmpty();
+		index.stateResolved(delta);
+
+		// only the closure containing the re-resolved bundle is computed again
+		assertThat(findClosure(c)).isEqualTo(Set.of(a, b, c));
+		assertThat(findClosure(a)).isEqualTo(Set.of(a));
+		assertThat(computed).isEmpty();
+		assertThat(findClosure(e)).isEqualTo(Set.of(d, e));
+		assertThat(computed).containsExactly(Set.of(e));
+	}
+
+	@Test
+	public void testFindDependentsClosure() {
+		assertThat(index.findDependentsClosure(Set.of(a), false)).isEqualTo(Set.of(a, b, c));
+		assertThat(index.findDependentsClosure(Set.of(b, d), false)).isEqualTo(Set.of(b, c, d, e));
+	}
+
+	private Set<BundleDescription> findClosure(BundleDescription... bundles) {
+		return index.findRequirementsClosure(List.of(bundles), false, false, computer);
+	}
+
+	private BundleDescription addBundle(String symbolicName, String requiredBundle) throws BundleException {
+		Dictionary<String, String> manifest = new Hashtable<>();
+		manifest.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+		manifest.put(Constants.BUNDLE_SYMBOLICNAME, symbolicName);
+		manifest.put(Constants.BUNDLE_VERSION, "1.0.0");
+		if (requiredBundle != null) {
+			manifest.put(Constants.REQUIRE_BUNDLE, requiredBundle);
+		}
+		long id = nextId++;
+		BundleDescription bundle = factory.createBundleDescription(state, manifest, symbolicName + "_" + id, id);
+		state.addBundle(bundle);
+		return bundle;
+	}
+
+}
@@ -17,6 +17,7 @@ package org.eclipse.pde.core.tests.internal;
 
 import static java.util.Map.entry;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.pde.internal.core.DependencyManager.findDependentsClosure;
 import static org.eclipse.pde.internal.core.DependencyManager.findRequirementsClosure;
 import static org.eclipse.pde.internal.core.DependencyManager.Options.INCLUDE_ALL_FRAGMENTS;
 import static org.eclipse.pde.internal.core.DependencyManager.Options.INCLUDE_NON_TEST_FRAGMENTS;
@@ -333,6 +334,60 @@ public class DependencyManagerTest {
 		assertThat(optionalClosure).isEqualTo(Set.of(bundleOptional, bundleA1, bundleA2, bundleProvider));
 	}
 
+	@Test
+	public void testFindRequirementsClosure_repeatedAfterTargetChange() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"), //
+				bundle("bundle.b", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a")));
+
+		BundleDescription bundleA = bundleDescription("bundle.a", "1.0.0");
+		BundleDescription bundleB = bundleDescription("bundle.b", "1.0.0");
+
+		assertThat(findRequirementsClosure(Set.of(bundleB))).isEqualTo(Set.of(bundleB, bundleA));
+		// second query is served from the dependency index
+		assertThat(findRequirementsClosure(Set.of(bundleB))).isEqualTo(Set.of(bundleB, bundleA));
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"), //
+				bundle("bundle.c", "1.0.0"), //
+				bundle("bundle.b", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a,bundle.c")));
+
+		BundleDescription newBundleA = bundleDescription("bundle.a", "1.0.0");
+		BundleDescription newBundleB = bundleDescription("bundle.b", "1.0.0");
+		BundleDescription newBundleC = bundleDescription("bundle.c", "1.0.0");
+
+		assertThat(findRequirementsClosure(Set.of(newBundleB))).isEqualTo(Set.of(newBundleB, newBundleA, newBundleC));
+	}
+
+	@Test
+	public void testFindDependentsClosure() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0", //
+						entry(EXPORT_PACKAGE, "bundle.a.pack")),
+				bundle("bundle.b", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a")),
+				bundle("bundle.c", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.b")),
+				bundle("bundle.optional", "1.0.0", //
+						entry(IMPORT_PACKAGE, "bundle.a.pack" + resolution(OPTIONAL))),
+				bundle("bundle.d", "1.0.0"));
+
+		BundleDescription bundleA = bundleDescription("bundle.a", "1.0.0");
+		BundleDescription bundleB = bundleDescription("bundle.b", "1.0.0");
+		BundleDescription bundleC = bundleDescription("bundle.c", "1.0.0");
+		BundleDescription bundleOptional = bundleDescription("bundle.optional", "1.0.0");
+
+		Set<BundleDescription> dependents = findDependentsClosure(Set.of(bundleA), false);
+		assertThat(dependents).isEqualTo(Set.of(bundleA, bundleB, bundleC));
+
+		Set<BundleDescription> optionalDependents = findDependentsClosure(Set.of(bundleA), true);
+		assertThat(optionalDependents).isEqualTo(Set.of(bundleA, bundleB, bundleC, bundleOptional));
+	}
+
 	// --- utility methods ---
 
 	@SafeVarargs
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.core.project.IBundleProjectDescription;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDECoreMessages;
+import org.eclipse.pde.internal.core.builders.FeatureRebuilder;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.eclipse.pde.internal.core.feature.WorkspaceFeatureModel;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
+import org.eclipse.pde.internal.ui.wizards.feature.AbstractCreateFeatureOperation;
+import org.eclipse.pde.internal.ui.wizards.feature.FeatureData;
+import org.eclipse.pde.ui.tests.project.ProjectCreationTests;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.Version;
+
+public class FeatureRebuilderTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	private IProject pluginA;
+	private IFile featureA;
+	private IFile featureB;
+
+	@Before
+	public void setUp() throws Exception {
+		pluginA = ProjectUtils.createPluginProject("plugin.a", "1.0.0");
+		ProjectUtils.createPluginProject("plugin.b", "1.0.0");
+		featureA = createFeature("feature.a", "plugin.a");
+		featureB = createFeature("feature.b", "plugin.b");
+		build();
+	}
+
+	@Test
+	public void testVersionChangeRevalidatesIncludingFeatures() throws Exception {
+		long stampA = featureA.getModificationStamp();
+		long stampB = featureB.getModificationStamp();
+		assertThat(getMessages(featureA)).doesNotContain(getMismatchMessage("plugin.a"));
+
+		changePlugin(pluginA, description -> description.setBundleVersion(Version.parseVersion("2.0.0")));
+		build();
+
+		assertThat(featureA.getModificationStamp()).isNotEqualTo(stampA);
+		assertThat(featureB.getModificationStamp()).isEqualTo(stampB);
+		// validated against the new version, not against a previous lookup
+		assertThat(getMessages(featureA)).contains(getMismatchMessage("plugin.a"));
+		assertThat(getMessages(featureB)).doesNotContain(getMismatchMessage("plugin.b"));
+	}
+
+	@Test
+	public void testOtherManifestChangeDoesNotRevalidate() throws Exception {
+		long stampA = featureA.getModificationStamp();
+		long stampB = featureB.getModificationStamp();
+
+		changePlugin(pluginA, description -> description.setBundleName("Plug-in A"));
+		build();
+
+		assertThat(featureA.getModificationStamp()).isEqualTo(stampA);
+		assertThat(featureB.getModificationStamp()).isEqualTo(stampB);
+	}
+
+	@Test
+	public void testFeatureIsBuiltWithinItsProject() throws Exception {
+		IProject project = featureA.getProject();
+		// fails if the builder needs a rule beyond its own project
+		ResourcesPlugin.getWorkspace().run(
+				monitor -> project.build(IncrementalProjectBuilder.FULL_BUILD, monitor), project,
+				IWorkspace.AVOID_UPDATE, null);
+		assertThat(getMessages(featureA)).doesNotContain(getMismatchMessage("plugin.a"));
+	}
+
+	private static void changePlugin(IProject project, Consumer<IBundleProjectDescription> change)
+			throws CoreException {
+		IBundleProjectDescription description = ProjectCreationTests.getBundleProjectService()
+				.getDescription(project);
+		change.accept(description);
+		description.apply(null);
+	}
+
+	private static void build() throws Exception {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		// the features are touched in a job scheduled before the build, and
+		// validated by the next one
+		workspace.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		Job.getJobManager().join(FeatureRebuilder.class, null);
+		workspace.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+	}
+
+	private static List<String> getMessages(IFile file) throws CoreException {
+		List<String> messages = new ArrayList<>();
+		for (IMarker marker : file.findMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_ZERO)) {
+			messages.add(marker.getAttribute(IMarker.MESSAGE, ""));
+		}
+		return messages;
+	}
+
+	private static String getMismatchMessage(String pluginId) {
+		return NLS.bind(PDECoreMessages.Builders_Feature_mismatchPluginVersion, new String[] { "1.0.0", pluginId });
+	}
+
+	private static IFile createFeature(String id, String pluginId) throws Exception {
+		FeatureData featureData = new FeatureData();
+		featureData.id = id;
+		featureData.version = "1.0.0";
+
+		IWorkspaceRoot workspaceRoot = ResourcesPlugin.getWorkspace().getRoot();
+		IProject project = workspaceRoot.getProject(id);
+		IPath location = workspaceRoot.getLocation().append(project.getName());
+		new AbstractCreateFeatureOperation(project, location, featureData, null) {
+			@Override
+			protected void configureFeature(IFeature feature, WorkspaceFeatureModel model) throws CoreException {
+				IFeaturePlugin plugin = model.getFactory().createPlugin();
+				plugin.setId(pluginId);
+				plugin.setVersion("1.0.0");
+				plugin.setUnpack(false);
+				feature.addPlugins(new IFeaturePlugin[] { plugin });
+			}
+
+			@Override
+			protected void openFeatureEditor(IFile manifestFile) {
+				// don't open in headless tests
+			}
+		}.run(new NullProgressMonitor());
+
+		// process the resource changes of the operation now, see FeatureBasedLaunchTest
+		ResourcesPlugin.getWorkspace().run(m -> project.build(IncrementalProjectBuilder.FULL_BUILD, null), null);
+		return (IFile) PDECore.getDefault().getFeatureModelManager().getFeatureModel(project).getUnderlyingResource();
+	}
+
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jface.text.Document;
+import org.eclipse.osgi.service.resolver.VersionRange;
+import org.eclipse.osgi.util.ManifestElement;
+import org.eclipse.pde.core.plugin.IFragment;
+import org.eclipse.pde.core.plugin.IFragmentModel;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.ibundle.IManifestHeader;
+import org.eclipse.pde.internal.core.text.bundle.BundleModel;
+import org.eclipse.pde.internal.core.text.bundle.RequireBundleHeader;
+import org.eclipse.pde.internal.core.text.bundle.RequireBundleObject;
+import org.eclipse.pde.internal.core.util.ManifestHeaderCache;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+
+public class ManifestHeaderCacheTest {
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@Test
+	public void testElementsAreShared() throws BundleException {
+		String value = "org.example.a;bundle-version=\"1.0.0\",org.example.b;resolution:=optional";
+		ManifestElement[] first = ManifestHeaderCache.parseHeader(Constants.REQUIRE_BUNDLE, value);
+		ManifestElement[] second = ManifestHeaderCache.parseHeader(Constants.REQUIRE_BUNDLE, value);
+
+		assertThat(second).isNotSameAs(first).containsExactly(first);
+		assertThat(first[0].getValue()).isEqualTo("org.example.a");
+		assertThat(first[0].getAttribute(Constants.BUNDLE_VERSION_ATTRIBUTE)).isEqualTo("1.0.0");
+		assertThat(first[1].getDirective(Constants.RESOLUTION_DIRECTIVE)).isEqualTo("optional");
+		// the array is a copy, replacing an element does not affect other callers
+		first[0] = null;
+		assertThat(ManifestHeaderCache.parseHeader(Constants.REQUIRE_BUNDLE, value)).containsExactly(second);
+	}
+
+	@Test
+	public void testInvalidHeader() {
+		String value = "org.example.a;bundle-version=\"1.0.0";
+		BundleException first = catchThrowableOfType(
+				() -> ManifestHeaderCache.parseHeader(Constants.REQUIRE_BUNDLE, value), BundleException.class);
+		BundleException second = catchThrowableOfType(
+				() -> ManifestHeaderCache.parseHeader(Constants.REQUIRE_BUNDLE, value), BundleException.class);
+
+		assertThat(first).isNotNull().isNotSameAs(second);
+		assertThat(second.getMessage()).isEqualTo(first.getMessage());
+		// both are caused by the exception of the one parse
+		assertThat(second.getCause()).isSameAs(first.getCause()).isInstanceOf(BundleException.class);
+	}
+
+	@Test
+	public void testNullValue() throws BundleException {
+		assertThat(ManifestHeaderCache.parseHeader(Constants.REQUIRE_BUNDLE, null)).isNull();
+	}
+
+	@Test
+	public void testEditedElementDoesNotChangeCachedElement() throws Exception {
+		Document document = new Document("Manifest-Version: 1.0\n" //
+				+ "Bundle-ManifestVersion: 2\n" //
+				+ "Bundle-SymbolicName: com.example.xyz\n" //
+				+ "Require-Bundle: org.example.edited\n");
+		BundleModel model = new BundleModel(document, false);
+		model.load();
+		IManifestHeader header = model.getBundle().getManifestHeader(Constants.REQUIRE_BUNDLE);
+		RequireBundleObject required = ((RequireBundleHeader) header).getRequiredBundles()[0];
+		ManifestElement cached = ManifestHeaderCache.parseHeader(Constants.REQUIRE_BUNDLE, header.getValue())[0];
+
+		assertThat(required.getValueComponents()).isNotSameAs(cached.getValueComponents());
+		required.getValueComponents()[0] = "org.example.other";
+		assertThat(cached.getValue()).isEqualTo("org.example.edited");
+		assertThat(ManifestHeaderCache.parseHeader(Constants.REQUIRE_BUNDLE, header.getValue())[0].getValue())
+				.isEqualTo("org.example.edited");
+	}
+
+	@Test
+	public void testFragmentHost() throws Exception {
+		IProject project = ProjectUtils.createPluginProject("header.cache.fragment", "header.cache.fragment", "1.0.0",
+				(description, service) -> description
+						.setHost(service.newHost("header.cache.host", new VersionRange("[1.2.0,2.0.0)"))));
+		IFragment fragment = ((IFragmentModel) PluginRegistry.findModel(project)).getFragment();
+
+		assertThat(fragment.getPluginId()).isEqualTo("header.cache.host");
+		assertThat(fragment.getPluginVersion()).isEqualTo("1.2.0");
+	}
+
+}
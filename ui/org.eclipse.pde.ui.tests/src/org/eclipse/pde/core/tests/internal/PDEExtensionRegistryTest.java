@@ -0,0 +1,113 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEExtensionRegistry;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+public class PDEExtensionRegistryTest {
+
+	private static final String POINT_ID = "registry.provider.point";
+
+	/** number of times the extension is removed and added again */
+	private static final int CHANGES = 20;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@Test
+	public void testInvalidationDuringConcurrentLookups() throws Exception {
+		IProject provider = ProjectUtils.createPluginProject("registry.provider", "registry.provider", "1.0.0",
+				(description, service) -> description.setSingleton(true));
+		writePluginXml(provider, "<extension-point id=\"point\" name=\"Point\"/>");
+		IProject contributor = ProjectUtils.createPluginProject("registry.contributor", "registry.contributor",
+				"1.0.0", (description, service) -> description.setSingleton(true));
+		writePluginXml(contributor, "<extension point=\"" + POINT_ID + "\"/>");
+
+		PDEExtensionRegistry registry = PDECore.getDefault().getExtensionsRegistry();
+		assertThat(getContributingIds(registry)).contains("registry.contributor");
+
+		AtomicBoolean done = new AtomicBoolean();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			// lookups keep running while the index is invalidated
+			List<Future<?>> lookups = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				lookups.add(executor.submit(() -> {
+					while (!done.get()) {
+						registry.findExtensionPlugins(POINT_ID, false);
+					}
+				}));
+			}
+			for (int i = 0; i < CHANGES; i++) {
+				boolean contributes = i % 2 == 1;
+				writePluginXml(contributor, contributes ? "<extension point=\"" + POINT_ID + "\"/>" : "");
+				// a lookup started before the change must not be served afterwards
+				if (contributes) {
+					assertThat(getContributingIds(registry)).contains("registry.contributor");
+				} else {
+					assertThat(getContributingIds(registry)).doesNotContain("registry.contributor");
+				}
+			}
+			done.set(true);
+			for (Future<?> lookup : lookups) {
+				lookup.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			done.set(true);
+			executor.shutdownNow();
+		}
+	}
+
+	private static List<String> getContributingIds(PDEExtensionRegistry registry) {
+		List<String> ids = new ArrayList<>();
+		for (IPluginModelBase model : registry.findExtensionPlugins(POINT_ID, false)) {
+			ids.add(model.getPluginBase().getId());
+		}
+		return ids;
+	}
+
+	private static void writePluginXml(IProject project, String contents) throws CoreException {
+		String pluginXml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //
+				+ "<?eclipse version=\"3.4\"?>\n" //
+				+ "<plugin>\n" + contents + "\n</plugin>\n";
+		IFile file = project.getFile("plugin.xml");
+		ByteArrayInputStream stream = new ByteArrayInputStream(pluginXml.getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(stream, true, false, null);
+		} else {
+			file.create(stream, true, null);
+		}
+	}
+
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.plugin.ExternalPluginModel;
+import org.eclipse.pde.internal.core.search.PluginSearchIndex;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+
+public class PluginSearchIndexTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File indexFile;
+
+	@BeforeClass
+	public static void setupTargetPlatform() throws Exception {
+		TargetPlatformUtil.setRunningPlatformAsTarget();
+	}
+
+	@Before
+	public void setUp() {
+		indexFile = new File(folder.getRoot(), "index");
+	}
+
+	@Test
+	public void testEntryIsPersisted() {
+		IPluginModelBase model = getTargetModel();
+		PluginSearchIndex index = new PluginSearchIndex(indexFile);
+		assertThat(index.getEntry(model)).isNull();
+		index.update(model, false);
+		index.save();
+
+		assertThat(indexFile).isFile();
+		assertThat(new PluginSearchIndex(indexFile).getEntry(model)).isNotNull();
+	}
+
+	@Test
+	public void testEntryOutsideTargetIsDropped() throws Exception {
+		IPluginModelBase targetModel = getTargetModel();
+		ExternalPluginModel model = new ExternalPluginModel();
+		File location = folder.newFolder("plugin");
+		File manifest = new File(location, "META-INF/MANIFEST.MF");
+		Files.createDirectories(manifest.getParentFile().toPath());
+		Files.writeString(manifest.toPath(), "Bundle-SymbolicName: org.example.removed\n");
+		model.setInstallLocation(location.getAbsolutePath());
+
+		PluginSearchIndex index = new PluginSearchIndex(indexFile);
+		index.update(targetModel, false);
+		index.update(model, false);
+		assertThat(index.getEntry(model)).isNotNull();
+		index.save();
+
+		// the plug-in still exists on disk but is not part of the target
+		assertThat(location).isDirectory();
+		assertThat(index.getEntry(model)).isNull();
+		PluginSearchIndex loaded = new PluginSearchIndex(indexFile);
+		assertThat(loaded.getEntry(model)).isNull();
+		assertThat(loaded.getEntry(targetModel)).isNotNull();
+	}
+
+	private static IPluginModelBase getTargetModel() {
+		IPluginModelBase model = PluginRegistry.findModel("org.eclipse.osgi");
+		assertThat(model).isNotNull();
+		assertThat(model.getUnderlyingResource()).isNull();
+		return model;
+	}
+
+}
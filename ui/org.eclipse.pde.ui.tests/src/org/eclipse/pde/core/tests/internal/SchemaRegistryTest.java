@@ -0,0 +1,148 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
+import org.eclipse.pde.internal.core.schema.CompiledSchemaCache;
+import org.eclipse.pde.internal.core.schema.SchemaDescriptor;
+import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+public class SchemaRegistryTest {
+
+	/** length of the chain of schemas each including the next one */
+	private static final int CHAIN = 32;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private SchemaRegistry registry;
+	private ISchemaDescriptor parent;
+
+	@Before
+	public void setUp() throws IOException {
+		registry = PDECore.getDefault().getSchemaRegistry();
+		parent = new SchemaDescriptor(writeSchema("parent", null, "parent"));
+	}
+
+	@Test
+	public void testIncludes() throws IOException {
+		writeSchema("a", "b", "elementA");
+		writeSchema("b", null, "elementB");
+
+		ISchema schema = registry.getIncludedSchema(parent, "a.exsd");
+		assertThat(schema.getElementNames()).containsExactly("elementA");
+		assertThat(schema.getIncludes()).hasSize(1);
+		assertThat(schema.getIncludes()[0].getIncludedSchema().getElementNames()).containsExactly("elementB");
+		assertThat(schema.getResolvedElementCount()).isEqualTo(2);
+		// the included schema is shared through the registry
+		assertThat(registry.getIncludedSchema(parent, "b.exsd")).isSameAs(schema.getIncludes()[0].getIncludedSchema());
+	}
+
+	@Test
+	public void testConcurrentLoadingWithIncludes() throws Exception {
+		for (int i = 0; i < CHAIN; i++) {
+			writeSchema("s" + i, i + 1 < CHAIN ? "s" + (i + 1) : null, "element" + i);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			// threads start at different links, so they need each other's schemas
+			List<Future<ISchema>> schemas = new ArrayList<>();
+			for (int i = CHAIN - 1; i >= 0; i--) {
+				String location = "s" + i + ".exsd";
+				schemas.add(executor.submit(() -> registry.getIncludedSchema(parent, location)));
+			}
+			for (int i = 0; i < CHAIN; i++) {
+				ISchema schema = schemas.get(CHAIN - 1 - i).get(30, TimeUnit.SECONDS);
+				assertThat(schema.getElementNames()).containsExactly("element" + i);
+				assertThat(schema.getResolvedElementCount()).isEqualTo(CHAIN - i);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testChangedSchemaIsReloaded() throws IOException {
+		File file = writeSchema("a", null, "before");
+		assertThat(registry.getIncludedSchema(parent, "a.exsd").getElementNames()).containsExactly("before");
+
+		long lastModified = file.lastModified();
+		writeSchema("a", null, "after");
+		assertThat(file.setLastModified(lastModified + 2000)).isTrue();
+		assertThat(registry.getIncludedSchema(parent, "a.exsd").getElementNames()).containsExactly("after");
+	}
+
+	@Test
+	public void testCompiledSchemaWithSameTimestamp() throws Exception {
+		File file = writeSchema("a", null, "before");
+		URL url = file.toURI().toURL();
+		assertThat(getElementNames(CompiledSchemaCache.load(url, true))).containsExactly("before");
+
+		// an edit that keeps the time stamp but not the size
+		long lastModified = file.lastModified();
+		writeSchema("a", null, "afterwards");
+		assertThat(file.setLastModified(lastModified)).isTrue();
+		assertThat(getElementNames(CompiledSchemaCache.load(url, true))).containsExactly("afterwards");
+	}
+
+	private File writeSchema(String name, String include, String element) throws IOException {
+		StringBuilder schema = new StringBuilder();
+		schema.append("<?xml version='1.0' encoding='UTF-8'?>\n");
+		schema.append("<schema targetNamespace=\"test\" xmlns=\"http://www.w3.org/2001/XMLSchema\">\n");
+		schema.append("<annotation><appInfo><meta.schema plugin=\"test\" id=\"").append(name)
+				.append("\" name=\"").append(name).append("\"/></appInfo></annotation>\n");
+		if (include != null) {
+			schema.append("<include schemaLocation=\"").append(include).append(".exsd\"/>\n");
+		}
+		schema.append("<element name=\"").append(element).append("\"><complexType>")
+				.append("<attribute name=\"id\" type=\"string\"/></complexType></element>\n");
+		schema.append("</schema>\n");
+		File file = new File(folder.getRoot(), name + ".exsd");
+		Files.writeString(file.toPath(), schema);
+		return file;
+	}
+
+	private static List<String> getElementNames(Node root) {
+		List<String> names = new ArrayList<>();
+		NodeList children = root.getChildNodes();
+		for (int i = 0; i < children.getLength(); i++) {
+			Node child = children.item(i);
+			if (child.getNodeType() == Node.ELEMENT_NODE && "element".equals(child.getNodeName())) {
+				names.add(child.getAttributes().getNamedItem("name").getNodeValue());
+			}
+		}
+		return names;
+	}
+
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.eclipse.pde.internal.core.SourceLocationManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Version;
+
+public class SourceLocationManagerTest {
+
+	private static final IPath LIBRARY = new Path("src.zip");
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private PDEPreferencesManager preferences;
+	private String savedLocations;
+	private IPluginBase plugin;
+
+	@Before
+	public void setUp() {
+		preferences = PDECore.getDefault().getPreferencesManager();
+		savedLocations = preferences.getString(ICoreConstants.P_SOURCE_LOCATIONS);
+		IPluginModelBase model = PluginRegistry.findModel("org.eclipse.osgi");
+		assertThat(model).isNotNull();
+		plugin = model.getPluginBase();
+	}
+
+	@After
+	public void tearDown() {
+		preferences.setValue(ICoreConstants.P_SOURCE_LOCATIONS, savedLocations);
+	}
+
+	@Test
+	public void testSourceInUserLocation() throws IOException {
+		File location = folder.newFolder("location");
+		File source = createSource(location);
+		preferences.setValue(ICoreConstants.P_SOURCE_LOCATIONS, location.getAbsolutePath());
+
+		SourceLocationManager manager = new SourceLocationManager();
+		assertThat(manager.findSourcePath(plugin, LIBRARY)).isEqualTo(new Path(source.getAbsolutePath()));
+		// found again from the index
+		assertThat(manager.findSourcePath(plugin, LIBRARY)).isEqualTo(new Path(source.getAbsolutePath()));
+	}
+
+	@Test
+	public void testSourceAddedToUserLocationAfterMiss() throws IOException {
+		File location = folder.newFolder("location");
+		preferences.setValue(ICoreConstants.P_SOURCE_LOCATIONS, location.getAbsolutePath());
+
+		SourceLocationManager manager = new SourceLocationManager();
+		IPath sourcePath = new Path(new File(location, getRelativePath()).getAbsolutePath());
+		assertThat(manager.findSourcePath(plugin, LIBRARY)).isNotEqualTo(sourcePath);
+
+		createSource(location);
+		assertThat(manager.findSourcePath(plugin, LIBRARY)).isEqualTo(sourcePath);
+	}
+
+	@Test
+	public void testUserLocationsChanged() throws IOException {
+		File location1 = folder.newFolder("location1");
+		File location2 = folder.newFolder("location2");
+		File source1 = createSource(location1);
+		File source2 = createSource(location2);
+
+		SourceLocationManager manager = new SourceLocationManager();
+		preferences.setValue(ICoreConstants.P_SOURCE_LOCATIONS, location1.getAbsolutePath());
+		assertThat(manager.findSourcePath(plugin, LIBRARY)).isEqualTo(new Path(source1.getAbsolutePath()));
+
+		preferences.setValue(ICoreConstants.P_SOURCE_LOCATIONS, location2.getAbsolutePath());
+		assertThat(manager.findSourcePath(plugin, LIBRARY)).isEqualTo(new Path(source2.getAbsolutePath()));
+	}
+
+	private File createSource(File location) throws IOException {
+		File source = new File(location, getRelativePath());
+		Files.createDirectories(source.getParentFile().toPath());
+		Files.createFile(source.toPath());
+		return source;
+	}
+
+	private String getRelativePath() {
+		return plugin.getId() + "_" + new Version(plugin.getVersion()) + "/" + LIBRARY;
+	}
+
+}
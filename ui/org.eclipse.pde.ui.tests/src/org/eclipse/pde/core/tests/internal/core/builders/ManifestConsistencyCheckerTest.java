@@ -0,0 +1,99 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+public class ManifestConsistencyCheckerTest {
+
+	private static final String SEQUENTIAL_VALIDATION = "pde.sequentialValidation";
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@After
+	public void tearDown() {
+		System.clearProperty(SEQUENTIAL_VALIDATION);
+	}
+
+	@Test
+	public void testConcurrentValidationReportsSameMarkers() throws Exception {
+		IProject project = ProjectUtils.createPluginProject(getClass().getName(), "checker.test", "1.0.0",
+				(description, service) -> description.setRequiredBundles(new IRequiredBundleDescription[] {
+						service.newRequiredBundle("org.example.missing", null, false, false) }));
+		createFile(project.getFile("plugin.xml"), "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //
+				+ "<?eclipse version=\"3.4\"?>\n" //
+				+ "<plugin>\n" //
+				+ "   <extension point=\"org.example.unknown\"/>\n" //
+				+ "   <extension point=\"org.eclipse.core.runtime.adapters\">\n" //
+				+ "      <factory adaptableType=\"java.lang.Object\"/>\n" //
+				+ "   </extension>\n" //
+				+ "</plugin>\n");
+		IFile buildProperties = project.getFile("build.properties");
+		if (buildProperties.exists()) {
+			buildProperties.delete(true, null);
+		}
+		createFile(buildProperties, "bin.includes = META-INF/,missing.txt\n");
+
+		List<String> concurrent = build(project);
+
+		System.setProperty(SEQUENTIAL_VALIDATION, Boolean.TRUE.toString());
+		List<String> sequential = build(project);
+
+		// problems of the manifest, the plugin.xml and the build.properties
+		assertThat(sequential).anyMatch(marker -> marker.startsWith("META-INF/MANIFEST.MF"))
+				.anyMatch(marker -> marker.startsWith("plugin.xml"))
+				.anyMatch(marker -> marker.startsWith("build.properties"));
+		assertThat(concurrent).isEqualTo(sequential);
+	}
+
+	private static void createFile(IFile file, String contents) throws CoreException {
+		file.create(new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)), true, null);
+	}
+
+	/**
+	 * @return the PDE problems of the project after a full build, sorted
+	 */
+	private static List<String> build(IProject project) throws CoreException {
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		List<String> markers = new ArrayList<>();
+		for (IMarker marker : project.findMarkers(PDEMarkerFactory.MARKER_ID, true, IResource.DEPTH_INFINITE)) {
+			markers.add(marker.getResource().getProjectRelativePath() + ":"
+					+ marker.getAttribute(IMarker.LINE_NUMBER, -1) + ":" + marker.getAttribute(IMarker.SEVERITY, -1)
+					+ ":" + marker.getAttribute(IMarker.MESSAGE, ""));
+		}
+		Collections.sort(markers);
+		return markers;
+	}
+
+}
@@ -16,6 +16,7 @@ package org.eclipse.pde.ui.tests;
 import org.eclipse.pde.core.tests.internal.AllPDECoreTests;
 import org.eclipse.pde.core.tests.internal.classpath.ClasspathResolutionTest;
 import org.eclipse.pde.core.tests.internal.core.builders.BundleErrorReporterTest;
+import org.eclipse.pde.core.tests.internal.core.builders.ManifestConsistencyCheckerTest;
 import org.eclipse.pde.core.tests.internal.util.PDESchemaHelperTest;
 import org.eclipse.pde.ui.tests.build.properties.AllValidatorTests;
 import org.eclipse.pde.ui.tests.classpathresolver.ClasspathResolverTest;
@@ -51,6 +52,7 @@ import org.junit.runners.Suite.SuiteClasses;
 	// ClasspathContributorTest.class
 	ClasspathResolutionTest.class,
 	BundleErrorReporterTest.class,
+	ManifestConsistencyCheckerTest.class,
 		AllPDECoreTests.class
 })
 public class AllPDEMinimalTests {
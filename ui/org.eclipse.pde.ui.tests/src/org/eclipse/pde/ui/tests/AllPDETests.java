@@ -27,8 +27,11 @@ import org.eclipse.pde.ui.tests.nls.AllNLSTests;
 import org.eclipse.pde.ui.tests.preferences.AllPreferenceTests;
 import org.eclipse.pde.ui.tests.project.*;
 import org.eclipse.pde.ui.tests.runtime.AllPDERuntimeTests;
+import org.eclipse.pde.ui.tests.search.PluginArtifactIndexTest;
 import org.eclipse.pde.ui.tests.target.AllTargetTests;
+import org.eclipse.pde.ui.tests.views.imagebrowser.ImageMetadataCacheTest;
 import org.eclipse.pde.ui.tests.views.log.AllLogViewTests;
+import org.eclipse.pde.ui.tests.views.plugins.PluginsLabelProviderTest;
 import org.eclipse.pde.ui.tests.wizards.AllNewProjectTests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -48,6 +51,9 @@ import org.junit.runners.Suite.SuiteClasses;
 	ExportBundleTests.class,
 	AllLauncherTests.class,
 	AllLogViewTests.class,
+	ImageMetadataCacheTest.class,
+	PluginArtifactIndexTest.class,
+	PluginsLabelProviderTest.class,
 	ProjectCreationTests.class,
 	BundleRootTests.class,
 	PluginRegistryTests.class,
@@ -22,6 +22,9 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.*;
@@ -265,6 +268,73 @@ public class ExportBundleTests extends PDETestCase {
 		}
 	}
 
+	/**
+	 * Exports a plug-in project for two platforms, one after the other and
+	 * concurrently, and compares the exported files.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testExportConfigurationsInParallel() throws Exception {
+		try {
+			IExecutionEnvironment env = JavaRuntime.getExecutionEnvironmentsManager().getEnvironment("JavaSE-11");
+			IJavaProject project = ProjectUtils.createPluginProject("parallel.export", env);
+			assertTrue("Project was not created", project.exists());
+
+			String[][] targets = { { "linux", "gtk", "x86_64", "" }, { "win32", "win32", "x86_64", "" } };
+			List<String> sequential = exportConfigurations(project, targets, false);
+			List<String> parallel = exportConfigurations(project, targets, true);
+
+			for (String[] target : targets) {
+				String config = target[0] + '.' + target[1] + '.' + target[2];
+				assertTrue("Missing exported bundle for " + config,
+						sequential.contains(config + "/plugins/parallel.export_1.0.0.jar"));
+			}
+			assertEquals(sequential, parallel);
+		} finally {
+			TestUtils.waitForJobs(name.getMethodName(), 10, 5000);
+			deleteProject("parallel.export");
+			deleteFolder(EXPORT_PATH.toFile());
+		}
+	}
+
+	/**
+	 * @return the sorted paths of the exported files, relative to the
+	 *         destination directory
+	 */
+	private List<String> exportConfigurations(IJavaProject project, String[][] targets, boolean parallel)
+			throws Exception {
+		IPath destination = EXPORT_PATH.append(parallel ? "parallel" : "sequential");
+		FeatureExportInfo info = new FeatureExportInfo();
+		info.toDirectory = true;
+		info.useJarFormat = true;
+		info.exportSource = false;
+		info.allowBinaryCycles = false;
+		info.useWorkspaceCompiledClasses = false;
+		info.destinationDirectory = destination.toOSString();
+		info.zipFileName = null;
+		info.items = new Object[] { PluginRegistry.findModel(project.getProject()) };
+		info.signingInfo = null;
+		info.qualifier = "vXYZ";
+		info.targets = targets;
+		info.parallelConfigurations = parallel;
+
+		PluginExportOperation job = new PluginExportOperation(info, "Test-Export");
+		job.schedule();
+		job.join();
+		if (job.hasAntErrors()) {
+			fail("Export job had ant errors");
+		}
+		assertTrue("Export job had errors", job.getResult().isOK());
+		TestUtils.waitForJobs(name.getMethodName(), 100, 10000);
+
+		Path root = destination.toFile().toPath();
+		try (Stream<Path> files = Files.walk(root)) {
+			return files.filter(Files::isRegularFile).map(file -> root.relativize(file).toString().replace('\\', '/'))
+					.sorted().collect(Collectors.toList());
+		}
+	}
+
 	private void printContents(File dir) {
 		System.out.println("First 2 levels of: " + dir);
 		File[] children = dir.listFiles();
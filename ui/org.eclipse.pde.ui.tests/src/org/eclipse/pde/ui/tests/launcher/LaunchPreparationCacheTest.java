@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfigurationType;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.pde.internal.launching.launcher.LaunchPreparationCache;
+import org.eclipse.pde.launching.IPDELauncherConstants;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestName;
+
+public class LaunchPreparationCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	@Rule
+	public TestName name = new TestName();
+
+	private ILaunchConfigurationWorkingCopy configuration;
+	private File configDir;
+	private File template;
+	private Properties properties;
+
+	@Before
+	public void setUp() throws Exception {
+		configDir = folder.newFolder("configuration");
+		template = folder.newFile("template.ini");
+		Files.writeString(template.toPath(), "osgi.bundles=org.eclipse.core.runtime@start\n");
+
+		ILaunchConfigurationType type = DebugPlugin.getDefault().getLaunchManager()
+				.getLaunchConfigurationType("org.eclipse.pde.ui.RuntimeWorkbench");
+		configuration = type.newInstance(null, name.getMethodName());
+		configuration.setAttribute(IPDELauncherConstants.CONFIG_GENERATE_DEFAULT, false);
+		configuration.setAttribute(IPDELauncherConstants.CONFIG_TEMPLATE_LOCATION, template.getAbsolutePath());
+
+		properties = new Properties();
+		properties.setProperty("osgi.bundles", "org.eclipse.core.runtime@start");
+		writeConfigIni();
+		LaunchPreparationCache.get(configuration, configDir).setConfigIni(properties);
+	}
+
+	@After
+	public void tearDown() {
+		LaunchPreparationCache.shutdown();
+	}
+
+	@Test
+	public void testUnchangedConfigIniIsReused() throws CoreException {
+		assertThat(LaunchPreparationCache.get(configuration, configDir).getConfigIni()).isEqualTo(properties);
+	}
+
+	@Test
+	public void testChangedAttribute() throws CoreException {
+		configuration.setAttribute(IPDELauncherConstants.APPLICATION, "org.eclipse.ui.ide.workbench");
+		assertThat(LaunchPreparationCache.get(configuration, configDir).getConfigIni()).isNull();
+	}
+
+	@Test
+	public void testChangedTemplate() throws Exception {
+		long lastModified = template.lastModified();
+		Files.writeString(template.toPath(), "osgi.framework.extensions=org.example\n",
+				StandardOpenOption.APPEND);
+		// a change of the size alone must be noticed
+		assertThat(template.setLastModified(lastModified)).isTrue();
+		assertThat(LaunchPreparationCache.get(configuration, configDir).getConfigIni()).isNull();
+	}
+
+	@Test
+	public void testTouchedTemplate() throws CoreException {
+		assertThat(template.setLastModified(template.lastModified() + 2000)).isTrue();
+		assertThat(LaunchPreparationCache.get(configuration, configDir).getConfigIni()).isNull();
+	}
+
+	@Test
+	public void testChangedConfigIni() throws Exception {
+		File configIni = new File(configDir, "config.ini");
+		long lastModified = configIni.lastModified();
+		Files.writeString(configIni.toPath(), "# changed\n", StandardOpenOption.APPEND);
+		assertThat(configIni.setLastModified(lastModified)).isTrue();
+		assertThat(LaunchPreparationCache.get(configuration, configDir).getConfigIni()).isNull();
+	}
+
+	@Test
+	public void testGeneratedProfile() throws CoreException {
+		configuration.setAttribute(IPDELauncherConstants.GENERATE_PROFILE, true);
+		LaunchPreparationCache.get(configuration, configDir).setConfigIni(properties);
+		assertThat(LaunchPreparationCache.get(configuration, configDir).getConfigIni()).isNull();
+	}
+
+	private void writeConfigIni() throws IOException {
+		Files.writeString(new File(configDir, "config.ini").toPath(), "osgi.bundles=org.eclipse.core.runtime@start\n",
+				StandardCharsets.ISO_8859_1);
+	}
+
+}
@@ -26,6 +26,6 @@ import org.junit.runners.Suite.SuiteClasses;
 	 */
 	// suite.addTest(SwapXMLModelTestCase.suite());
 	StructureXMLModelTestCase.class, ExtensionAttributeTestCase.class, ExtensionElementTestCase.class,
-	ManifestEditorSpellCheckTestCase.class, FeatureDataTestCase.class })
+	ManifestEditorSpellCheckTestCase.class, FeatureDataTestCase.class, IncrementalReconcileTestCase.class })
 public class AllXMLModelTests {
 }
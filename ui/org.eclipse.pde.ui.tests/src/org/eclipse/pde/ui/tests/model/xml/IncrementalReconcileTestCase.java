@@ -0,0 +1,195 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.model.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.jface.text.Document;
+import org.eclipse.pde.core.IModelChangedEvent;
+import org.eclipse.pde.core.plugin.IPluginElement;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.internal.core.text.IDocumentAttributeNode;
+import org.eclipse.pde.internal.core.text.IDocumentElementNode;
+import org.eclipse.pde.internal.core.text.IDocumentTextNode;
+import org.eclipse.pde.internal.core.text.plugin.PluginModel;
+import org.junit.Test;
+
+/**
+ * Checks that reconciling a changed document gives the same nodes as loading
+ * the document from scratch, and that the nodes are only updated in place for
+ * changes that do not affect the structure.
+ */
+public class IncrementalReconcileTestCase extends XMLModelTestCase {
+
+	private final List<IModelChangedEvent> fEvents = new ArrayList<>();
+
+	@Test
+	public void testTypeAttributeValueLF() throws Exception {
+		testTypeAttributeValue(LF);
+	}
+
+	@Test
+	public void testTypeAttributeValueCRLF() throws Exception {
+		testTypeAttributeValue(CRLF);
+	}
+
+	@Test
+	public void testChangeTextLF() throws Exception {
+		testChangeText(LF);
+	}
+
+	@Test
+	public void testChangeTextCRLF() throws Exception {
+		testChangeText(CRLF);
+	}
+
+	@Test
+	public void testChangeIndentationLF() throws Exception {
+		testChangeIndentation(LF);
+	}
+
+	@Test
+	public void testChangeIndentationCRLF() throws Exception {
+		testChangeIndentation(CRLF);
+	}
+
+	@Test
+	public void testInsertElementLF() throws Exception {
+		testInsertElement(LF);
+	}
+
+	@Test
+	public void testInsertElementCRLF() throws Exception {
+		testInsertElement(CRLF);
+	}
+
+	private void testTypeAttributeValue(String newLine) throws Exception {
+		setContents(newLine);
+		IDocumentElementNode extension = (IDocumentElementNode) getExtension();
+		String text = fDocument.get();
+		int offset = text.indexOf("org.eclipse.pde.ui.samples") + "org.eclipse.pde.ui.samples".length();
+		for (char c : ".new".toCharArray()) {
+			fDocument.replace(offset++, 0, String.valueOf(c));
+			reconcile();
+		}
+		assertSame(extension, getExtension());
+		assertEquals("org.eclipse.pde.ui.samples.new", getExtension().getPoint());
+		assertEquals(4, fEvents.size());
+		for (IModelChangedEvent event : fEvents) {
+			assertEquals(IModelChangedEvent.CHANGE, event.getChangeType());
+			assertEquals("point", event.getChangedProperty());
+		}
+	}
+
+	private void testChangeText(String newLine) throws Exception {
+		setContents(newLine);
+		String text = fDocument.get();
+		int offset = text.indexOf("Some text") + "Some".length();
+		fDocument.replace(offset, " text".length(), " other text");
+		reconcile();
+		IPluginElement description = (IPluginElement) ((IPluginElement) getExtension().getChildren()[0]).getChildren()[0];
+		assertEquals("Some other text", description.getText());
+		assertEquals(1, fEvents.size());
+		assertEquals(IModelChangedEvent.CHANGE, fEvents.get(0).getChangeType());
+	}
+
+	private void testChangeIndentation(String newLine) throws Exception {
+		setContents(newLine);
+		IDocumentElementNode extension = (IDocumentElementNode) getExtension();
+		String text = fDocument.get();
+		fDocument.replace(text.indexOf("<sample"), 0, "\t\t");
+		reconcile();
+		fDocument.replace(fDocument.get().indexOf("<extension") - 1, 1, "");
+		reconcile();
+		assertSame(extension, getExtension());
+		assertTrue(fEvents.isEmpty());
+	}
+
+	private void testInsertElement(String newLine) throws Exception {
+		setContents(newLine);
+		String text = fDocument.get();
+		fDocument.replace(text.indexOf("</extension>"), 0, "<sample id=\"second\"/>" + newLine);
+		reconcile();
+		assertEquals(2, getExtension().getChildCount());
+		assertFalse(fEvents.isEmpty());
+		assertEquals(IModelChangedEvent.WORLD_CHANGED, fEvents.get(0).getChangeType());
+	}
+
+	private void setContents(String newLine) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("\t<extension point=\"org.eclipse.pde.ui.samples\" id=\"samples\">");
+		buffer.append(newLine);
+		buffer.append("\t\t<sample name=\"Sample\">");
+		buffer.append(newLine);
+		buffer.append("\t\t\t<description>Some text</description>");
+		buffer.append(newLine);
+		buffer.append("\t\t</sample>");
+		buffer.append(newLine);
+		buffer.append("\t</extension>");
+		setXMLContents(buffer, newLine);
+		load();
+		fModel.reconciled(fDocument);
+		fModel.addModelChangedListener(fEvents::add);
+	}
+
+	private void reconcile() throws Exception {
+		fModel.reconciled(fDocument);
+		PluginModel expected = new PluginModel(new Document(fDocument.get()), true);
+		expected.load();
+		assertSameNodes((IDocumentElementNode) expected.getPluginBase(), (IDocumentElementNode) fModel.getPluginBase());
+	}
+
+	private IPluginExtension getExtension() {
+		IPluginExtension[] extensions = fModel.getPluginBase().getExtensions();
+		assertEquals(1, extensions.length);
+		return extensions[0];
+	}
+
+	private static void assertSameNodes(IDocumentElementNode expected, IDocumentElementNode actual) {
+		assertNotNull(actual);
+		assertEquals(expected.getXMLTagName(), actual.getXMLTagName());
+		assertEquals(expected.getOffset(), actual.getOffset());
+		assertEquals(expected.getLength(), actual.getLength());
+		assertEquals(expected.getLineIndent(), actual.getLineIndent());
+		IDocumentAttributeNode[] expectedAttributes = expected.getNodeAttributes();
+		assertEquals(expectedAttributes.length, actual.getNodeAttributes().length);
+		for (IDocumentAttributeNode expectedAttribute : expectedAttributes) {
+			IDocumentAttributeNode actualAttribute = actual.getDocumentAttribute(expectedAttribute.getAttributeName());
+			assertNotNull(actualAttribute);
+			assertEquals(expectedAttribute.getAttributeValue(), actualAttribute.getAttributeValue());
+			assertEquals(expectedAttribute.getNameOffset(), actualAttribute.getNameOffset());
+			assertEquals(expectedAttribute.getValueOffset(), actualAttribute.getValueOffset());
+			assertEquals(expectedAttribute.getValueLength(), actualAttribute.getValueLength());
+		}
+		IDocumentTextNode expectedText = expected.getTextNode();
+		if (expectedText == null) {
+			assertEquals(null, actual.getTextNode());
+		} else {
+			assertNotNull(actual.getTextNode());
+			assertEquals(expectedText.getText(), actual.getTextNode().getText());
+			assertEquals(expectedText.getOffset(), actual.getTextNode().getOffset());
+			assertEquals(expectedText.getLength(), actual.getTextNode().getLength());
+		}
+		assertEquals(expected.getChildCount(), actual.getChildCount());
+		for (int i = 0; i < expected.getChildCount(); i++) {
+			assertSameNodes(expected.getChildAt(i), actual.getChildAt(i));
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.ui.search.dialogs.PluginArtifactIndex;
+import org.eclipse.pde.internal.ui.search.dialogs.PluginArtifactIndex.Artifact;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+public class PluginArtifactIndexTest {
+
+	private static final String BUNDLE = "artifact.index.test";
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@Test
+	public void testIndexIsShared() {
+		List<Artifact> artifacts = PluginArtifactIndex.getArtifacts(new NullProgressMonitor());
+		assertThat(artifacts).isNotEmpty();
+		assertThat(PluginArtifactIndex.getArtifacts(new NullProgressMonitor())).isSameAs(artifacts);
+		for (Artifact artifact : artifacts) {
+			assertThat(PluginArtifactIndex.getArtifact(artifact.element)).isSameAs(artifact);
+		}
+	}
+
+	@Test
+	public void testModelChangeInvalidatesIndex() throws CoreException {
+		List<Artifact> before = PluginArtifactIndex.getArtifacts(new NullProgressMonitor());
+		assertThat(getPluginIds(before)).doesNotContain(BUNDLE);
+
+		IProject project = ProjectUtils.createPluginProject(BUNDLE, BUNDLE, "1.0.0");
+		List<Artifact> added = PluginArtifactIndex.getArtifacts(new NullProgressMonitor());
+		assertThat(added).isNotSameAs(before);
+		assertThat(getPluginIds(added)).contains(BUNDLE);
+
+		project.delete(true, null);
+		assertThat(getPluginIds(PluginArtifactIndex.getArtifacts(new NullProgressMonitor()))).doesNotContain(BUNDLE);
+	}
+
+	@Test
+	public void testCanceledIndexIsNotKept() {
+		PluginArtifactIndex.shutdown();
+		NullProgressMonitor canceled = new NullProgressMonitor();
+		canceled.setCanceled(true);
+		assertThatThrownBy(() -> PluginArtifactIndex.getArtifacts(canceled))
+				.isInstanceOf(OperationCanceledException.class);
+
+		List<Artifact> artifacts = PluginArtifactIndex.getArtifacts(new NullProgressMonitor());
+		assertThat(artifacts).isNotEmpty();
+		assertThat(PluginArtifactIndex.getArtifacts(new NullProgressMonitor())).isSameAs(artifacts);
+	}
+
+	private static List<String> getPluginIds(List<Artifact> artifacts) {
+		List<String> ids = new ArrayList<>();
+		for (Artifact artifact : artifacts) {
+			if (artifact.element instanceof IPluginModelBase) {
+				ids.add(artifact.name);
+			}
+		}
+		return ids;
+	}
+
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.views.imagebrowser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.eclipse.pde.internal.ui.views.imagebrowser.repositories.ImageMetadataCache;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ImageMetadataCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testSizeFromHeader() throws IOException {
+		for (int format : new int[] { SWT.IMAGE_PNG, SWT.IMAGE_GIF }) {
+			for (int[] size : new int[][] { { 16, 16 }, { 300, 7 }, { 1, 1024 } }) {
+				byte[] image = createImage(size[0], size[1], format);
+				ImageData decoded = new ImageData(new ByteArrayInputStream(image));
+				assertThat(ImageMetadataCache.readImageSize(new ByteArrayInputStream(image)))
+						.containsExactly(decoded.width, decoded.height).containsExactly(size);
+			}
+		}
+	}
+
+	@Test
+	public void testSizeOfOtherFormats() throws IOException {
+		byte[] bmp = createImage(16, 16, SWT.IMAGE_BMP);
+		assertThat(ImageMetadataCache.readImageSize(new ByteArrayInputStream(bmp))).isNull();
+		byte[] text = "no image at all".getBytes(StandardCharsets.US_ASCII);
+		assertThat(ImageMetadataCache.readImageSize(new ByteArrayInputStream(text))).isNull();
+	}
+
+	@Test
+	public void testLeastRecentlyUsedLocationsAreDropped() {
+		ImageMetadataCache cache = new ImageMetadataCache(new File(folder.getRoot(), "cache"), 2);
+		cache.put("a.jar", 1, Map.of("a.png", new int[] { 16, 16 }));
+		cache.put("b.jar", 1, Map.of("b.png", new int[] { 16, 16 }));
+		assertThat(cache.get("a.jar", 1)).containsKey("a.png");
+		cache.put("c.jar", 1, Map.of("c.png", new int[] { 16, 16 }));
+
+		assertThat(cache.get("a.jar", 1)).containsKey("a.png");
+		assertThat(cache.get("b.jar", 1)).isNull();
+		assertThat(cache.get("c.jar", 1)).containsKey("c.png");
+		// a changed location is searched again
+		assertThat(cache.get("a.jar", 2)).isNull();
+	}
+
+	@Test
+	public void testSaveAndLoad() {
+		File file = new File(folder.getRoot(), "cache");
+		ImageMetadataCache cache = new ImageMetadataCache(file, 2);
+		cache.put("a.jar", 1, Map.of("a.png", new int[] { 16, 32 }));
+		cache.put("b.jar", 2, Map.of("b.png", new int[] { 8, 8 }));
+		cache.get("a.jar", 1);
+		cache.save();
+
+		ImageMetadataCache loaded = new ImageMetadataCache(file, 2);
+		assertThat(loaded.get("a.jar", 1).get("a.png")).containsExactly(16, 32);
+		assertThat(loaded.get("b.jar", 2).get("b.png")).containsExactly(8, 8);
+
+		// the order of use is kept, the location used last is kept longest
+		loaded = new ImageMetadataCache(file, 2);
+		loaded.put("c.jar", 3, Map.of("c.png", new int[] { 4, 4 }));
+		assertThat(loaded.get("a.jar", 1)).isNotNull();
+		assertThat(loaded.get("b.jar", 2)).isNull();
+	}
+
+	private static byte[] createImage(int width, int height, int format) {
+		PaletteData palette = new PaletteData(new RGB[] { new RGB(0, 0, 0), new RGB(255, 255, 255) });
+		ImageData data = new ImageData(width, height, 1, palette);
+		// makes the GIF carry an extension before the image
+		data.transparentPixel = 0;
+		ImageLoader loader = new ImageLoader();
+		loader.data = new ImageData[] { data };
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		loader.save(out, format);
+		return out.toByteArray();
+	}
+
+}
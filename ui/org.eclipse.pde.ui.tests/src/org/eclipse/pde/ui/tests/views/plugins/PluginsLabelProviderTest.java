@@ -0,0 +1,72 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.views.plugins;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.eclipse.pde.core.plugin.IPluginModel;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.AbstractModel;
+import org.eclipse.pde.internal.ui.views.plugins.PluginsLabelProvider;
+import org.eclipse.swt.graphics.Image;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PluginsLabelProviderTest {
+
+	private PluginsLabelProvider provider;
+	private IPluginModelBase model;
+
+	@Before
+	public void setUp() {
+		provider = new PluginsLabelProvider();
+		model = Arrays.stream(PluginRegistry.getExternalModels()).filter(IPluginModel.class::isInstance)
+				.filter(m -> m.isLoaded() && m.isInSync()).findFirst().orElseThrow();
+	}
+
+	@After
+	public void tearDown() {
+		((AbstractModel) model).setLoaded(true);
+		provider.dispose();
+	}
+
+	@Test
+	public void testImageFollowsLoadState() {
+		Image loaded = provider.getImage(model);
+		assertThat(loaded).isNotNull();
+
+		// no model delta is fired, the error overlay is still shown
+		((AbstractModel) model).setLoaded(false);
+		Image unloaded = provider.getImage(model);
+		assertThat(unloaded).isNotNull().isNotSameAs(loaded);
+
+		((AbstractModel) model).setLoaded(true);
+		assertThat(provider.getImage(model)).isSameAs(loaded);
+	}
+
+	@Test
+	public void testTextIsCachedUntilCleared() {
+		String text = provider.getText(model);
+		assertThat(text).contains(model.getPluginBase().getId());
+		assertThat(provider.getText(model)).isSameAs(text);
+
+		provider.clearCache(Collections.singleton(model));
+		assertThat(provider.getText(model)).isEqualTo(text).isNotSameAs(text);
+	}
+
+}
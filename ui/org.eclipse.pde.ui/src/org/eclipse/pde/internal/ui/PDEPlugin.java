@@ -25,6 +25,7 @@ import org.eclipse.jface.dialogs.IDialogSettings;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.pde.internal.core.PDEPreferencesManager;
 import org.eclipse.pde.internal.ui.launcher.PDELogFileProvider;
+import org.eclipse.pde.internal.ui.search.dialogs.PluginArtifactIndex;
 import org.eclipse.pde.internal.ui.shared.target.TargetReferenceBundleContainerAdapterFactory;
 import org.eclipse.pde.internal.ui.shared.target.TargetStatus;
 import org.eclipse.pde.internal.ui.util.SWTUtil;
@@ -226,6 +227,7 @@ public class PDEPlugin extends AbstractUIPlugin implements IPDEUIConstants {
 			fLogFileProvider = null;
 		}
 		Utilities.shutdown();
+		PluginArtifactIndex.shutdown();
 		super.stop(context);
 		TargetReferenceBundleContainerAdapterFactory.LABEL_PROVIDER.dispose();
 	}
@@ -2241,6 +2241,8 @@ public class PDEUIMessages extends NLS {
 
 	public static String CrossPlatformExportPage_desc;
 
+	public static String CrossPlatformExportPage_parallel;
+
 	public static String BaseImportWizardSecondPage_0;
 
 	public static String BaseImportWizardSecondPage_autobuild;
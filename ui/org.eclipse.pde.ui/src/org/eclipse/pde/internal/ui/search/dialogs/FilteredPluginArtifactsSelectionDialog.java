@@ -20,6 +20,7 @@ package org.eclipse.pde.internal.ui.search.dialogs;
 import java.io.File;
 import java.text.BreakIterator;
 import java.util.Comparator;
+import java.util.List;
 import org.eclipse.core.runtime.*;
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jface.action.*;
@@ -369,6 +370,7 @@ public class FilteredPluginArtifactsSelectionDialog extends FilteredItemsSelecti
 		setListLabelProvider(searchLabelProvider);
 		setListSelectionLabelDecorator(searchLabelProvider);
 		setDetailsLabelProvider(detailsLabelProvider);
+		PluginArtifactIndex.prepare();
 	}
 
 	@Override
@@ -390,52 +392,12 @@ public class FilteredPluginArtifactsSelectionDialog extends FilteredItemsSelecti
 	@Override
 	protected void fillContentProvider(AbstractContentProvider contentProvider, ItemsFilter itemsFilter, IProgressMonitor progressMonitor) throws CoreException {
 
-		PluginModelManager manager = PDECore.getDefault().getModelManager();
-		IPluginModelBase[] models = manager.getActiveModels(true);
-
-		FeatureModelManager fManager = PDECore.getDefault().getFeatureModelManager();
-		IFeatureModel[] fModels = fManager.getModels();
-
-		SubMonitor subMonitor = SubMonitor.convert(progressMonitor,
-				PDEUIMessages.FilteredPluginArtifactsSelectionDialog_searching, models.length * 2 + fModels.length);
-
-		// cycle through all the features first
-		for (IFeatureModel model : fModels) {
-			contentProvider.add(model, itemsFilter);
-			subMonitor.worked(1);
-		}
-
-		// cycle through all the models and grab entries
-		for (IPluginModelBase model : models) {
-			IPluginExtensionPoint[] eps = model.getPluginBase().getExtensionPoints();
-			IPluginExtension[] extensions = model.getPluginBase().getExtensions();
-			int length = eps.length + extensions.length;
-			SubMonitor subMonitor2 = subMonitor.split(1).setWorkRemaining(length);
-			for (IPluginExtensionPoint ep : eps) {
-				contentProvider.add(ep, itemsFilter);
-				subMonitor2.worked(1);
-			}
-			for (IPluginExtension extension : extensions) {
-				contentProvider.add(extension, itemsFilter);
-				subMonitor2.worked(1);
-			}
-
-			subMonitor2 = subMonitor.split(1);
-			BundleDescription desc = model.getBundleDescription();
-			if (desc != null) {
-				ExportPackageDescription[] epds = desc.getExportPackages();
-				subMonitor2.setWorkRemaining(epds.length);
-				for (ExportPackageDescription epd : epds) {
-					// ensure we don't get EE packages
-					int ee = ((Integer) epd.getDirective("x-equinox-ee")).intValue(); //$NON-NLS-1$
-					if (ee < 0) {
-						contentProvider.add(epd, itemsFilter);
-					}
-					subMonitor2.worked(1);
-				}
-			}
-
-			contentProvider.add(model, itemsFilter);
+		SubMonitor subMonitor = SubMonitor.convert(progressMonitor, PDEUIMessages.FilteredPluginArtifactsSelectionDialog_searching, 2);
+		List<PluginArtifactIndex.Artifact> artifacts = PluginArtifactIndex.getArtifacts(subMonitor.split(1));
+		SubMonitor addMonitor = subMonitor.split(1).setWorkRemaining(artifacts.size());
+		for (PluginArtifactIndex.Artifact artifact : artifacts) {
+			contentProvider.add(artifact.element, itemsFilter);
+			addMonitor.split(1);
 		}
 	}
 
@@ -673,6 +635,17 @@ public class FilteredPluginArtifactsSelectionDialog extends FilteredItemsSelecti
 
 		@Override
 		public boolean matchItem(Object item) {
+			PluginArtifactIndex.Artifact artifact = PluginArtifactIndex.getArtifact(item);
+			if (artifact != null) {
+				if (matches(artifact.name))
+					return true;
+				for (String word : artifact.words) {
+					if (matches(word))
+						return true;
+				}
+				return false;
+			}
+
 			String id = null;
 			if (item instanceof IPluginModelBase) {
 				IPluginModelBase model = (IPluginModelBase) item;
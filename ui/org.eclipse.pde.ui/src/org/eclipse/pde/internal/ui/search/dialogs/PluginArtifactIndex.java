@@ -0,0 +1,203 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.ui.search.dialogs;
+
+import java.text.BreakIterator;
+import java.util.*;
+import org.eclipse.core.runtime.*;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.pde.core.plugin.*;
+import org.eclipse.pde.internal.core.*;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.ui.PDEUIMessages;
+
+/**
+ * The artifacts shown by the {@link FilteredPluginArtifactsSelectionDialog},
+ * collected once and shared by all invocations of the dialog until the plug-in
+ * or feature models change.
+ * <p>
+ * Every artifact is stored with the name it is matched by and the words of
+ * that name, so that filtering does not have to load the extensions of the
+ * plug-ins or split names again.
+ * </p>
+ */
+public class PluginArtifactIndex {
+
+	/**
+	 * An artifact and the name it is matched by.
+	 */
+	public static class Artifact {
+		public final Object element;
+		public final String name;
+		public final String[] words;
+
+		Artifact(Object element, String name) {
+			this.element = element;
+			this.name = name;
+			this.words = getWords(name);
+		}
+	}
+
+	private static IPluginModelListener fPluginListener;
+	private static IFeatureModelListener fFeatureListener;
+
+	private static volatile List<Artifact> fArtifacts;
+	private static volatile Map<Object, Artifact> fElements;
+	// increased on every model change, an index built during a change is discarded
+	private static volatile int fGeneration;
+
+	private PluginArtifactIndex() {
+	}
+
+	/**
+	 * Returns the artifacts of all active plug-ins and features, building the
+	 * index if the models changed since it was last built.
+	 *
+	 * @param monitor progress monitor, the index is not kept if canceled
+	 * @return the artifacts in the order they are presented
+	 */
+	public static List<Artifact> getArtifacts(IProgressMonitor monitor) {
+		addModelListeners();
+		List<Artifact> artifacts = fArtifacts;
+		if (artifacts != null)
+			return artifacts;
+		int generation = fGeneration;
+		artifacts = collectArtifacts(monitor);
+		Map<Object, Artifact> elements = new IdentityHashMap<>(artifacts.size());
+		for (Artifact artifact : artifacts) {
+			elements.put(artifact.element, artifact);
+		}
+		synchronized (PluginArtifactIndex.class) {
+			if (generation == fGeneration) {
+				fElements = elements;
+				fArtifacts = artifacts;
+			}
+		}
+		return artifacts;
+	}
+
+	/**
+	 * @return the indexed artifact of the given element or <code>null</code>
+	 */
+	public static Artifact getArtifact(Object element) {
+		Map<Object, Artifact> elements = fElements;
+		return elements != null ? elements.get(element) : null;
+	}
+
+	/**
+	 * Builds the index in the background, so that it is ready when the user
+	 * starts typing.
+	 */
+	static void prepare() {
+		if (fArtifacts != null)
+			return;
+		Job job = Job.create(PDEUIMessages.FilteredPluginArtifactsSelectionDialog_searching, monitor -> {
+			try {
+				getArtifacts(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			}
+			return Status.OK_STATUS;
+		});
+		job.setSystem(true);
+		job.schedule();
+	}
+
+	private static List<Artifact> collectArtifacts(IProgressMonitor monitor) {
+		IPluginModelBase[] models = PDECore.getDefault().getModelManager().getActiveModels(true);
+		IFeatureModel[] fModels = PDECore.getDefault().getFeatureModelManager().getModels();
+		SubMonitor subMonitor = SubMonitor.convert(monitor, PDEUIMessages.FilteredPluginArtifactsSelectionDialog_searching, models.length + fModels.length);
+		List<Artifact> artifacts = new ArrayList<>();
+
+		// cycle through all the features first
+		for (IFeatureModel model : fModels) {
+			artifacts.add(new Artifact(model, model.getFeature().getId()));
+			subMonitor.split(1);
+		}
+
+		// cycle through all the models and grab entries
+		for (IPluginModelBase model : models) {
+			for (IPluginExtensionPoint ep : model.getPluginBase().getExtensionPoints()) {
+				artifacts.add(new Artifact(ep, ep.getFullId()));
+			}
+			for (IPluginExtension extension : model.getPluginBase().getExtensions()) {
+				artifacts.add(new Artifact(extension, extension.getPoint()));
+			}
+			BundleDescription desc = model.getBundleDescription();
+			if (desc != null) {
+				for (ExportPackageDescription epd : desc.getExportPackages()) {
+					// ensure we don't get EE packages
+					int ee = ((Integer) epd.getDirective("x-equinox-ee")).intValue(); //$NON-NLS-1$
+					if (ee < 0) {
+						artifacts.add(new Artifact(epd, epd.getName()));
+					}
+				}
+			}
+			artifacts.add(new Artifact(model, model.getPluginBase().getId()));
+			subMonitor.split(1);
+		}
+		return Collections.unmodifiableList(artifacts);
+	}
+
+	/**
+	 * Splits a name into the words a pattern may match, the same way
+	 * PatternFilter does.
+	 */
+	private static String[] getWords(String name) {
+		if (name == null)
+			return new String[0];
+		List<String> words = new ArrayList<>();
+		BreakIterator iter = BreakIterator.getWordInstance();
+		iter.setText(name);
+		int i = iter.first();
+		while (i != BreakIterator.DONE && i < name.length()) {
+			int j = iter.following(i);
+			if (j == BreakIterator.DONE) {
+				j = name.length();
+			}
+			if (Character.isLetterOrDigit(name.charAt(i))) {
+				words.add(name.substring(i, j));
+			}
+			i = j;
+		}
+		return words.toArray(new String[words.size()]);
+	}
+
+	private static synchronized void invalidate() {
+		fGeneration++;
+		fArtifacts = null;
+		fElements = null;
+	}
+
+	private static synchronized void addModelListeners() {
+		if (fPluginListener == null) {
+			fPluginListener = delta -> invalidate();
+			fFeatureListener = delta -> invalidate();
+			PDECore.getDefault().getModelManager().addPluginModelListener(fPluginListener);
+			PDECore.getDefault().getFeatureModelManager().addFeatureModelListener(fFeatureListener);
+		}
+	}
+
+	public static synchronized void shutdown() {
+		if (fPluginListener != null) {
+			PDECore.getDefault().getModelManager().removePluginModelListener(fPluginListener);
+			PDECore.getDefault().getFeatureModelManager().removeFeatureModelListener(fFeatureListener);
+			fPluginListener = null;
+			fFeatureListener = null;
+		}
+		invalidate();
+	}
+}
@@ -30,6 +30,10 @@ public class CalleesTreeContentProvider extends CalleesContentProvider implement
 
 	@Override
 	public Object[] getChildren(Object parentElement) {
+		return getCachedChildren(parentElement, this::computeChildren);
+	}
+
+	private Object[] computeChildren(Object parentElement) {
 		if (parentElement instanceof IPluginBase) {
 			parentElement = ((IPluginBase) parentElement).getModel();
 		}
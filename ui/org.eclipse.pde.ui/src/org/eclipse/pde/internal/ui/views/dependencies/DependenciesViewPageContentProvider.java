@@ -14,6 +14,9 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ui.views.dependencies;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
 import org.eclipse.jface.viewers.*;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
@@ -26,6 +29,9 @@ public class DependenciesViewPageContentProvider implements IContentProvider, IP
 
 	private StructuredViewer fViewer;
 
+	// children computed since the last refresh, an element is often shown several times in a tree
+	private final Map<Object, Object[]> fChildren = new HashMap<>();
+
 	/**
 	 * Constructor.
 	 */
@@ -35,6 +41,8 @@ public class DependenciesViewPageContentProvider implements IContentProvider, IP
 	}
 
 	public void attachModelListener() {
+		// changes were missed while the page was inactive
+		fChildren.clear();
 		PDECore.getDefault().getModelManager().addPluginModelListener(this);
 	}
 
@@ -78,8 +86,17 @@ public class DependenciesViewPageContentProvider implements IContentProvider, IP
 		return false;
 	}
 
+	/**
+	 * Returns the children of an element, computing them only once until the
+	 * input or the plug-in models change.
+	 */
+	protected Object[] getCachedChildren(Object parentElement, Function<Object, Object[]> children) {
+		return fChildren.computeIfAbsent(parentElement, children);
+	}
+
 	@Override
 	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		fChildren.clear();
 		fView.updateTitle(newInput);
 		this.fViewer = (StructuredViewer) viewer;
 	}
@@ -110,6 +127,7 @@ public class DependenciesViewPageContentProvider implements IContentProvider, IP
 				}
 			} finally {
 				// no matter what, refresh the viewer since bundles might un/resolve with changes
+				fChildren.clear();
 				fViewer.refresh();
 			}
 		});
@@ -369,8 +369,12 @@ public class ImageBrowserView extends ViewPart implements IImageTarget {
 			if (!filter.accept(element))
 				return;
 		}
-		if (imageIndex >= page * maxImages && imageIndex < (page + 1) * maxImages)
-			mUIJob.addImage(element);
+		if (imageIndex >= page * maxImages && imageIndex < (page + 1) * maxImages) {
+			// decode in the calling job, the UI thread only creates the widgets
+			ImageData imageData = element.getImageData();
+			if (imageData != null)
+				mUIJob.addImage(element, imageData);
+		}
 		imageIndex++;
 	}
 
@@ -437,7 +441,8 @@ public class ImageBrowserView extends ViewPart implements IImageTarget {
 
 	private class UpdateUI extends FocusAdapter implements Runnable, SelectionListener {
 
-		Collection<ImageElement> mElements = new LinkedList<>();
+		List<ImageElement> mElements = new ArrayList<>();
+		List<ImageData> mImageData = new ArrayList<>();
 		String mLastPlugin = ""; //$NON-NLS-1$
 		private Composite mPluginImageContainer = null;
 		private final RowLayout mRowLayout = new RowLayout(SWT.HORIZONTAL);
@@ -448,18 +453,29 @@ public class ImageBrowserView extends ViewPart implements IImageTarget {
 			mRowLayout.marginHeight = 0;
 		}
 
-		public synchronized void addImage(final ImageElement element) {
+		public synchronized void addImage(final ImageElement element, final ImageData imageData) {
 			mElements.add(element);
+			mImageData.add(imageData);
 
 			if (mElements.size() == 1)
 				Display.getDefault().asyncExec(this);
 		}
 
 		@Override
-		public synchronized void run() {
+		public void run() {
+			// take the decoded images, the job keeps adding while the widgets are created
+			List<ImageElement> elements;
+			List<ImageData> images;
+			synchronized (this) {
+				elements = mElements;
+				images = mImageData;
+				mElements = new ArrayList<>();
+				mImageData = new ArrayList<>();
+			}
 
-			if (!mElements.isEmpty()) {
-				for (final ImageElement element : mElements) {
+			if (!elements.isEmpty()) {
+				for (int i = 0; i < elements.size(); i++) {
+					final ImageElement element = elements.get(i);
 					if (!mLastPlugin.equals(element.getPlugin())) {
 						// new plug-in detected
 						mLastPlugin = element.getPlugin();
@@ -477,7 +493,7 @@ public class ImageBrowserView extends ViewPart implements IImageTarget {
 					}
 
 					Button button = new Button(mPluginImageContainer, SWT.FLAT);
-					Image image = new Image(getViewSite().getShell().getDisplay(), element.getImageData());
+					Image image = new Image(getViewSite().getShell().getDisplay(), images.get(i));
 					displayedImages.add(image);
 					button.setImage(image);
 					button.setToolTipText(element.getPath());
@@ -486,8 +502,6 @@ public class ImageBrowserView extends ViewPart implements IImageTarget {
 					button.addSelectionListener(this);
 				}
 
-				mElements.clear();
-
 				mPluginImageContainer.layout();
 
 				if (pageNavigationControl!=null)
@@ -539,8 +553,8 @@ public class ImageBrowserView extends ViewPart implements IImageTarget {
 				lblPlugin.setText(((ImageElement) data).getFullPlugin());
 				txtReference.setText("platform:/plugin/" + ((ImageElement) data).getPlugin() + "/" + ((ImageElement) data).getPath()); //$NON-NLS-1$ //$NON-NLS-2$
 
-				lblWidth.setText(NLS.bind(PDEUIMessages.ImageBrowserView_Pixels, Integer.toString(((ImageElement) data).getImageData().width)));
-				lblHeight.setText(NLS.bind(PDEUIMessages.ImageBrowserView_Pixels, Integer.toString(((ImageElement) data).getImageData().height)));
+				lblWidth.setText(NLS.bind(PDEUIMessages.ImageBrowserView_Pixels, Integer.toString(((ImageElement) data).getWidth())));
+				lblHeight.setText(NLS.bind(PDEUIMessages.ImageBrowserView_Pixels, Integer.toString(((ImageElement) data).getHeight())));
 
 				imageElement = (ImageElement) data;
 				saveAction.setEnabled(true);
@@ -551,6 +565,7 @@ public class ImageBrowserView extends ViewPart implements IImageTarget {
 		public synchronized void reset() {
 			mLastPlugin = ""; //$NON-NLS-1$
 			mElements.clear();
+			mImageData.clear();
 			mPluginImageContainer = null;
 		}
 
@@ -14,6 +14,7 @@
 
 package org.eclipse.pde.internal.ui.views.imagebrowser;
 
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.eclipse.core.runtime.Path;
@@ -23,11 +24,35 @@ public class ImageElement {
 
 	private static final Pattern PLUGIN_PATTERN = Pattern.compile("([a-zA-Z0-9]+\\.[a-zA-Z0-9\\.]+)_.+"); //$NON-NLS-1$
 	private final ImageData mImageData;
+	private final Supplier<ImageData> mLoader;
+	private final int mWidth;
+	private final int mHeight;
 	private final String mPlugin;
 	private final String mPath;
 
 	public ImageElement(final ImageData image, final String plugin, final String path) {
 		mImageData = image;
+		mLoader = null;
+		mWidth = image.width;
+		mHeight = image.height;
+		mPlugin = plugin;
+		mPath = path;
+	}
+
+	/**
+	 * Creates an element whose image is only decoded when it is displayed.
+	 *
+	 * @param loader decodes the image, returns <code>null</code> if it cannot be read
+	 * @param width width of the image
+	 * @param height height of the image
+	 * @param plugin plug-in containing the image
+	 * @param path path of the image within the plug-in
+	 */
+	public ImageElement(final Supplier<ImageData> loader, final int width, final int height, final String plugin, final String path) {
+		mImageData = null;
+		mLoader = loader;
+		mWidth = width;
+		mHeight = height;
 		mPlugin = plugin;
 		mPath = path;
 	}
@@ -50,10 +75,24 @@ public class ImageElement {
 		return mPath;
 	}
 
+	/**
+	 * @return the image, decoded anew on every call for elements created with
+	 *         a loader, or <code>null</code> if the image cannot be read
+	 */
 	public ImageData getImageData() {
+		if (mLoader != null)
+			return mLoader.get();
 		return mImageData;
 	}
 
+	public int getWidth() {
+		return mWidth;
+	}
+
+	public int getHeight() {
+		return mHeight;
+	}
+
 	public String getFileName() {
 		return new Path(mPath).lastSegment();
 	}
@@ -63,12 +63,15 @@ public class SaveToWorkspace extends AbstractHandler {
 							return null;
 					}
 
+					ImageData imageData = data.getImageData();
+					if (imageData == null)
+						return null;
 					int imageType = getImageType(result);
 					try {
 						ByteArrayOutputStream out = new ByteArrayOutputStream();
 
 						ImageLoader imageLoader = new ImageLoader();
-						imageLoader.data = new ImageData[] {data.getImageData()};
+						imageLoader.data = new ImageData[] {imageData};
 						imageLoader.save(out, imageType);
 
 						ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
@@ -18,7 +18,6 @@ import java.io.*;
 import java.util.*;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
-import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.*;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.osgi.util.NLS;
@@ -35,6 +34,12 @@ public abstract class AbstractRepository extends Job {
 
 	private IImageTarget mTarget;
 
+	/** guards the archive kept open while the job hands out images */
+	private final Object mJarLock = new Object();
+	private boolean mKeepJarOpen;
+	private File mOpenJar;
+	private ZipFile mOpenZipFile;
+
 	public AbstractRepository(IImageTarget target) {
 		super(PDEUIMessages.AbstractRepository_ScanForUI);
 
@@ -45,20 +50,32 @@ public abstract class AbstractRepository extends Job {
 
 	@Override
 	protected synchronized IStatus run(IProgressMonitor monitor) {
-		while ((mTarget.needsMore()) && (!monitor.isCanceled())) {
-			if (mElementsCache.isEmpty()) {
-				// need more images in cache
+		// the target decodes the images it displays in this job, images of
+		// the same archive follow each other and share one open archive
+		synchronized (mJarLock) {
+			mKeepJarOpen = true;
+		}
+		try {
+			while ((mTarget.needsMore()) && (!monitor.isCanceled())) {
+				if (mElementsCache.isEmpty()) {
+					// need more images in cache
 
-				if (!populateCache(monitor)) {
-					// could not populate cache, giving up
-					return Status.OK_STATUS;
+					if (!populateCache(monitor)) {
+						// could not populate cache, giving up
+						return Status.OK_STATUS;
+					}
+				} else {
+					// return 1 image from cache
+					mTarget.notifyImage(mElementsCache.remove(0));
 				}
-			} else {
-				// return 1 image from cache
-				mTarget.notifyImage(mElementsCache.remove(0));
 			}
+		} finally {
+			synchronized (mJarLock) {
+				mKeepJarOpen = false;
+				closeJar();
+			}
+			ImageMetadataCache.getDefault().save();
 		}
-
 		return Status.OK_STATUS;
 	}
 
@@ -68,15 +85,6 @@ public abstract class AbstractRepository extends Job {
 
 	protected abstract boolean populateCache(IProgressMonitor monitor);
 
-	protected ImageData createImageData(final IFile file) throws CoreException {
-		try (InputStream s = new BufferedInputStream(file.getContents())) {
-			return new ImageData(s);
-		} catch (IOException e) {
-			throw new CoreException(Status.error(
-					"Failed to close stream on: " + file.getLocation(), e)); //$NON-NLS-1$
-		}
-	}
-
 	protected boolean isImage(final File resource) {
 		if (resource.isFile())
 			return isImageName(resource.getName());
@@ -98,68 +106,217 @@ public abstract class AbstractRepository extends Job {
 	}
 
 	protected void searchJarFile(final File jarFile, final IProgressMonitor monitor) {
-		try (ZipFile zipFile = new ZipFile(jarFile)) {
-			Enumeration<? extends ZipEntry> entries = zipFile.entries();
-			while ((entries.hasMoreElements()) && (!monitor.isCanceled())) {
-				ZipEntry entry = entries.nextElement();
-				if (isImageName(entry.getName())) {
-					try (InputStream inputStream = zipFile.getInputStream(entry)) {
-						ImageData imageData = new ImageData(inputStream);
-						addImageElement(new ImageElement(imageData, jarFile.getName(), entry.getName()));
-					} catch (IOException e) {
-						PDEPlugin.log(e);
-					} catch (SWTException e) {
-						// invalid image format
-						PDEPlugin.log(Status.error(NLS.bind(PDEUIMessages.AbstractRepository_ErrorLoadingImageFromJar, jarFile.getAbsolutePath(), entry.getName()), e));
+		for (ImageElement element : collectJarImages(jarFile, monitor))
+			addImageElement(element);
+	}
+
+	/**
+	 * Collects the images of an archive. The sizes of the images are only read
+	 * if the archive changed since it was last searched, the images are
+	 * decoded when they are displayed.
+	 *
+	 * @return the images of the archive, empty if the search was canceled
+	 */
+	protected List<ImageElement> collectJarImages(final File jarFile, final IProgressMonitor monitor) {
+		ImageMetadataCache cache = ImageMetadataCache.getDefault();
+		String location = jarFile.getAbsolutePath();
+		long stamp = jarFile.lastModified();
+		Map<String, int[]> sizes = cache.get(location, stamp);
+		if (sizes == null) {
+			sizes = new LinkedHashMap<>();
+			try (ZipFile zipFile = new ZipFile(jarFile)) {
+				Enumeration<? extends ZipEntry> entries = zipFile.entries();
+				while (entries.hasMoreElements()) {
+					if (monitor.isCanceled())
+						return Collections.emptyList();
+					ZipEntry entry = entries.nextElement();
+					if (isImageName(entry.getName())) {
+						try {
+							sizes.put(entry.getName(), readImageSize(() -> zipFile.getInputStream(entry)));
+						} catch (IOException | CoreException e) {
+							PDEPlugin.log(e);
+						} catch (SWTException e) {
+							// invalid image format
+							PDEPlugin.log(Status.error(NLS.bind(PDEUIMessages.AbstractRepository_ErrorLoadingImageFromJar, jarFile.getAbsolutePath(), entry.getName()), e));
+						}
 					}
 				}
+			} catch (IOException e) {
+				PDEPlugin.log(e);
+				return Collections.emptyList();
 			}
-		} catch (IOException e) {
-			PDEPlugin.log(e);
+			cache.put(location, stamp, sizes);
 		}
+
+		List<ImageElement> elements = new ArrayList<>(sizes.size());
+		for (Map.Entry<String, int[]> size : sizes.entrySet()) {
+			String entryName = size.getKey();
+			elements.add(new ImageElement(() -> loadJarImage(jarFile, entryName), size.getValue()[0], size.getValue()[1], jarFile.getName(), entryName));
+		}
+		return elements;
 	}
 
-	protected void searchDirectory(File directory, final IProgressMonitor monitor) {
-		File manifest = new File(directory, "META-INF/MANIFEST.MF"); //$NON-NLS-1$
-		if (manifest.exists()) {
+	private ImageData loadJarImage(File jarFile, String entryName) {
+		synchronized (mJarLock) {
+			if (!mKeepJarOpen) {
+				try (ZipFile zipFile = new ZipFile(jarFile)) {
+					return loadJarImage(zipFile, entryName);
+				} catch (IOException e) {
+					// the archive changed since it was searched
+					return null;
+				}
+			}
 			try {
-				Optional<String> name = getPluginName(new FileInputStream(manifest));
-				if (!name.isPresent()) {
-					return;
+				if (!jarFile.equals(mOpenJar)) {
+					closeJar();
+					mOpenZipFile = new ZipFile(jarFile);
+					mOpenJar = jarFile;
 				}
-				String pluginName = name.get();
-				int directoryPathLength = directory.getAbsolutePath().length();
-
-				Collection<File> locations = new HashSet<>();
-				locations.add(directory);
-				do {
-					File next = locations.iterator().next();
-					locations.remove(next);
-
-					for (File resource : next.listFiles()) {
-						if (monitor.isCanceled())
-							return;
-
-						if (resource.isDirectory()) {
-							locations.add(resource);
-
-						} else {
-							try {
-								if (isImage(resource)) {
-									addImageElement(new ImageElement(createImageData((IFile) resource), pluginName, resource.getAbsolutePath().substring(directoryPathLength)));
-								}
-
-							} catch (Exception e) {
-								// could not create image for location
-							}
+				return loadJarImage(mOpenZipFile, entryName);
+			} catch (IOException e) {
+				// the archive changed since it was searched
+				closeJar();
+				return null;
+			}
+		}
+	}
+
+	private static ImageData loadJarImage(ZipFile zipFile, String entryName) throws IOException {
+		ZipEntry entry = zipFile.getEntry(entryName);
+		if (entry == null)
+			return null;
+		try (InputStream inputStream = zipFile.getInputStream(entry)) {
+			return new ImageData(inputStream);
+		} catch (SWTException e) {
+			// the archive changed since it was searched
+			return null;
+		}
+	}
+
+	private void closeJar() {
+		if (mOpenZipFile != null) {
+			try {
+				mOpenZipFile.close();
+			} catch (IOException e) {
+				// nothing left to release
+			}
+		}
+		mOpenZipFile = null;
+		mOpenJar = null;
+	}
+
+	protected void searchDirectory(File directory, final IProgressMonitor monitor) {
+		for (ImageElement element : collectDirectoryImages(directory, monitor))
+			addImageElement(element);
+	}
+
+	/**
+	 * Collects the images of a plug-in directory, decoding only the image
+	 * files that changed since they were last found.
+	 *
+	 * @return the images of the plug-in, empty if the directory is not a
+	 *         plug-in or the search was canceled
+	 */
+	protected List<ImageElement> collectDirectoryImages(File directory, final IProgressMonitor monitor) {
+		File manifest = new File(directory, "META-INF/MANIFEST.MF"); //$NON-NLS-1$
+		if (!manifest.exists())
+			return Collections.emptyList();
+		List<ImageElement> elements = new ArrayList<>();
+		try {
+			Optional<String> name = getPluginName(new FileInputStream(manifest));
+			if (!name.isPresent()) {
+				return Collections.emptyList();
+			}
+			String pluginName = name.get();
+			int directoryPathLength = directory.getAbsolutePath().length();
+
+			Collection<File> locations = new HashSet<>();
+			locations.add(directory);
+			do {
+				File next = locations.iterator().next();
+				locations.remove(next);
+
+				for (File resource : next.listFiles()) {
+					if (monitor.isCanceled())
+						return Collections.emptyList();
+
+					if (resource.isDirectory()) {
+						locations.add(resource);
+
+					} else if (isImage(resource)) {
+						int[] size = getImageSize(resource.getAbsolutePath(), resource.lastModified(), () -> new FileInputStream(resource));
+						if (size != null) {
+							elements.add(new ImageElement(() -> loadImage(() -> new FileInputStream(resource)), size[0], size[1], pluginName, resource.getAbsolutePath().substring(directoryPathLength)));
 						}
 					}
+				}
 
-				} while ((!locations.isEmpty()) && (!monitor.isCanceled()));
-			} catch (IOException e) {
-				// could not read manifest
-				PDEPlugin.log(e);
+			} while ((!locations.isEmpty()) && (!monitor.isCanceled()));
+		} catch (IOException e) {
+			// could not read manifest
+			PDEPlugin.log(e);
+		}
+		return elements;
+	}
+
+	/**
+	 * Opens the contents of an image file.
+	 */
+	@FunctionalInterface
+	protected interface ImageSource {
+		InputStream open() throws IOException, CoreException;
+	}
+
+	/**
+	 * Returns the width and height of the image in the given file, reading
+	 * the image only if the file changed since its size was last read.
+	 *
+	 * @return the width and height of the image or <code>null</code> if it
+	 *         cannot be read
+	 */
+	protected int[] getImageSize(String location, long stamp, ImageSource source) {
+		ImageMetadataCache cache = ImageMetadataCache.getDefault();
+		Map<String, int[]> sizes = cache.get(location, stamp);
+		if (sizes == null) {
+			int[] size;
+			try {
+				size = readImageSize(source);
+			} catch (IOException | CoreException | SWTException e) {
+				size = null;
 			}
+			// images that cannot be read are remembered as well
+			sizes = size == null ? Collections.emptyMap() : Collections.singletonMap("", size); //$NON-NLS-1$
+			cache.put(location, stamp, sizes);
+		}
+		return sizes.get(""); //$NON-NLS-1$
+	}
+
+	/**
+	 * Reads the width and height of an image. GIF and PNG images are not
+	 * decoded, their size is read from the header.
+	 *
+	 * @throws SWTException if the image has to be decoded and is invalid
+	 */
+	private static int[] readImageSize(ImageSource source) throws IOException, CoreException {
+		try (InputStream s = new BufferedInputStream(source.open())) {
+			int[] size = ImageMetadataCache.readImageSize(s);
+			if (size != null)
+				return size;
+		} catch (EOFException e) {
+			// header is truncated, left to the decoder
+		}
+		try (InputStream s = new BufferedInputStream(source.open())) {
+			ImageData imageData = new ImageData(s);
+			return new int[] {imageData.width, imageData.height};
+		}
+	}
+
+	protected static ImageData loadImage(ImageSource source) {
+		try (InputStream s = new BufferedInputStream(source.open())) {
+			return new ImageData(s);
+		} catch (IOException | CoreException | SWTException e) {
+			// could not create image for location
+			return null;
 		}
 	}
 
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.ui.views.imagebrowser.repositories;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import org.eclipse.pde.internal.ui.PDEPlugin;
+
+/**
+ * Persistent cache of the images found in an archive or a file, so that the
+ * image browser only has to decode the images it displays.
+ * <p>
+ * The images of a location are stored with their width and height and are
+ * valid as long as the time stamp of the location is unchanged. Locations are
+ * either archives, with one entry per image, or single image files, stored
+ * with one entry for the empty name. The sizes are read from the headers of
+ * GIF and PNG images, other images are decoded.
+ * </p>
+ * <p>
+ * The cache holds at most a fixed number of locations, those that were not
+ * used for the longest time are dropped first.
+ * </p>
+ */
+public class ImageMetadataCache {
+
+	private static final String CACHE_FILE = ".image_metadata"; //$NON-NLS-1$
+	private static final int FORMAT_VERSION = 1;
+
+	/** archives of a large target and the image files of a large workspace */
+	private static final int MAX_LOCATIONS = 10000;
+
+	private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+
+	/** guards against corrupt files, no archive holds this many images */
+	private static final int MAX_LENGTH = 1 << 20;
+
+	private static ImageMetadataCache fDefault;
+
+	private static class Location {
+		final long stamp;
+		final Map<String, int[]> sizes;
+
+		Location(long stamp, Map<String, int[]> sizes) {
+			this.stamp = stamp;
+			this.sizes = sizes;
+		}
+	}
+
+	private final File fFile;
+	/** locations in the order they were used, guarded by itself */
+	private final Map<String, Location> fLocations;
+	private volatile boolean fDirty;
+
+	/**
+	 * Creates a cache stored in the given file and loads the locations stored
+	 * there.
+	 *
+	 * @param file the file the cache is stored in
+	 * @param maxLocations the maximum number of locations kept
+	 */
+	public ImageMetadataCache(File file, int maxLocations) {
+		fFile = file;
+		fLocations = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Location> eldest) {
+				return size() > maxLocations;
+			}
+		};
+		load();
+	}
+
+	static synchronized ImageMetadataCache getDefault() {
+		if (fDefault == null) {
+			File file = new File(PDEPlugin.getDefault().getStateLocation().toFile(), CACHE_FILE);
+			fDefault = new ImageMetadataCache(file, MAX_LOCATIONS);
+		}
+		return fDefault;
+	}
+
+	/**
+	 * @return the width and height of the images at the given location keyed
+	 *         by entry name, in the order they were found, or <code>null</code>
+	 *         if the location has to be searched again
+	 */
+	public Map<String, int[]> get(String location, long stamp) {
+		Location cached;
+		synchronized (fLocations) {
+			cached = fLocations.get(location);
+		}
+		if (cached == null || cached.stamp != stamp || stamp == 0)
+			return null;
+		return cached.sizes;
+	}
+
+	public void put(String location, long stamp, Map<String, int[]> sizes) {
+		if (stamp == 0)
+			return;
+		Location entry = new Location(stamp, Collections.unmodifiableMap(new LinkedHashMap<>(sizes)));
+		synchronized (fLocations) {
+			fLocations.put(location, entry);
+		}
+		fDirty = true;
+	}
+
+	/**
+	 * Reads the width and height of a GIF or PNG image from its header,
+	 * without decoding the image. The size of a GIF image is the size of its
+	 * first frame, as for a decoded image.
+	 *
+	 * @param in the contents of the image, read up to the size only
+	 * @return the width and height of the image or <code>null</code> if it is
+	 *         neither a GIF nor a PNG image
+	 * @throws IOException if the image cannot be read
+	 */
+	public static int[] readImageSize(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(in);
+		byte[] signature = new byte[6];
+		data.readFully(signature);
+		if (signature[0] == 'G' && signature[1] == 'I' && signature[2] == 'F') {
+			return readGifSize(data);
+		}
+		byte[] pngSignature = Arrays.copyOf(signature, PNG_SIGNATURE.length);
+		data.readFully(pngSignature, signature.length, PNG_SIGNATURE.length - signature.length);
+		if (!Arrays.equals(pngSignature, PNG_SIGNATURE))
+			return null;
+		// the IHDR chunk comes first and starts with the size
+		data.readInt();
+		if (data.readInt() != 0x49484452)
+			return null;
+		return new int[] {data.readInt(), data.readInt()};
+	}
+
+	private static int[] readGifSize(DataInputStream data) throws IOException {
+		// logical screen size, then flags telling whether a global color table follows
+		skip(data, 4);
+		int flags = data.readUnsignedByte();
+		skip(data, 2);
+		if ((flags & 0x80) != 0)
+			skip(data, 3L << ((flags & 0x07) + 1));
+		while (true) {
+			int block = data.readUnsignedByte();
+			if (block == 0x2c) {
+				// image descriptor: left and top, then width and height
+				skip(data, 4);
+				return new int[] {readUnsignedShortLE(data), readUnsignedShortLE(data)};
+			} else if (block == 0x21) {
+				// extension: label and data sub-blocks
+				data.readUnsignedByte();
+				int length;
+				while ((length = data.readUnsignedByte()) > 0)
+					skip(data, length);
+			} else {
+				return null;
+			}
+		}
+	}
+
+	private static void skip(DataInputStream data, long count) throws IOException {
+		for (long i = 0; i < count; i++)
+			data.readUnsignedByte();
+	}
+
+	private static int readUnsignedShortLE(DataInputStream data) throws IOException {
+		int low = data.readUnsignedByte();
+		return low | (data.readUnsignedByte() << 8);
+	}
+
+	private void load() {
+		File file = fFile;
+		if (!file.isFile())
+			return;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION)
+				return;
+			int locations = readLength(in);
+			for (int i = 0; i < locations; i++) {
+				String location = readString(in);
+				long stamp = in.readLong();
+				int entries = readLength(in);
+				Map<String, int[]> sizes = new LinkedHashMap<>();
+				for (int j = 0; j < entries; j++) {
+					String name = readString(in);
+					sizes.put(name, new int[] {in.readInt(), in.readInt()});
+				}
+				// stored from the least to the most recently used
+				fLocations.put(location, new Location(stamp, Collections.unmodifiableMap(sizes)));
+			}
+		} catch (IOException e) {
+			// corrupt cache, the images are searched again
+			fLocations.clear();
+		}
+	}
+
+	/**
+	 * Writes the cache if locations were added since it was last written.
+	 * Locations that no longer exist are not checked for, they are dropped
+	 * once they were not used for long enough.
+	 */
+	public synchronized void save() {
+		if (!fDirty)
+			return;
+		fDirty = false;
+		File file = fFile;
+		File dir = file.getParentFile();
+		if (!dir.exists() && !dir.mkdirs())
+			return;
+		try {
+			File tmpFile = File.createTempFile(CACHE_FILE, ".tmp", dir); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+				Map<String, Location> locations;
+				synchronized (fLocations) {
+					locations = new LinkedHashMap<>(fLocations);
+				}
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(locations.size());
+				for (Map.Entry<String, Location> location : locations.entrySet()) {
+					writeString(out, location.getKey());
+					out.writeLong(location.getValue().stamp);
+					Map<String, int[]> sizes = location.getValue().sizes;
+					out.writeInt(sizes.size());
+					for (Map.Entry<String, int[]> size : sizes.entrySet()) {
+						writeString(out, size.getKey());
+						out.writeInt(size.getValue()[0]);
+						out.writeInt(size.getValue()[1]);
+					}
+				}
+			}
+			Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			// the cache is an optimization only
+		}
+	}
+
+	private static int readLength(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > MAX_LENGTH)
+			throw new IOException("Invalid length " + length); //$NON-NLS-1$
+		return length;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[readLength(in)];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -18,18 +18,25 @@ package org.eclipse.pde.internal.ui.views.imagebrowser.repositories;
 import java.io.File;
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.*;
 import org.eclipse.core.runtime.*;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.target.*;
 import org.eclipse.pde.internal.ui.PDEPlugin;
 import org.eclipse.pde.internal.ui.PDEUIMessages;
 import org.eclipse.pde.internal.ui.views.imagebrowser.IImageTarget;
+import org.eclipse.pde.internal.ui.views.imagebrowser.ImageElement;
 import org.eclipse.ui.PlatformUI;
 
 public class TargetPlatformRepository extends AbstractRepository {
 
+	/** bundles searched at the same time, the search mostly waits for reading archives */
+	private static final int SCAN_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
 	private List<TargetBundle> fBundles = null;
 	private boolean fUseCurrent;
+	/** searches the bundles while the job runs */
+	private ExecutorService fExecutor;
 
 	/**
 	 * Creates a new target platform repository.  If useCurrent is <code>true</code>
@@ -51,14 +58,34 @@ public class TargetPlatformRepository extends AbstractRepository {
 			initialize(monitor);
 
 		if ((fBundles != null) && (!fBundles.isEmpty())) {
-			TargetBundle bundle = fBundles.remove(fBundles.size() - 1);
-			URI location = bundle.getBundleInfo().getLocation();
-			File file = new File(location);
-			if (isJar(file)) {
-				searchJarFile(file, monitor);
-
-			} else if (file.isDirectory()) {
-				searchDirectory(file, monitor);
+			// search a batch of bundles in parallel, the images are added in bundle order
+			List<Future<List<ImageElement>>> images = new ArrayList<>();
+			while (!fBundles.isEmpty() && images.size() < SCAN_THREADS) {
+				TargetBundle bundle = fBundles.remove(fBundles.size() - 1);
+				URI location = bundle.getBundleInfo().getLocation();
+				if (location != null) {
+					File file = new File(location);
+					images.add(fExecutor.submit(() -> {
+						if (isJar(file)) {
+							return collectJarImages(file, monitor);
+						} else if (file.isDirectory()) {
+							return collectDirectoryImages(file, monitor);
+						}
+						return Collections.<ImageElement> emptyList();
+					}));
+				}
+			}
+			for (Future<List<ImageElement>> elements : images) {
+				try {
+					for (ImageElement element : elements.get())
+						addImageElement(element);
+				} catch (ExecutionException e) {
+					PDEPlugin.log(e.getCause());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					images.forEach(future -> future.cancel(true));
+					return false;
+				}
 			}
 
 			return true;
@@ -106,7 +133,17 @@ public class TargetPlatformRepository extends AbstractRepository {
 
 	@Override
 	protected synchronized IStatus run(IProgressMonitor monitor) {
-		super.run(monitor);
+		fExecutor = Executors.newFixedThreadPool(SCAN_THREADS, runnable -> {
+			Thread thread = new Thread(runnable, getName());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			super.run(monitor);
+		} finally {
+			fExecutor.shutdownNow();
+			fExecutor = null;
+		}
 		if (fBundles != null) {
 			fBundles.clear();
 			fBundles = null;
@@ -66,7 +66,11 @@ public class WorkspaceRepository extends AbstractRepository {
 								if (isImageName(proxy.getName())) {
 									try {
 										IFile resource = (IFile) proxy.requestResource();
-										addImageElement(new ImageElement(createImageData(resource), pluginName, resource.getProjectRelativePath().toPortableString()));
+										IPath location = resource.getLocation();
+										String key = location != null ? location.toOSString() : resource.getFullPath().toString();
+										int[] size = getImageSize(key, resource.getLocalTimeStamp(), resource::getContents);
+										if (size != null)
+											addImageElement(new ImageElement(() -> loadImage(resource::getContents), size[0], size[1], pluginName, resource.getProjectRelativePath().toPortableString()));
 									} catch (Exception e) {
 										// could not create image for location
 									}
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ui.views.plugins;
 
+import java.util.*;
 import org.eclipse.core.resources.IStorage;
 import org.eclipse.jdt.core.*;
 import org.eclipse.jdt.ui.JavaUI;
@@ -35,6 +36,11 @@ public class PluginsLabelProvider extends LabelProvider {
 
 	private Image folderImage;
 
+	// texts of the plug-ins, computed once until the plug-in changes. The
+	// images are not cached, their overlays depend on the load and sync state
+	// of the plug-in, which changes without a plug-in model delta
+	private final Map<IPluginModelBase, String> fTexts = new HashMap<>();
+
 	/**
 	 * Constructor for PluginsLabelProvider.
 	 */
@@ -48,14 +54,33 @@ public class PluginsLabelProvider extends LabelProvider {
 
 	@Override
 	public void dispose() {
+		clearCache();
 		sharedProvider.disconnect(this);
 		super.dispose();
 	}
 
+	/**
+	 * Forgets the labels of all plug-ins, for example when the way plug-ins
+	 * are presented changes.
+	 */
+	public void clearCache() {
+		fTexts.clear();
+	}
+
+	/**
+	 * Forgets the labels of the given plug-ins, which have changed or were
+	 * removed.
+	 */
+	public void clearCache(Collection<?> models) {
+		for (Object model : models) {
+			fTexts.remove(model);
+		}
+	}
+
 	@Override
 	public String getText(Object obj) {
 		if (obj instanceof IPluginModelBase) {
-			return getText((IPluginModelBase) obj);
+			return fTexts.computeIfAbsent((IPluginModelBase) obj, this::getText);
 		}
 
 		if (obj instanceof FileAdapter) {
@@ -66,6 +66,7 @@ public class PluginsView extends ViewPart implements IPluginModelListener {
 	private static final String HIDE_EXENABLED = "hideEnabledExternal"; //$NON-NLS-1$
 	private static final String SHOW_EXDISABLED = "showDisabledExternal"; //$NON-NLS-1$
 	private TreeViewer fTreeViewer;
+	private PluginsLabelProvider fLabelProvider;
 	private DrillDownAdapter fDrillDownAdapter;
 	private IPropertyChangeListener fPropertyListener;
 	private Action fOpenAction;
@@ -155,6 +156,7 @@ public class PluginsView extends ViewPart implements IPluginModelListener {
 		fPropertyListener = event -> {
 			String property = event.getProperty();
 			if (property.equals(IPreferenceConstants.PROP_SHOW_OBJECTS)) {
+				fLabelProvider.clearCache();
 				fTreeViewer.refresh();
 			}
 		};
@@ -178,7 +180,7 @@ public class PluginsView extends ViewPart implements IPluginModelListener {
 		fTreeViewer.setUseHashlookup(true);
 		fDrillDownAdapter = new DrillDownAdapter(fTreeViewer);
 		fTreeViewer.setContentProvider(new PluginsContentProvider(this));
-		fTreeViewer.setLabelProvider(new PluginsLabelProvider());
+		fTreeViewer.setLabelProvider(fLabelProvider = new PluginsLabelProvider());
 		// need custom comparator so that way PendingUpdateAdapter is at the top.  Using regular PluginComparator the PendingUpdateAdapter
 		// will be sorted to the bottom.  When it is removed after the table is initialized, the focus will go to the last item in the table (bug 216339)
 		fTreeViewer.setComparator(new ListUtil.PluginComparator() {
@@ -830,10 +832,12 @@ public class PluginsView extends ViewPart implements IPluginModelListener {
 			int kind = delta.getKind();
 			if (fTreeViewer.getTree().isDisposed())
 				return;
-			if ((kind & PluginModelDelta.CHANGED) != 0 || (kind & PluginModelDelta.REMOVED) != 0) {
-				// Don't know exactly what change -
-				// the safest way out is to refresh
+			if (fTreeViewer.getInput() != fRoot || !PDECore.getDefault().getModelManager().isInitialized()) {
+				// drilled down into a plug-in or still loading
+				fLabelProvider.clearCache();
 				fTreeViewer.refresh();
+			} else if ((kind & PluginModelDelta.CHANGED) != 0 || (kind & PluginModelDelta.REMOVED) != 0) {
+				updateModels(delta);
 			} else if ((kind & PluginModelDelta.ADDED) != 0) {
 				ModelEntry[] added = delta.getAddedEntries();
 				for (ModelEntry element : added) {
@@ -848,6 +852,59 @@ public class PluginsView extends ViewPart implements IPluginModelListener {
 		});
 	}
 
+	/**
+	 * Applies a delta to the plug-ins shown, updating only the plug-ins of the
+	 * changed entries instead of refreshing and sorting the whole tree.
+	 */
+	private void updateModels(PluginModelDelta delta) {
+		Set<IPluginModelBase> current = Collections.newSetFromMap(new IdentityHashMap<>());
+		current.addAll(Arrays.asList(PDECore.getDefault().getModelManager().getAllModels()));
+		Set<Object> shown = Collections.newSetFromMap(new IdentityHashMap<>());
+		List<Object> removed = new ArrayList<>();
+		for (TreeItem item : fTreeViewer.getTree().getItems()) {
+			Object data = item.getData();
+			if (current.contains(data))
+				shown.add(data);
+			else if (data instanceof IPluginModelBase)
+				removed.add(data);
+		}
+
+		List<IPluginModelBase> added = new ArrayList<>();
+		List<IPluginModelBase> changed = new ArrayList<>();
+		for (ModelEntry[] entries : new ModelEntry[][] {delta.getChangedEntries(), delta.getAddedEntries()}) {
+			for (ModelEntry entry : entries) {
+				for (IPluginModelBase model : getModels(entry)) {
+					if (!current.contains(model))
+						continue;
+					boolean visible = isVisible(model);
+					if (!shown.contains(model)) {
+						if (visible)
+							added.add(model);
+					} else if (!visible) {
+						removed.add(model);
+					} else {
+						changed.add(model);
+					}
+				}
+			}
+		}
+
+		fLabelProvider.clearCache(removed);
+		fTreeViewer.remove(removed.toArray());
+		for (IPluginModelBase model : changed) {
+			String oldText = fLabelProvider.getText(model);
+			fLabelProvider.clearCache(Collections.singleton(model));
+			if (oldText.equals(fLabelProvider.getText(model))) {
+				fTreeViewer.refresh(model, true);
+			} else {
+				// move the plug-in to its new position
+				fTreeViewer.remove(model);
+				added.add(model);
+			}
+		}
+		fTreeViewer.add(fRoot, added.toArray());
+	}
+
 	private IPluginModelBase[] getModels(ModelEntry entry) {
 		return (entry.hasWorkspaceModels()) ? entry.getWorkspaceModels() : entry.getExternalModels();
 	}
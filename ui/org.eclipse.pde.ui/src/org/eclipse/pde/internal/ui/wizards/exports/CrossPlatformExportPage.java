@@ -25,6 +25,7 @@ import org.eclipse.pde.internal.ui.IHelpContextIds;
 import org.eclipse.pde.internal.ui.PDEUIMessages;
 import org.eclipse.pde.internal.ui.parts.WizardCheckboxTablePart;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.*;
 import org.eclipse.ui.PlatformUI;
@@ -32,6 +33,7 @@ import org.eclipse.ui.PlatformUI;
 public class CrossPlatformExportPage extends AbstractExportWizardPage {
 
 	private static String CROSS_PLATFORM = "cross-platform"; //$NON-NLS-1$
+	private static String PARALLEL = "parallel-configurations"; //$NON-NLS-1$
 
 	class Configuration {
 		String os;
@@ -91,6 +93,7 @@ public class CrossPlatformExportPage extends AbstractExportWizardPage {
 	}
 
 	private PlatformPart fPlatformPart;
+	private Button fParallelButton;
 	private IFeatureModel fModel;
 
 	public CrossPlatformExportPage(String pageName, IFeatureModel model) {
@@ -112,6 +115,12 @@ public class CrossPlatformExportPage extends AbstractExportWizardPage {
 		viewer.setLabelProvider(new LabelProvider());
 		fPlatformPart.getTableViewer().setInput(PDECore.getDefault().getFeatureModelManager());
 
+		fParallelButton = new Button(container, SWT.CHECK);
+		fParallelButton.setText(PDEUIMessages.CrossPlatformExportPage_parallel);
+		GridData gd = new GridData();
+		gd.horizontalSpan = 2;
+		fParallelButton.setLayoutData(gd);
+
 		initialize();
 		setControl(container);
 
@@ -119,6 +128,7 @@ public class CrossPlatformExportPage extends AbstractExportWizardPage {
 	}
 
 	private void initialize() {
+		fParallelButton.setSelection(getDialogSettings().getBoolean(PARALLEL));
 		String value = getDialogSettings().get(CROSS_PLATFORM);
 		if (value != null) {
 			HashSet<String> set = new HashSet<>();
@@ -163,6 +173,7 @@ public class CrossPlatformExportPage extends AbstractExportWizardPage {
 			buffer.append(object.toString());
 		}
 		settings.put(CROSS_PLATFORM, buffer.toString());
+		settings.put(PARALLEL, fParallelButton.getSelection());
 	}
 
 	private Configuration[] getListElements() {
@@ -206,6 +217,14 @@ public class CrossPlatformExportPage extends AbstractExportWizardPage {
 		setPageComplete(fPlatformPart.getSelectionCount() > 0);
 	}
 
+	/**
+	 * @return whether the selected platforms are assembled and packaged
+	 *         concurrently instead of one after the other
+	 */
+	public boolean doParallelConfigurations() {
+		return fParallelButton != null && fParallelButton.getSelection();
+	}
+
 	public String[][] getTargets() {
 		Object[] objects = fPlatformPart.getSelection();
 		String[][] targets = new String[objects.length][4];
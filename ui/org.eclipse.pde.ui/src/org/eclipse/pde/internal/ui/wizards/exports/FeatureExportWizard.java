@@ -78,6 +78,7 @@ public class FeatureExportWizard extends AntGeneratingExportWizard {
 		info.zipFileName = fPage.getFileName();
 		if (fPage2 != null && ((FeatureExportWizardPage) fPage).doMultiPlatform())
 			info.targets = fPage2.getTargets();
+		info.parallelConfigurations = info.targets != null && info.targets.length > 1 && fPage2.doParallelConfigurations();
 		info.exportMetadata = ((FeatureExportWizardPage) fPage).doExportMetadata();
 		info.items = fPage.getSelectedItems();
 		info.signingInfo = fPage.getSigningInfo();
@@ -82,6 +82,7 @@ public class ProductExportWizard extends BaseExportWizard {
 		info.zipFileName = fPage.getFileName();
 		if (fPage2 != null && fPage.doMultiPlatform())
 			info.targets = fPage2.getTargets();
+		info.parallelConfigurations = info.targets != null && info.targets.length > 1 && fPage2.doParallelConfigurations();
 		if (fProductModel.getProduct().useFeatures())
 			info.items = getFeatureModels();
 		else